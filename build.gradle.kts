@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("maven-publish")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 // Project properties:
@@ -25,6 +26,9 @@ dependencies {
     testCompileOnly("org.projectlombok:lombok:1.18.34")
     testAnnotationProcessor("org.projectlombok:lombok:1.18.34")
 
+    // Code generation
+    annotationProcessor(project(":processor"))
+
     // JSpecify
     implementation("org.jspecify:jspecify:1.0.0")
 
@@ -44,6 +48,11 @@ dependencies {
 
     // Commons
     implementation("org.apache.commons:commons-lang3:3.17.0")
+
+    // Testing
+    testImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 // Tasks:
@@ -51,6 +60,10 @@ tasks.compileJava {
     options.encoding = "UTF-8"
 }
 
+tasks.test {
+    useJUnitPlatform()
+}
+
 tasks.javadoc {
     options.encoding = "UTF-8"
     (options as StandardJavadocDocletOptions).addStringOption("Xdoclint:none", "-quiet")
@@ -67,6 +80,14 @@ tasks.register<Jar>("javadocJar") {
     from(tasks.javadoc)
 }
 
+// Benchmarks:
+// Sources are in src/jmh/java; run with ./gradlew jmh, optionally filtering with -PjmhIncludes=<regex>
+jmh {
+    jmhVersion.set("1.37")
+    includes.set(listOfNotNull(project.findProperty("jmhIncludes")?.toString()))
+    profilers.set(listOf("gc")) // Reports allocation rates alongside timings
+}
+
 // Publishing:
 publishing {
     publications {
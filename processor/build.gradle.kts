@@ -0,0 +1,13 @@
+plugins {
+    id("java")
+}
+
+// Toolchains:
+java {
+    toolchain.languageVersion.set(JavaLanguageVersion.of(17))
+}
+
+// Tasks:
+tasks.compileJava {
+    options.encoding = "UTF-8"
+}
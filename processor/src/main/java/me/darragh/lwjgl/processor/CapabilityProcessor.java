@@ -0,0 +1,229 @@
+package me.darragh.lwjgl.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a straight-line copier for fields annotated with {@code me.darragh.lwjgl.opengl.Capability}.
+ * <p>
+ * For each class declaring capabilities, a package-private {@code <Class>Copier} is generated with a single
+ * {@code copy(GLCapabilities source, <Class> target)} method, which assigns every capability from the matching
+ * {@code GLCapabilities} field. Capabilities not provided by {@code GLCapabilities} are resolved at compile time
+ * and left untouched, so no reflection is required at runtime.
+ * <p>
+ * The capabilities of {@code org.lwjgl.opengl.ContextCapabilities} also generate the {@code me.darragh.lwjgl.opengl.Extension}
+ * enum, with one constant per capability in declaration order, and a second {@code copy(GLCapabilities source, long[] bits)}
+ * method on its copier, which sets the bit at each constant's ordinal for use by bitset-backed capability views.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+@SupportedAnnotationTypes(CapabilityProcessor.CAPABILITY_TYPE)
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+public class CapabilityProcessor extends AbstractProcessor {
+    static final String CAPABILITY_TYPE = "me.darragh.lwjgl.opengl.Capability";
+    private static final String SOURCE_TYPE = "org.lwjgl.opengl.GLCapabilities";
+    private static final String EXTENSION_OWNER_TYPE = "org.lwjgl.opengl.ContextCapabilities";
+    private static final String EXTENSION_PACKAGE = "me.darragh.lwjgl.opengl";
+    private static final String EXTENSION_NAME = "Extension";
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            Map<TypeElement, List<VariableElement>> capabilities = new LinkedHashMap<>();
+            for (VariableElement field : ElementFilter.fieldsIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                capabilities.computeIfAbsent((TypeElement) field.getEnclosingElement(), owner -> new ArrayList<>()).add(field);
+            }
+
+            Set<String> provided = this.getProvidedCapabilities();
+            if (provided == null) {
+                return false;
+            }
+
+            for (Map.Entry<TypeElement, List<VariableElement>> entry : capabilities.entrySet()) {
+                TypeElement owner = entry.getKey();
+                List<String> extensions = owner.getQualifiedName().contentEquals(EXTENSION_OWNER_TYPE) ? new ArrayList<>() : null;
+                this.generateCopier(annotation, owner, entry.getValue(), provided, extensions);
+                if (extensions != null) {
+                    this.generateExtension(owner, extensions);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the public boolean fields of {@code GLCapabilities}.
+     *
+     * @return The provided capability names, or null if {@code GLCapabilities} is not on the classpath.
+     */
+    private Set<String> getProvidedCapabilities() {
+        TypeElement source = this.processingEnv.getElementUtils().getTypeElement(SOURCE_TYPE);
+        if (source == null) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, SOURCE_TYPE + " is not on the classpath.");
+            return null;
+        }
+
+        Set<String> provided = new HashSet<>();
+        for (VariableElement field : ElementFilter.fieldsIn(source.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.PUBLIC) && field.asType().getKind() == TypeKind.BOOLEAN) {
+                provided.add(field.getSimpleName().toString());
+            }
+        }
+        return provided;
+    }
+
+    /**
+     * Writes the copier source file for a class declaring capabilities.
+     *
+     * @param extensions If not null, receives the capability names in declaration order, and a bitset copy method is written.
+     */
+    private void generateCopier(TypeElement annotation, TypeElement owner, List<VariableElement> fields, Set<String> provided,
+                                List<String> extensions) {
+        String packageName = ((PackageElement) owner.getEnclosingElement()).getQualifiedName().toString();
+        String ownerName = owner.getSimpleName().toString();
+        String copierName = ownerName + "Copier";
+
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(packageName + "." + copierName, owner).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("/**");
+            out.println(" * Copies capabilities from {@link " + SOURCE_TYPE + "} into {@link " + ownerName + "}.");
+            out.println(" * <p>");
+            out.println(" * Generated by {@code " + CapabilityProcessor.class.getName() + "}. Do not edit.");
+            out.println(" */");
+            out.println("final class " + copierName + " {");
+            out.println("    private " + copierName + "() {}");
+            out.println();
+            out.println("    static void copy(" + SOURCE_TYPE + " source, " + ownerName + " target) {");
+
+            List<String> unsupported = new ArrayList<>();
+            for (VariableElement field : fields) {
+                if (!field.getModifiers().contains(Modifier.PUBLIC) || field.getModifiers().contains(Modifier.STATIC)
+                        || field.getModifiers().contains(Modifier.FINAL) || field.asType().getKind() != TypeKind.BOOLEAN) {
+                    this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Capabilities must be public, non-final, non-static boolean fields.", field);
+                    continue;
+                }
+
+                String name = this.getCapabilityName(annotation, field);
+                if (extensions != null) {
+                    if (SourceVersion.isName(name)) {
+                        extensions.add(name);
+                    } else {
+                        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Capability names must be valid identifiers.", field);
+                    }
+                }
+
+                if (provided.contains(name)) {
+                    out.println("        target." + field.getSimpleName() + " = source." + name + ";");
+                } else {
+                    unsupported.add(name);
+                }
+            }
+
+            for (String name : unsupported) {
+                out.println("        // Not provided by GLCapabilities: " + name);
+            }
+
+            out.println("    }");
+            if (extensions != null) {
+                this.generateBitsCopy(out, extensions, provided);
+            }
+            out.println("}");
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate " + copierName + ": " + e.getMessage(), owner);
+        }
+    }
+
+    /**
+     * Writes the bitset copy method, setting the bit at each extension's ordinal.
+     */
+    private void generateBitsCopy(PrintWriter out, List<String> extensions, Set<String> provided) {
+        out.println();
+        out.println("    static void copy(" + SOURCE_TYPE + " source, long[] bits) {");
+
+        List<String> unsupported = new ArrayList<>();
+        for (int ordinal = 0; ordinal < extensions.size(); ordinal++) {
+            String name = extensions.get(ordinal);
+            if (provided.contains(name)) {
+                out.println("        if (source." + name + ") bits[" + (ordinal >>> 6) + "] |= 1L << " + (ordinal & 63) + ";");
+            } else {
+                unsupported.add(name);
+            }
+        }
+
+        for (String name : unsupported) {
+            out.println("        // Not provided by GLCapabilities: " + name);
+        }
+
+        out.println("    }");
+    }
+
+    /**
+     * Writes the extension enum, with one constant per capability of the owner.
+     */
+    private void generateExtension(TypeElement owner, List<String> extensions) {
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(EXTENSION_PACKAGE + "." + EXTENSION_NAME, owner).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+            out.println("package " + EXTENSION_PACKAGE + ";");
+            out.println();
+            out.println("/**");
+            out.println(" * Identifies an OpenGL capability, mirroring the {@link Capability} fields of {@code " + owner.getSimpleName() + "}.");
+            out.println(" * <p>");
+            out.println(" * The ordinal of each constant is its bit within {@code ContextExtensions}, which is populated by the generated {@code "
+                    + owner.getSimpleName() + "Copier}.");
+            out.println(" * <p>");
+            out.println(" * Generated by {@code " + CapabilityProcessor.class.getName() + "}. Do not edit.");
+            out.println(" */");
+            out.println("public enum " + EXTENSION_NAME + " {");
+            for (int i = 0; i < extensions.size(); i++) {
+                out.println("    " + extensions.get(i) + (i + 1 < extensions.size() ? "," : ""));
+            }
+            out.println("}");
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate " + EXTENSION_NAME + ": " + e.getMessage(), owner);
+        }
+    }
+
+    /**
+     * Reads the {@code name} value of the capability annotation on a field.
+     */
+    private String getCapabilityName(TypeElement annotation, Element field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().asElement().equals(annotation)) {
+                continue;
+            }
+
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : mirror.getElementValues().entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals("name")) {
+                    return (String) value.getValue().getValue();
+                }
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+}
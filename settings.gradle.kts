@@ -1 +1,3 @@
 rootProject.name = "lwjgl3-wrapper"
+
+include("processor") // Build-time annotation processors
@@ -0,0 +1,127 @@
+package me.darragh.lwjgl.image;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ImageResampler} against the float loop {@code gluScaleImage} used for unsigned byte images before it.
+ * <p>
+ * Each operation halves a 4K RGBA image, i.e. one mip level step. The resampler splits images of this size across the common
+ * {@link java.util.concurrent.ForkJoinPool}, so run it with {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism=1} to
+ * compare the per-core cost alone. The GC profiler enabled by the build reports the float arrays the old loop allocated per call.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageResamplerBenchmark {
+    private static final int COMPONENTS = 4;
+
+    @Param({"3840x2160", "4096x4096"})
+    public String size;
+
+    private int widthIn, heightIn, widthOut, heightOut;
+    private ByteBuffer dataIn, dataOut;
+
+    @Setup
+    public void setup() {
+        String[] dimensions = this.size.split("x");
+        this.widthIn = Integer.parseInt(dimensions[0]);
+        this.heightIn = Integer.parseInt(dimensions[1]);
+        this.widthOut = this.widthIn / 2;
+        this.heightOut = this.heightIn / 2;
+
+        byte[] pixels = new byte[this.widthIn * this.heightIn * COMPONENTS];
+        new Random(42L).nextBytes(pixels);
+        this.dataIn = ByteBuffer.allocateDirect(pixels.length).put(0, pixels);
+        this.dataOut = ByteBuffer.allocateDirect(this.widthOut * this.heightOut * COMPONENTS);
+    }
+
+    @Benchmark
+    public ByteBuffer resampler() {
+        ImageResampler.scale(COMPONENTS,
+                this.widthIn, this.heightIn, this.dataIn, 0, this.widthIn * COMPONENTS,
+                this.widthOut, this.heightOut, this.dataOut, 0, this.widthOut * COMPONENTS);
+        return this.dataOut;
+    }
+
+    @Benchmark
+    public ByteBuffer legacyFloatLoop() {
+        legacyScale(COMPONENTS, this.widthIn, this.heightIn, this.dataIn, this.widthOut, this.heightOut, this.dataOut);
+        return this.dataOut;
+    }
+
+    /**
+     * The unsigned byte path of the original {@code gluScaleImage}, with the default pixel-store state: every texel is converted
+     * to a float, each box is averaged in float, and the result is converted back.
+     */
+    static void legacyScale(int components, int widthIn, int heightIn, ByteBuffer dataIn,
+                            int widthOut, int heightOut, ByteBuffer dataOut) {
+        float[] tempIn = new float[widthIn * heightIn * components];
+        float[] tempOut = new float[widthOut * heightOut * components];
+
+        int k = 0;
+        for (int i = 0; i < heightIn; i++) {
+            int ubptr = i * widthIn * components;
+            for (int j = 0; j < widthIn * components; j++) {
+                tempIn[k++] = dataIn.get(ubptr++) & 0xff;
+            }
+        }
+
+        float sx = (float) widthIn / (float) widthOut;
+        float sy = (float) heightIn / (float) heightOut;
+        float[] c = new float[components];
+
+        for (int iy = 0; iy < heightOut; iy++) {
+            for (int ix = 0; ix < widthOut; ix++) {
+                int x0 = (int) (ix * sx);
+                int x1 = (int) ((ix + 1) * sx);
+                int y0 = (int) (iy * sy);
+                int y1 = (int) ((iy + 1) * sy);
+
+                int readPix = 0;
+                for (int ic = 0; ic < components; ic++) {
+                    c[ic] = 0;
+                }
+
+                for (int ix0 = x0; ix0 < x1; ix0++) {
+                    for (int iy0 = y0; iy0 < y1; iy0++) {
+                        int src = (iy0 * widthIn + ix0) * components;
+                        for (int ic = 0; ic < components; ic++) {
+                            c[ic] += tempIn[src + ic];
+                        }
+                        readPix++;
+                    }
+                }
+
+                int dst = (iy * widthOut + ix) * components;
+                if (readPix == 0) {
+                    int src = (y0 * widthIn + x0) * components;
+                    for (int ic = 0; ic < components; ic++) {
+                        tempOut[dst++] = tempIn[src + ic];
+                    }
+                } else {
+                    for (int ic = 0; ic < components; ic++) {
+                        tempOut[dst++] = c[ic] / readPix;
+                    }
+                }
+            }
+        }
+
+        k = 0;
+        for (int i = 0; i < heightOut; i++) {
+            int ubptr = i * widthOut * components;
+            for (int j = 0; j < widthOut * components; j++) {
+                dataOut.put(ubptr++, (byte) tempOut[k++]);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package me.darragh.lwjgl.image;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a complete {@link MipChain} for a 2048x2048 RGBA image with each filter, with and without sRGB conversion.
+ * <p>
+ * {@code BOX} without sRGB goes through the integer {@link ImageResampler} and is the cost of {@code gluBuild2DMipmaps} for
+ * linear formats; {@code BOX} with sRGB is its cost for sRGB internal formats. The other filters go through
+ * {@link KernelResampler}. No OpenGL context is needed, but the chain is allocated off-heap, so the LWJGL natives must load.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MipChainBenchmark {
+    private static final int SIZE = 2048;
+    private static final int COMPONENTS = 4;
+
+    @Param({"BOX", "KAISER", "LANCZOS2"})
+    public MipFilter filter;
+
+    @Param({"false", "true"})
+    public boolean srgb;
+
+    private ByteBuffer source;
+
+    @Setup
+    public void setup() {
+        byte[] pixels = new byte[SIZE * SIZE * COMPONENTS];
+        new Random(42L).nextBytes(pixels);
+        this.source = ByteBuffer.allocateDirect(pixels.length).put(0, pixels);
+    }
+
+    @Benchmark
+    public int build() {
+        MipChain chain = MipChain.build(COMPONENTS, SIZE, SIZE, this.source, this.filter, this.srgb);
+        int levels = chain.getLevels();
+        chain.free();
+        return levels;
+    }
+}
@@ -0,0 +1,76 @@
+package me.darragh.lwjgl.opengl.input;
+
+import org.lwjgl.glfw.GLFW;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.*;
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+/**
+ * Compares answering {@code isKeyDown} from an {@link InputStateSet} against querying {@link GLFW#glfwGetKey(long, int)}.
+ * <p>
+ * Each operation polls the keys a game typically checks per tick: movement, jump, sneak and sprint. Both run against a hidden
+ * window, so this must be run in a desktop session.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyStateBenchmark {
+    private static final int[] KEYS = {
+            GLFW_KEY_W, GLFW_KEY_A, GLFW_KEY_S, GLFW_KEY_D, GLFW_KEY_SPACE, GLFW_KEY_LEFT_SHIFT, GLFW_KEY_LEFT_CONTROL
+    };
+
+    private final InputStateSet states = new InputStateSet(GLFW_KEY_LAST + 1);
+    private long window;
+
+    @Setup
+    public void setup() {
+        if (!glfwInit()) {
+            throw new IllegalStateException("Unable to initialise GLFW.");
+        }
+        glfwDefaultWindowHints();
+        glfwWindowHint(GLFW_VISIBLE, GLFW_FALSE);
+        this.window = glfwCreateWindow(64, 64, "KeyStateBenchmark", NULL, NULL);
+        if (this.window == NULL) {
+            throw new IllegalStateException("Unable to create a window.");
+        }
+
+        this.states.setDown(GLFW_KEY_W, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        glfwDestroyWindow(this.window);
+        glfwTerminate();
+    }
+
+    @Benchmark
+    public int cached() {
+        int down = 0;
+        for (int key : KEYS) {
+            if (this.states.isDown(key)) {
+                down++;
+            }
+        }
+        return down;
+    }
+
+    @Benchmark
+    public int glfw() {
+        int down = 0;
+        for (int key : KEYS) {
+            if (glfwGetKey(this.window, key) == GLFW_PRESS) {
+                down++;
+            }
+        }
+        return down;
+    }
+}
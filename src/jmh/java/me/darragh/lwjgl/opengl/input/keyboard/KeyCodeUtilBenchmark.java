@@ -0,0 +1,56 @@
+package me.darragh.lwjgl.opengl.input.keyboard;
+
+import org.lwjgl.glfw.GLFW;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares translating key codes through the {@link KeyCodeUtil} lookup tables against the switch mappings they are generated
+ * from, which is how translation was done before.
+ * <p>
+ * Each operation translates a batch of random GLFW key codes to LWJGL and back, so that branch prediction cannot learn a single
+ * key. No display is needed.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(KeyCodeUtilBenchmark.BATCH_SIZE)
+public class KeyCodeUtilBenchmark {
+    static final int BATCH_SIZE = 1024;
+
+    private final int[] keyCodes = new int[BATCH_SIZE];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.keyCodes[i] = random.nextInt(GLFW.GLFW_KEY_LAST + 1);
+        }
+    }
+
+    @Benchmark
+    public int table() {
+        int sum = 0;
+        for (int keyCode : this.keyCodes) {
+            sum += KeyCodeUtil.toGlfw(KeyCodeUtil.toLwjgl(keyCode));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int switches() {
+        int sum = 0;
+        for (int keyCode : this.keyCodes) {
+            sum += KeyCodeUtil.mapToGlfw(KeyCodeUtil.mapToLwjgl(keyCode));
+        }
+        return sum;
+    }
+}
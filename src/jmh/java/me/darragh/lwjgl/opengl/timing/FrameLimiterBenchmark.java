@@ -0,0 +1,161 @@
+package me.darragh.lwjgl.opengl.timing;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the frame pacing of {@link FrameLimiter} against the sleep/yield loop of the original {@code Sync}.
+ * <p>
+ * Each operation is one empty frame, so the sampled operation times are the frame times: the p50 should sit at the target frame
+ * time, and the p99 shows the jitter. The CPU time spent by the benchmark thread is reported through {@link CpuCounters}, both
+ * per frame and as a share of the wall time.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameLimiterBenchmark {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    @Param({"60", "144", "240"})
+    public int fps;
+
+    @Param({"FRAME_LIMITER", "LEGACY_SYNC"})
+    public String limiter;
+
+    private final FrameLimiter frameLimiter = new FrameLimiter();
+    private final LegacySync legacySync = new LegacySync();
+    private boolean legacy;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.legacy = this.limiter.equals("LEGACY_SYNC");
+    }
+
+    @Benchmark
+    public void frame(CpuCounters counters) {
+        if (this.legacy) {
+            this.legacySync.sync(this.fps);
+        } else {
+            this.frameLimiter.sync(this.fps);
+        }
+        counters.frame();
+    }
+
+    /**
+     * Measures the CPU time of the benchmark thread over each iteration. Reading the thread CPU time costs about a microsecond,
+     * which is negligible next to a frame and the same for both limiters.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CpuCounters {
+        private long cpuStart, wallStart, cpu, wall, frames;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.cpuStart = THREADS.getCurrentThreadCpuTime();
+            this.wallStart = System.nanoTime();
+            this.cpu = this.wall = this.frames = 0L;
+        }
+
+        void frame() {
+            this.cpu = THREADS.getCurrentThreadCpuTime() - this.cpuStart;
+            this.wall = System.nanoTime() - this.wallStart;
+            this.frames++;
+        }
+
+        public double cpuPercent() {
+            return this.wall == 0L ? 0.0 : 100.0 * this.cpu / this.wall;
+        }
+
+        public double cpuMicrosPerFrame() {
+            return this.frames == 0L ? 0.0 : this.cpu / 1000.0 / this.frames;
+        }
+    }
+
+    /**
+     * The pacing loop of the original {@code Sync}, timed with {@link System#nanoTime()} rather than {@code Sys} so that no display
+     * is needed.
+     */
+    static final class LegacySync {
+        private static final long NANOS_IN_SECOND = 1000L * 1000L * 1000L;
+
+        private final RunningAvg sleepDurations = new RunningAvg(10);
+        private final RunningAvg yieldDurations = new RunningAvg(10);
+        private long nextFrame;
+        private boolean initialised;
+
+        void sync(int fps) {
+            if (!this.initialised) {
+                this.initialised = true;
+                this.sleepDurations.init(1000 * 1000);
+                this.yieldDurations.init((int) (-(System.nanoTime() - System.nanoTime()) * 1.333));
+                this.nextFrame = System.nanoTime();
+            }
+
+            try {
+                for (long t0 = System.nanoTime(), t1; (this.nextFrame - t0) > this.sleepDurations.avg(); t0 = t1) {
+                    Thread.sleep(1);
+                    this.sleepDurations.add((t1 = System.nanoTime()) - t0);
+                }
+
+                this.sleepDurations.dampenForLowResTicker();
+
+                for (long t0 = System.nanoTime(), t1; (this.nextFrame - t0) > this.yieldDurations.avg(); t0 = t1) {
+                    Thread.yield();
+                    this.yieldDurations.add((t1 = System.nanoTime()) - t0);
+                }
+            } catch (InterruptedException ignored) {
+            }
+
+            this.nextFrame = Math.max(this.nextFrame + NANOS_IN_SECOND / fps, System.nanoTime());
+        }
+    }
+
+    private static final class RunningAvg {
+        private static final long DAMPEN_THRESHOLD = 10 * 1000L * 1000L;
+        private static final float DAMPEN_FACTOR = 0.9f;
+
+        private final long[] slots;
+        private int offset;
+
+        RunningAvg(int slotCount) {
+            this.slots = new long[slotCount];
+        }
+
+        void init(long value) {
+            while (this.offset < this.slots.length) {
+                this.slots[this.offset++] = value;
+            }
+        }
+
+        void add(long value) {
+            this.slots[this.offset++ % this.slots.length] = value;
+            this.offset %= this.slots.length;
+        }
+
+        long avg() {
+            long sum = 0;
+            for (long slot : this.slots) {
+                sum += slot;
+            }
+            return sum / this.slots.length;
+        }
+
+        void dampenForLowResTicker() {
+            if (this.avg() > DAMPEN_THRESHOLD) {
+                for (int i = 0; i < this.slots.length; i++) {
+                    this.slots[i] *= DAMPEN_FACTOR;
+                }
+            }
+        }
+    }
+}
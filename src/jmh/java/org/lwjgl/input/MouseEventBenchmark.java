@@ -0,0 +1,59 @@
+package org.lwjgl.input;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures enqueuing and draining one frame's worth of mouse events at the polling rates of 1 kHz and 8 kHz mice.
+ * <p>
+ * Each operation is a 60 fps frame: {@code pollingRate / 60} move events with a button press and release in the middle, then
+ * every event read back through {@link Mouse#next()}. The GC profiler enabled by the build reports {@code gc.alloc.rate.norm},
+ * which is expected to be zero bytes per operation at both rates.
+ * <p>
+ * {@link Mouse} reads the display height, which initialises GLFW, so this must be run in a desktop session.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MouseEventBenchmark {
+    private static final int FRAME_RATE = 60;
+
+    @Param({"1000", "8000"})
+    public int pollingRate;
+
+    private int eventsPerFrame;
+    private double x, y;
+
+    @Setup
+    public void setup() {
+        this.eventsPerFrame = this.pollingRate / FRAME_RATE;
+    }
+
+    @Benchmark
+    public int frame() {
+        for (int i = 0; i < this.eventsPerFrame; i++) {
+            this.x = (this.x + 1.0) % 800.0;
+            this.y = (this.y + 0.5) % 600.0;
+            Mouse.addMoveEvent(this.x, this.y);
+
+            if (i == this.eventsPerFrame / 2) {
+                Mouse.addButtonEvent(0, true);
+                Mouse.addButtonEvent(0, false);
+            }
+        }
+        Mouse.flushEvents();
+
+        int sum = 0;
+        while (Mouse.next()) {
+            sum += Mouse.getEventDX() + Mouse.getEventDY() + Mouse.getEventButton();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,107 @@
+package org.lwjgl.opengl;
+
+import me.darragh.lwjgl.opengl.Capability;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.system.Configuration;
+import org.openjdk.jmh.annotations.*;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold cost of populating capabilities, as paid once at startup.
+ * <p>
+ * Every benchmark runs once per fresh JVM, so class loading and reflection metadata are included:
+ * <ul>
+ *     <li>{@code getCapabilities} is the first {@link GLContext#getCapabilities()} call, including its static initialiser.</li>
+ *     <li>{@code generatedCopy} is the generated {@code ContextCapabilitiesCopier} alone.</li>
+ *     <li>{@code reflectiveCopy} is the reflective population the copier replaced.</li>
+ * </ul>
+ * A stub {@link GLCapabilities} with every capability set is made current instead of creating a context, so no display is needed.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ContextCapabilitiesBenchmark {
+    private static final Unsafe UNSAFE;
+
+    static {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            UNSAFE = (Unsafe) field.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private GLCapabilities capabilities;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        Configuration.OPENGL_EXPLICIT_INIT.set(true); // Otherwise GL loads the OpenGL library on initialisation
+
+        // Allocated without its constructor, which requires a context
+        this.capabilities = (GLCapabilities) UNSAFE.allocateInstance(GLCapabilities.class);
+        for (Field field : GLCapabilities.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+
+            field.setAccessible(true); // The fields are final
+            if (field.getType() == boolean.class) {
+                field.setBoolean(this.capabilities, true);
+            } else if (field.getType() == PointerBuffer.class) { // The function addresses, read when made current
+                field.set(this.capabilities, PointerBuffer.allocateDirect(1));
+            }
+        }
+        GL.setCapabilities(this.capabilities);
+    }
+
+    @TearDown
+    public void tearDown() {
+        GL.setCapabilities(null);
+    }
+
+    @Benchmark
+    public ContextCapabilities getCapabilities() {
+        return GLContext.getCapabilities();
+    }
+
+    @Benchmark
+    public ContextCapabilities generatedCopy() throws InstantiationException {
+        ContextCapabilities target = (ContextCapabilities) UNSAFE.allocateInstance(ContextCapabilities.class);
+        ContextCapabilitiesCopier.copy(this.capabilities, target);
+        return target;
+    }
+
+    @Benchmark
+    public ContextCapabilities reflectiveCopy() throws ReflectiveOperationException {
+        ContextCapabilities target = (ContextCapabilities) UNSAFE.allocateInstance(ContextCapabilities.class);
+
+        Map<String, Field> fields = new HashMap<>();
+        for (Field field : ContextCapabilities.class.getFields()) {
+            if (field.isAnnotationPresent(Capability.class)) {
+                fields.put(field.getAnnotation(Capability.class).name(), field);
+            }
+        }
+
+        for (Field field : GLCapabilities.class.getFields()) {
+            Field targetField = fields.get(field.getName());
+            if (targetField != null) {
+                targetField.setBoolean(target, field.getBoolean(this.capabilities));
+            }
+        }
+        return target;
+    }
+}
@@ -1,5 +1,8 @@
 package me.darragh.lwjgl;
 
+import me.darragh.lwjgl.event.OverflowPolicy;
+import me.darragh.lwjgl.opengl.error.ErrorCheckPolicy;
+
 import static org.lwjgl.glfw.GLFW.GLFW_FALSE;
 import static org.lwjgl.glfw.GLFW.GLFW_TRUE;
 
@@ -16,6 +19,28 @@ public class Config { // TODO: Serialisation
     public static int GL_VERSION_MAJOR = 2;
     public static int GL_VERSION_MINOR = 1;
 
+    // Error checking in Display.update
+    public static ErrorCheckPolicy GL_ERROR_CHECK_POLICY = ErrorCheckPolicy.ALWAYS;
+    public static int GL_ERROR_CHECK_INTERVAL = 60; // Frames; only applies to ErrorCheckPolicy.INTERVAL
+    public static boolean GL_ERROR_CHECK_THROW = true; // Throws an IllegalStateException on error; errors are always counted by Display.getErrorMetrics
+
+    public static int GL_WORKER_THREADS = 2; // Threads in a GLWorkerPool created without an explicit count; each owns a shared context
+    public static boolean GL_FRAME_STATS = false; // Records per-phase frame timings into Display.getFrameStats
+    public static boolean GL_PIXEL_STORE_SHADOW = false; // Caches glPixelStore state for GLU and MipChain; only enable if all glPixelStorei calls go through PixelStoreTracker
+
+    // Idle mode; throttles Display.update while the window is unfocused or iconified
+    public static boolean GL_IDLE_MODE = false;
+    public static int GL_IDLE_FPS = 10; // Upper bound on frames per second while idle; events are still processed as they arrive
+
+    // Input; read once when the respective class is initialised
+    public static int INPUT_KEYBOARD_QUEUE_SIZE = 128;
+    public static OverflowPolicy INPUT_KEYBOARD_OVERFLOW_POLICY = OverflowPolicy.DROP_OLDEST;
+    public static int INPUT_MOUSE_QUEUE_SIZE = 256;
+    public static boolean INPUT_LOCK_FREE_QUEUES = false; // Use when input is produced and consumed on different threads; always drops the newest event when full
+    public static double INPUT_THREAD_WAIT_TIMEOUT = 0.01; // Seconds; upper bound on the input thread sleeping when no events arrive
+    public static boolean INPUT_CACHED_KEY_STATE = false; // Answers isKeyDown/isButtonDown from callback state rather than querying GLFW; state then lags GLFW until events are processed
+    public static boolean INPUT_MOUSE_COALESCE_MOTION = false; // Merges consecutive move events between button/scroll events; useful for high polling rate mice
+
     public static boolean AL_CUSTOM_MAX_AUX_FX = false;
     public static int AL_CUSTOM_MAX_AUX_FX_VALUE = 8;
     public static boolean AL_HRTF = true;
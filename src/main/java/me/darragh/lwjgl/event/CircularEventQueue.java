@@ -3,56 +3,74 @@ package me.darragh.lwjgl.event;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.lwjgl.LWJGLUtil;
 
 /**
  * A circular buffer working with integers for the purpose of storing and managing the current count of events across multiple arrays.
  * <p>
  * This is a <i>weird</i> solution, but is effective.
+ * <p>
+ * This implementation is synchronized and is safe for any amount of threads. See {@link SpscEventQueue} for a lock-free alternative.
  *
  * @author darraghd493
  * @since 1.0.0
  */
 @Data
 @RequiredArgsConstructor
-public class CircularEventQueue {
+public class CircularEventQueue implements EventQueue {
     @Getter
     private final int maxCapacity;
 
     @Getter
-    private int currentCount = 0;
+    private final OverflowPolicy overflowPolicy;
+
+    @Getter
+    private volatile int currentCount = 0;
 
+    // Volatile so that unsynchronized getters observe the latest positions
     @Getter
-    private int readPosition = 0,
+    private volatile int readPosition = 0,
             writePosition = 1;
 
-    private long lastDroppedMessage = 0L;
+    @Getter
+    private volatile long droppedCount = 0L;
+
+    /**
+     * Creates a queue which drops the oldest event when full.
+     *
+     * @param maxCapacity The amount of slots in the backing arrays.
+     */
+    public CircularEventQueue(int maxCapacity) {
+        this(maxCapacity, OverflowPolicy.DROP_OLDEST);
+    }
 
     /**
      * Increments the current count and updates the array write position.
+     * <p>
+     * The slot at {@link #getWritePosition()} must be populated <b>before</b> calling this method.
+     * It is always safe to write to, even when the queue is full, as it is never the slot being read.
      *
      * @since 1.0.0
      *
+     * @return Whether the event was accepted. This is only false when the queue is full and uses {@link OverflowPolicy#DROP_NEWEST}.
+     *
      * @apiNote This method is synchronized to prevent errors when multiple threads are accessing the buffer.
      */
-    public synchronized void push() {
-        this.currentCount++;
-        if (this.currentCount > this.maxCapacity) {
-            this.currentCount = this.maxCapacity;
-
-            // Display log message
-            long current = System.currentTimeMillis();
-            if (current - this.lastDroppedMessage > 1000L) {
-                this.lastDroppedMessage = current;
-                LWJGLUtil.log("Dropping extend (events) due to insufficient polling frequency.");
+    @Override
+    public synchronized boolean push() {
+        int nextWritePosition = (this.writePosition + 1) % this.maxCapacity;
+        if (nextWritePosition == this.readPosition) { // Full; the read position holds the current event
+            this.droppedCount++;
+            if (this.overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                return false;
             }
-        }
 
-        this.writePosition = (this.writePosition + 1) % this.maxCapacity;
-        if (this.writePosition == this.readPosition) {
             this.readPosition = (this.readPosition + 1) % this.maxCapacity;
             this.currentCount--;
         }
+
+        this.writePosition = nextWritePosition;
+        this.currentCount++;
+        return true;
     }
 
     /**
@@ -64,6 +82,7 @@ public class CircularEventQueue {
      *
      * @apiNote This method is synchronized to prevent errors when multiple threads are accessing the buffer.
      */
+    @Override
     public synchronized boolean next() {
         if (this.currentCount == 0) {
             return false;
@@ -79,6 +98,7 @@ public class CircularEventQueue {
      *
      * @return The last written position.
      */
+    @Override
     public int getLastWritePosition() {
         return (this.writePosition + this.maxCapacity - 1) % this.maxCapacity;
     }
@@ -88,6 +108,7 @@ public class CircularEventQueue {
      *
      * @return The last read position.
      */
+    @Override
     public int getLastReadPosition() {
         return (this.readPosition + this.maxCapacity - 1) % this.maxCapacity;
     }
@@ -0,0 +1,100 @@
+package me.darragh.lwjgl.event;
+
+import me.darragh.lwjgl.Config;
+
+/**
+ * A queue of slot positions used to index events stored across multiple arrays.
+ * <p>
+ * The slot at the read position always holds the current event, and the slot at the write position is the next to be populated.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public interface EventQueue {
+    /**
+     * Creates the queue implementation selected by {@link Config#INPUT_LOCK_FREE_QUEUES}.
+     *
+     * @param maxCapacity The amount of slots in the backing arrays.
+     * @param overflowPolicy The policy to apply when the queue is full.
+     * @return The event queue.
+     */
+    static EventQueue create(int maxCapacity, OverflowPolicy overflowPolicy) {
+        return Config.INPUT_LOCK_FREE_QUEUES
+                ? new SpscEventQueue(maxCapacity)
+                : new CircularEventQueue(maxCapacity, overflowPolicy);
+    }
+
+    /**
+     * Retrieves the amount of slots in the backing arrays.
+     *
+     * @return The amount of slots.
+     */
+    int getMaxCapacity();
+
+    /**
+     * Retrieves the policy applied when the queue is full.
+     *
+     * @return The overflow policy.
+     */
+    OverflowPolicy getOverflowPolicy();
+
+    /**
+     * Retrieves the amount of unread events.
+     *
+     * @return The amount of unread events.
+     */
+    int getCurrentCount();
+
+    /**
+     * Retrieves the slot holding the current event.
+     *
+     * @return The read position.
+     */
+    int getReadPosition();
+
+    /**
+     * Retrieves the slot to populate before the next {@link #push()}.
+     *
+     * @return The write position.
+     */
+    int getWritePosition();
+
+    /**
+     * Retrieves the amount of events dropped due to the queue being full.
+     *
+     * @return The amount of dropped events.
+     */
+    long getDroppedCount();
+
+    /**
+     * Publishes the event populated at {@link #getWritePosition()}.
+     *
+     * @return Whether the event was accepted.
+     */
+    boolean push();
+
+    /**
+     * Moves the read position onto the next event.
+     *
+     * @return Whether there is an event to read.
+     */
+    boolean next();
+
+    /**
+     * Retrieves the last written position.
+     *
+     * @return The last written position.
+     */
+    default int getLastWritePosition() {
+        return (this.getWritePosition() + this.getMaxCapacity() - 1) % this.getMaxCapacity();
+    }
+
+    /**
+     * Retrieves the last read position.
+     *
+     * @return The last read position.
+     */
+    default int getLastReadPosition() {
+        return (this.getReadPosition() + this.getMaxCapacity() - 1) % this.getMaxCapacity();
+    }
+}
@@ -0,0 +1,23 @@
+package me.darragh.lwjgl.event;
+
+/**
+ * Determines what an event queue does when an event is pushed while it is full.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public enum OverflowPolicy {
+    /**
+     * The oldest unread event is discarded to make room for the new event.
+     * <p>
+     * This favours the most recent input, and is the historical behaviour.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new event is discarded and the queue is left untouched.
+     * <p>
+     * This favours ordering, e.g. keeping the start of a typed string intact.
+     */
+    DROP_NEWEST
+}
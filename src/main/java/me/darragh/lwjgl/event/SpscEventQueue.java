@@ -0,0 +1,112 @@
+package me.darragh.lwjgl.event;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A lock-free single-producer/single-consumer variant of {@link CircularEventQueue}.
+ * <p>
+ * Only one thread may call {@link #push()} (the thread running the GLFW callbacks) and only one thread may call {@link #next()}
+ * (the thread reading events). The producer populates the write slot and publishes it with a release store of the write cursor,
+ * and the consumer observes it with an acquire load, so no locking is required to safely hand events across threads.
+ * <p>
+ * As the consumer owns the read cursor, the producer cannot discard the oldest event. This queue therefore always applies
+ * {@link OverflowPolicy#DROP_NEWEST}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class SpscEventQueue implements EventQueue {
+    private static final VarHandle CURSORS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // Cursor indices within the cursor array; spaced to sit on separate cache lines to avoid false sharing between threads
+    private static final int READ_CURSOR = 7,
+            WRITE_CURSOR = 23,
+            DROPPED_COUNTER = 39,
+            CURSORS_LENGTH = 48;
+
+    private final int maxCapacity;
+    private final long[] cursors = new long[CURSORS_LENGTH];
+
+    /**
+     * Creates a lock-free queue.
+     *
+     * @param maxCapacity The amount of slots in the backing arrays.
+     */
+    public SpscEventQueue(int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+        CURSORS.setRelease(this.cursors, READ_CURSOR, 0L);
+        CURSORS.setRelease(this.cursors, WRITE_CURSOR, 1L);
+    }
+
+    @Override
+    public int getMaxCapacity() {
+        return this.maxCapacity;
+    }
+
+    @Override
+    public OverflowPolicy getOverflowPolicy() {
+        return OverflowPolicy.DROP_NEWEST;
+    }
+
+    @Override
+    public int getCurrentCount() {
+        int read = this.getReadPosition(),
+                write = this.getWritePosition();
+        return (write - read - 1 + this.maxCapacity) % this.maxCapacity;
+    }
+
+    @Override
+    public int getReadPosition() {
+        return (int) (long) CURSORS.getAcquire(this.cursors, READ_CURSOR);
+    }
+
+    @Override
+    public int getWritePosition() {
+        return (int) (long) CURSORS.getAcquire(this.cursors, WRITE_CURSOR);
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return (long) CURSORS.getOpaque(this.cursors, DROPPED_COUNTER);
+    }
+
+    /**
+     * Publishes the event populated at {@link #getWritePosition()}.
+     *
+     * @return Whether the event was accepted. This is false when the queue is full.
+     *
+     * @apiNote Must only be called from the producing thread.
+     */
+    @Override
+    public boolean push() {
+        long write = (long) CURSORS.getOpaque(this.cursors, WRITE_CURSOR); // Owned by this thread
+        long nextWrite = (write + 1) % this.maxCapacity;
+        if (nextWrite == (long) CURSORS.getAcquire(this.cursors, READ_CURSOR)) { // Full; the read position holds the current event
+            CURSORS.setOpaque(this.cursors, DROPPED_COUNTER, (long) CURSORS.getOpaque(this.cursors, DROPPED_COUNTER) + 1L);
+            return false;
+        }
+
+        CURSORS.setRelease(this.cursors, WRITE_CURSOR, nextWrite);
+        return true;
+    }
+
+    /**
+     * Moves the read position onto the next event.
+     *
+     * @return Whether there is an event to read.
+     *
+     * @apiNote Must only be called from the consuming thread.
+     */
+    @Override
+    public boolean next() {
+        long read = (long) CURSORS.getOpaque(this.cursors, READ_CURSOR); // Owned by this thread
+        long nextRead = (read + 1) % this.maxCapacity;
+        if (nextRead == (long) CURSORS.getAcquire(this.cursors, WRITE_CURSOR)) { // Nothing unread
+            return false;
+        }
+
+        CURSORS.setRelease(this.cursors, READ_CURSOR, nextRead);
+        return true;
+    }
+}
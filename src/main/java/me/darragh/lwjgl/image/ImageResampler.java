@@ -0,0 +1,208 @@
+package me.darragh.lwjgl.image;
+
+import me.darragh.lwjgl.memory.PooledAllocator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.lwjgl.system.MemoryUtil.memAddress0;
+
+/**
+ * A box-filter resampler for 8-bit unsigned images, producing the same output as {@code gluScaleImage} for
+ * {@code GL_UNSIGNED_BYTE} input and output, bit for bit.
+ * <p>
+ * Rather than converting the whole image to floats first, each output row sums its source rows into an integer row (using
+ * bulk row reads, which the JIT can vectorise), and each output pixel then sums its columns from that row. An average is
+ * exact integer division as long as its box holds less than {@code 2^24 / 255} texels, in which case it matches the original
+ * float arithmetic exactly; larger boxes fall back to the original float accumulation order.
+ * <p>
+ * Large images are split into bands of rows across the common {@link java.util.concurrent.ForkJoinPool}. Scratch rows are
+ * kept per thread and reused. If the source and destination overlap, e.g. when resampling in place, the source is copied
+ * first, as gluScaleImage's float conversion did implicitly. No OpenGL context is required.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public final class ImageResampler {
+    /**
+     * The amount of source bytes from which resampling is split across threads.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    static final int MAX_EXACT_BOX = (1 << 24) / 255; // Texels per box whose sum a float holds exactly
+    private static final int MIN_BAND_ROWS = 8;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private ImageResampler() {
+    }
+
+    /**
+     * Resamples an image with a box filter.
+     *
+     * @param components The amount of components per pixel.
+     * @param widthIn The width of the source image, in pixels.
+     * @param heightIn The height of the source image, in pixels.
+     * @param dataIn The source image. Absolute indices are used; its position is ignored.
+     * @param offsetIn The byte offset of the first source pixel.
+     * @param strideIn The byte distance between source rows.
+     * @param widthOut The width of the resampled image, in pixels.
+     * @param heightOut The height of the resampled image, in pixels.
+     * @param dataOut The resampled image. Absolute indices are used; its position is ignored.
+     * @param offsetOut The byte offset of the first resampled pixel.
+     * @param strideOut The byte distance between resampled rows.
+     */
+    public static void scale(int components,
+                             int widthIn, int heightIn, ByteBuffer dataIn, int offsetIn, int strideIn,
+                             int widthOut, int heightOut, ByteBuffer dataOut, int offsetOut, int strideOut) {
+        int spanIn = (heightIn - 1) * strideIn + widthIn * components;
+        int spanOut = (heightOut - 1) * strideOut + widthOut * components;
+        if (overlaps(dataIn, offsetIn, spanIn, dataOut, offsetOut, spanOut)) {
+            ByteBuffer copy = PooledAllocator.allocate(spanIn);
+            try {
+                copy.put(0, dataIn, offsetIn, spanIn);
+                scale(components, widthIn, heightIn, copy, 0, strideIn, widthOut, heightOut, dataOut, offsetOut, strideOut);
+            } finally {
+                PooledAllocator.release(copy);
+            }
+            return;
+        }
+
+        // Box bounds, computed exactly as gluScaleImage does
+        float sx = (float) widthIn / (float) widthOut;
+        float sy = (float) heightIn / (float) heightOut;
+        int[] xs = new int[widthOut + 1];
+        for (int ix = 0; ix <= widthOut; ix++) {
+            xs[ix] = (int) (ix * sx);
+        }
+        int[] ys = new int[heightOut + 1];
+        for (int iy = 0; iy <= heightOut; iy++) {
+            ys[iy] = (int) (iy * sy);
+        }
+
+        Image in = new Image(components, widthIn, dataIn, offsetIn, strideIn);
+        Image out = new Image(components, widthOut, dataOut, offsetOut, strideOut);
+
+        long work = (long) widthIn * heightIn * components;
+        int bands = work < PARALLEL_THRESHOLD ? 1 : Math.min(heightOut / MIN_BAND_ROWS, Runtime.getRuntime().availableProcessors() * 4);
+        if (bands <= 1) {
+            scaleRows(in, out, xs, ys, 0, heightOut);
+            return;
+        }
+
+        IntStream.range(0, bands).parallel().forEach(band ->
+                scaleRows(in, out, xs, ys, (int) ((long) heightOut * band / bands), (int) ((long) heightOut * (band + 1) / bands)));
+    }
+
+    /**
+     * Resamples the output rows {@code [rowStart, rowEnd)}.
+     */
+    private static void scaleRows(Image in, Image out, int[] xs, int[] ys, int rowStart, int rowEnd) {
+        int components = in.components;
+        int rowLengthIn = in.width * components;
+        int rowLengthOut = out.width * components;
+
+        Scratch scratch = SCRATCH.get();
+        byte[] row = scratch.row(rowLengthIn);
+        int[] sums = scratch.sums(rowLengthIn);
+        byte[] rowOut = scratch.rowOut(rowLengthOut);
+
+        for (int iy = rowStart; iy < rowEnd; iy++) {
+            int y0 = ys[iy], y1 = ys[iy + 1];
+
+            // Sum the source rows of this output row, column by column
+            Arrays.fill(sums, 0, rowLengthIn, 0);
+            for (int y = y0; y < y1; y++) {
+                in.data.get(in.offset + y * in.stride, row, 0, rowLengthIn);
+                for (int i = 0; i < rowLengthIn; i++) {
+                    sums[i] += row[i] & 0xFF;
+                }
+            }
+
+            for (int ix = 0, dst = 0; ix < out.width; ix++, dst += components) {
+                int x0 = xs[ix], x1 = xs[ix + 1];
+                int texels = (x1 - x0) * (y1 - y0);
+
+                if (texels == 0) { // Sized up; copy the nearest source pixel
+                    int src = in.offset + y0 * in.stride + x0 * components;
+                    for (int c = 0; c < components; c++) {
+                        rowOut[dst + c] = in.data.get(src + c);
+                    }
+                } else if (texels < MAX_EXACT_BOX) {
+                    for (int c = 0; c < components; c++) {
+                        int sum = 0;
+                        for (int x = x0; x < x1; x++) {
+                            sum += sums[x * components + c];
+                        }
+                        rowOut[dst + c] = (byte) (sum / texels);
+                    }
+                } else {
+                    averageFloat(in, x0, x1, y0, y1, texels, rowOut, dst);
+                }
+            }
+
+            out.data.put(out.offset + iy * out.stride, rowOut, 0, rowLengthOut);
+        }
+    }
+
+    /**
+     * Returns whether two byte ranges share any memory.
+     */
+    private static boolean overlaps(ByteBuffer a, int offsetA, int lengthA, ByteBuffer b, int offsetB, int lengthB) {
+        long startA, startB;
+        if (a.isDirect() && b.isDirect()) {
+            startA = memAddress0(a) + offsetA;
+            startB = memAddress0(b) + offsetB;
+        } else if (a.hasArray() && b.hasArray() && a.array() == b.array()) {
+            startA = a.arrayOffset() + offsetA;
+            startB = b.arrayOffset() + offsetB;
+        } else {
+            return false;
+        }
+        return startA < startB + lengthB && startB < startA + lengthA;
+    }
+
+    /**
+     * Averages a box by accumulating floats in the same order as {@code gluScaleImage}, for boxes too large to sum exactly.
+     */
+    private static void averageFloat(Image in, int x0, int x1, int y0, int y1, int texels, byte[] rowOut, int dst) {
+        int components = in.components;
+        for (int c = 0; c < components; c++) {
+            float sum = 0.0F;
+            for (int x = x0; x < x1; x++) {
+                for (int y = y0; y < y1; y++) {
+                    sum += in.data.get(in.offset + y * in.stride + x * components + c) & 0xFF;
+                }
+            }
+            rowOut[dst + c] = (byte) (sum / texels);
+        }
+    }
+
+    /**
+     * The layout of an image within a buffer.
+     */
+    private record Image(int components, int width, ByteBuffer data, int offset, int stride) {
+    }
+
+    /**
+     * Per-thread scratch rows, grown as needed.
+     */
+    private static final class Scratch {
+        private byte[] row = new byte[0];
+        private int[] sums = new int[0];
+        private byte[] rowOut = new byte[0];
+
+        byte[] row(int length) {
+            return this.row.length >= length ? this.row : (this.row = new byte[length]);
+        }
+
+        int[] sums(int length) {
+            return this.sums.length >= length ? this.sums : (this.sums = new int[length]);
+        }
+
+        byte[] rowOut(int length) {
+            return this.rowOut.length >= length ? this.rowOut : (this.rowOut = new byte[length]);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package me.darragh.lwjgl.image;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A separable resampler for 8-bit unsigned images using any {@link MipFilter}, optionally filtering sRGB colour in linear space.
+ * <p>
+ * The filter weights for each axis are computed once per call, so the per-texel work is table lookups and multiply-adds.
+ * Each output row first blends its source rows into a linear float row, then filters that row horizontally and encodes it.
+ * Texels beyond the edges are clamped. Large images are split into bands of rows across the common
+ * {@link java.util.concurrent.ForkJoinPool}.
+ * <p>
+ * Halving with {@link MipFilter#BOX}, i.e. each step of a box-filtered mip chain, has a dedicated path which averages each
+ * 2x2 block directly, producing the same bytes without computing weights or blending whole rows.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+final class KernelResampler {
+    private static final ThreadLocal<float[]> SCRATCH = ThreadLocal.withInitial(() -> new float[0]);
+    private static final ThreadLocal<byte[]> ROWS = ThreadLocal.withInitial(() -> new byte[0]);
+
+    private KernelResampler() {
+    }
+
+    /**
+     * Resamples an image. The source and destination must not overlap.
+     *
+     * @param filter The filter.
+     * @param srgb Whether colour components are sRGB encoded. With two or four components, the last is alpha and stays linear.
+     */
+    static void scale(MipFilter filter, boolean srgb, int components,
+                      int widthIn, int heightIn, ByteBuffer dataIn, int offsetIn, int strideIn,
+                      int widthOut, int heightOut, ByteBuffer dataOut, int offsetOut, int strideOut) {
+        Weights horizontal = new Weights(filter, widthIn, widthOut);
+        Weights vertical = new Weights(filter, heightIn, heightOut);
+
+        boolean[] encodeSrgb = srgbComponents(srgb, components);
+        float[][] decode = decodeTables(encodeSrgb);
+
+        int bands = bands(widthIn, heightIn, components, heightOut);
+        IntStream.range(0, bands).parallel().forEach(band -> {
+            int rowStart = (int) ((long) heightOut * band / bands), rowEnd = (int) ((long) heightOut * (band + 1) / bands);
+            int rowLengthIn = widthIn * components;
+
+            float[] row = SCRATCH.get();
+            if (row.length < rowLengthIn) {
+                SCRATCH.set(row = new float[rowLengthIn]);
+            }
+
+            for (int y = rowStart; y < rowEnd; y++) {
+                // Blend the source rows into a linear row
+                Arrays.fill(row, 0, rowLengthIn, 0.0F);
+                for (int tap = 0, base = y * vertical.taps; tap < vertical.taps; tap++) {
+                    float weight = vertical.weights[base + tap];
+                    if (weight == 0.0F) {
+                        continue;
+                    }
+                    int src = offsetIn + vertical.indices[base + tap] * strideIn;
+                    for (int x = 0, i = 0; x < widthIn; x++) {
+                        for (int c = 0; c < components; c++, i++) {
+                            row[i] += decode[c][dataIn.get(src + i) & 0xFF] * weight;
+                        }
+                    }
+                }
+
+                // Filter the row horizontally and encode it
+                int dst = offsetOut + y * strideOut;
+                for (int x = 0; x < widthOut; x++) {
+                    int base = x * horizontal.taps;
+                    for (int c = 0; c < components; c++) {
+                        float value = 0.0F;
+                        for (int tap = 0; tap < horizontal.taps; tap++) {
+                            value += row[horizontal.indices[base + tap] * components + c] * horizontal.weights[base + tap];
+                        }
+                        int encoded = encodeSrgb[c] ? SrgbLut.encodeSrgb(value) : SrgbLut.encodeUnorm(value);
+                        dataOut.put(dst + x * components + c, (byte) encoded);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns whether an axis is halved by a mip level step: twice the size, or one texel, which stays one texel.
+     *
+     * @param sizeIn The size of the source axis.
+     * @param sizeOut The size of the destination axis.
+     * @return Whether {@link #halve} can resample the axis.
+     */
+    static boolean halves(int sizeIn, int sizeOut) {
+        return sizeIn == sizeOut * 2 || (sizeIn == 1 && sizeOut == 1);
+    }
+
+    /**
+     * Halves an image with the box filter, averaging each 2x2 block in linear space. Both axes must satisfy {@link #halves};
+     * an axis of one texel averages that texel with itself. The source and destination must not overlap.
+     * <p>
+     * The four texels are summed in the order {@link #scale} blends them, columns then rows, so the result is the same.
+     *
+     * @param srgb Whether colour components are sRGB encoded. With two or four components, the last is alpha and stays linear.
+     */
+    static void halve(boolean srgb, int components,
+                      int widthIn, int heightIn, ByteBuffer dataIn, int offsetIn, int strideIn,
+                      int widthOut, int heightOut, ByteBuffer dataOut, int offsetOut, int strideOut) {
+        boolean[] encodeSrgb = srgbComponents(srgb, components);
+        float[][] decode = decodeTables(encodeSrgb);
+
+        int stepX = widthIn == widthOut ? 0 : components; // From the left texel of a block to the right one
+        int stepY = heightIn == heightOut ? 0 : strideIn; // From the top row of a block to the bottom one
+
+        int bands = bands(widthIn, heightIn, components, heightOut);
+        IntStream.range(0, bands).parallel().forEach(band -> {
+            int rowStart = (int) ((long) heightOut * band / bands), rowEnd = (int) ((long) heightOut * (band + 1) / bands);
+            int rowLengthIn = widthIn * components, rowLengthOut = widthOut * components;
+
+            byte[] rows = ROWS.get(); // The top row of a block, then the bottom row, then the output row
+            if (rows.length < rowLengthIn * 2 + rowLengthOut) {
+                ROWS.set(rows = new byte[rowLengthIn * 2 + rowLengthOut]);
+            }
+            int bottom = stepY == 0 ? 0 : rowLengthIn, out = rowLengthIn * 2;
+
+            for (int y = rowStart; y < rowEnd; y++) {
+                int src = offsetIn + (stepY == 0 ? y : y * 2) * strideIn;
+                dataIn.get(src, rows, 0, rowLengthIn);
+                if (stepY != 0) {
+                    dataIn.get(src + stepY, rows, rowLengthIn, rowLengthIn);
+                }
+
+                for (int x = 0, dst = out; x < widthOut; x++) {
+                    int left = (stepX == 0 ? x : x * 2) * components;
+                    for (int c = 0; c < components; c++, dst++) {
+                        float[] table = decode[c];
+                        int i = left + c, j = i + stepX;
+                        float value = ((table[rows[i] & 0xFF] + table[rows[bottom + i] & 0xFF])
+                                + (table[rows[j] & 0xFF] + table[rows[bottom + j] & 0xFF])) * 0.25F;
+                        rows[dst] = (byte) (encodeSrgb[c] ? SrgbLut.encodeSrgb(value) : SrgbLut.encodeUnorm(value));
+                    }
+                }
+
+                dataOut.put(offsetOut + y * strideOut, rows, out, rowLengthOut);
+            }
+        });
+    }
+
+    /**
+     * Returns whether each component is sRGB encoded. With two or four components, the last is alpha and stays linear.
+     */
+    private static boolean[] srgbComponents(boolean srgb, int components) {
+        boolean[] encoded = new boolean[components];
+        boolean alpha = components == 2 || components == 4;
+        for (int c = 0; c < components; c++) {
+            encoded[c] = srgb && !(alpha && c == components - 1);
+        }
+        return encoded;
+    }
+
+    /**
+     * Returns the table decoding each component to a linear float.
+     */
+    private static float[][] decodeTables(boolean[] srgbComponents) {
+        float[][] decode = new float[srgbComponents.length][];
+        for (int c = 0; c < srgbComponents.length; c++) {
+            decode[c] = srgbComponents[c] ? SrgbLut.SRGB_TO_LINEAR : SrgbLut.UNORM_TO_FLOAT;
+        }
+        return decode;
+    }
+
+    /**
+     * Returns the amount of bands of rows to split resampling into.
+     */
+    private static int bands(int widthIn, int heightIn, int components, int heightOut) {
+        long work = (long) widthIn * heightIn * components;
+        return work < ImageResampler.PARALLEL_THRESHOLD ? 1 : Math.min(heightOut, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * The normalised filter weights of one axis, with a fixed amount of taps per destination texel and clamped source indices.
+     */
+    private static final class Weights {
+        final int taps;
+        final int[] indices;
+        final float[] weights;
+
+        Weights(MipFilter filter, int sizeIn, int sizeOut) {
+            double scale = (double) sizeIn / sizeOut;
+            double support = filter.radius * Math.max(scale, 1.0); // Never narrower than a source texel when upscaling
+            double invScale = 1.0 / Math.max(scale, 1.0);
+
+            this.taps = (int) Math.ceil(support * 2.0) + 1;
+            this.indices = new int[sizeOut * this.taps];
+            this.weights = new float[sizeOut * this.taps];
+
+            for (int i = 0; i < sizeOut; i++) {
+                double centre = (i + 0.5) * scale;
+                int first = (int) Math.ceil(centre - support - 0.5);
+                int base = i * this.taps;
+
+                double total = 0.0;
+                for (int tap = 0; tap < this.taps; tap++) {
+                    int source = first + tap;
+                    double weight = filter.evaluate((source + 0.5 - centre) * invScale);
+                    this.indices[base + tap] = Math.max(0, Math.min(sizeIn - 1, source));
+                    this.weights[base + tap] = (float) weight;
+                    total += weight;
+                }
+                if (total != 0.0) {
+                    for (int tap = 0; tap < this.taps; tap++) {
+                        this.weights[base + tap] = (float) (this.weights[base + tap] / total);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package me.darragh.lwjgl.image;
+
+import lombok.Getter;
+import me.darragh.lwjgl.memory.PooledAllocator;
+import org.jspecify.annotations.Nullable;
+import org.lwjgl.opengl.PixelStoreTracker;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL21.*;
+
+/**
+ * A complete chain of filtered mipmap levels for an 8-bit unsigned image, built on the CPU into one contiguous off-heap
+ * allocation, separately from uploading it.
+ * <p>
+ * Building requires no OpenGL context, so chains may be built off the render thread, e.g. with
+ * {@link #buildAsync(int, int, int, ByteBuffer, Executor)}; large levels are additionally resampled in parallel by
+ * {@link ImageResampler}. Only {@link #upload(int, int, int)} requires the context. Each level is resampled from the previous
+ * one; with the default {@link MipFilter#BOX} filter and no sRGB conversion, the levels are identical to those produced by
+ * {@code gluBuild2DMipmaps}.
+ * <p>
+ * Other filters, and sRGB content (which must be averaged in linear space to avoid darkening), are resampled by
+ * {@link KernelResampler} using precomputed lookup tables. Box-filtered sRGB levels which halve the previous one, i.e. all
+ * but odd-sized ones, average each 2x2 block directly.
+ * <p>
+ * Levels are tightly packed, i.e. with an unpack alignment of one. The chain must be freed with {@link #free()}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class MipChain {
+    /**
+     * -- GETTER --
+     *  Returns the amount of components per pixel.
+     */
+    @Getter
+    private final int components;
+
+    /**
+     * -- GETTER --
+     *  Returns the amount of levels, including the base level.
+     */
+    @Getter
+    private final int levels;
+
+    private final int[] widths;
+    private final int[] heights;
+    private final int[] offsets;
+
+    @Nullable
+    private ByteBuffer data;
+
+    private MipChain(int components, int width, int height) {
+        int levels = 1;
+        for (int w = width, h = height; w > 1 || h > 1; w = Math.max(1, w >> 1), h = Math.max(1, h >> 1)) {
+            levels++;
+        }
+
+        this.components = components;
+        this.levels = levels;
+        this.widths = new int[levels];
+        this.heights = new int[levels];
+        this.offsets = new int[levels];
+
+        long size = 0L;
+        for (int level = 0, w = width, h = height; level < levels; level++, w = Math.max(1, w >> 1), h = Math.max(1, h >> 1)) {
+            this.widths[level] = w;
+            this.heights[level] = h;
+            this.offsets[level] = (int) size;
+            size += (long) w * h * components;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A mip chain of " + width + "x" + height + "x" + components + " exceeds 2GB.");
+        }
+
+        this.data = PooledAllocator.allocate((int) size);
+    }
+
+    /**
+     * Builds a chain from a tightly packed image, keeping its size for the base level.
+     *
+     * @param components The amount of components per pixel.
+     * @param width The width of the image, in pixels.
+     * @param height The height of the image, in pixels.
+     * @param source The image. Absolute indices are used; its position is ignored.
+     * @return The chain.
+     */
+    public static MipChain build(int components, int width, int height, ByteBuffer source) {
+        return build(components, width, height, source, MipFilter.BOX, false);
+    }
+
+    /**
+     * Builds a chain from a tightly packed image, keeping its size for the base level.
+     *
+     * @param components The amount of components per pixel.
+     * @param width The width of the image, in pixels.
+     * @param height The height of the image, in pixels.
+     * @param source The image. Absolute indices are used; its position is ignored.
+     * @param filter The downsampling filter.
+     * @param srgb Whether colour components are sRGB encoded. With two or four components, the last is alpha and stays linear.
+     * @return The chain.
+     */
+    public static MipChain build(int components, int width, int height, ByteBuffer source, MipFilter filter, boolean srgb) {
+        return build(components, width, height, source, 0, width * components, width, height, filter, srgb);
+    }
+
+    /**
+     * Builds a chain, resampling the image to the size of the base level first if necessary.
+     *
+     * @param components The amount of components per pixel.
+     * @param widthIn The width of the image, in pixels.
+     * @param heightIn The height of the image, in pixels.
+     * @param source The image. Absolute indices are used; its position is ignored.
+     * @param offsetIn The byte offset of the first pixel of the image.
+     * @param strideIn The byte distance between rows of the image.
+     * @param width The width of the base level, in pixels.
+     * @param height The height of the base level, in pixels.
+     * @return The chain.
+     */
+    public static MipChain build(int components,
+                                 int widthIn, int heightIn, ByteBuffer source, int offsetIn, int strideIn,
+                                 int width, int height) {
+        return build(components, widthIn, heightIn, source, offsetIn, strideIn, width, height, MipFilter.BOX, false);
+    }
+
+    /**
+     * Builds a chain, resampling the image to the size of the base level first if necessary.
+     *
+     * @param components The amount of components per pixel.
+     * @param widthIn The width of the image, in pixels.
+     * @param heightIn The height of the image, in pixels.
+     * @param source The image. Absolute indices are used; its position is ignored.
+     * @param offsetIn The byte offset of the first pixel of the image.
+     * @param strideIn The byte distance between rows of the image.
+     * @param width The width of the base level, in pixels.
+     * @param height The height of the base level, in pixels.
+     * @param filter The downsampling filter.
+     * @param srgb Whether colour components are sRGB encoded. With two or four components, the last is alpha and stays linear.
+     * @return The chain.
+     */
+    public static MipChain build(int components,
+                                 int widthIn, int heightIn, ByteBuffer source, int offsetIn, int strideIn,
+                                 int width, int height, MipFilter filter, boolean srgb) {
+        if (components <= 0 || widthIn <= 0 || heightIn <= 0 || width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid image of " + widthIn + "x" + heightIn + "x" + components + " for a base level of " + width + "x" + height + ".");
+        }
+
+        MipChain chain = new MipChain(components, width, height);
+        ByteBuffer data = chain.getData();
+        try {
+            if (width == widthIn && height == heightIn) {
+                int rowLength = width * components;
+                for (int y = 0; y < height; y++) {
+                    data.put(y * rowLength, source, offsetIn + y * strideIn, rowLength);
+                }
+            } else {
+                resample(filter, srgb, components, widthIn, heightIn, source, offsetIn, strideIn, width, height, data, 0, width * components);
+            }
+
+            for (int level = 1; level < chain.levels; level++) {
+                resample(filter, srgb, components,
+                        chain.widths[level - 1], chain.heights[level - 1], data, chain.offsets[level - 1], chain.widths[level - 1] * components,
+                        chain.widths[level], chain.heights[level], data, chain.offsets[level], chain.widths[level] * components);
+            }
+        } catch (RuntimeException e) {
+            chain.free();
+            throw e;
+        }
+        return chain;
+    }
+
+    /**
+     * Builds a chain from a tightly packed image on the given executor. The image must not be modified until the chain is built.
+     *
+     * @param components The amount of components per pixel.
+     * @param width The width of the image, in pixels.
+     * @param height The height of the image, in pixels.
+     * @param source The image. Absolute indices are used; its position is ignored.
+     * @param executor The executor to build on, e.g. a worker pool.
+     * @return The chain, once built.
+     */
+    public static CompletableFuture<MipChain> buildAsync(int components, int width, int height, ByteBuffer source, Executor executor) {
+        return buildAsync(components, width, height, source, MipFilter.BOX, false, executor);
+    }
+
+    /**
+     * Builds a chain from a tightly packed image on the given executor. The image must not be modified until the chain is built.
+     *
+     * @param components The amount of components per pixel.
+     * @param width The width of the image, in pixels.
+     * @param height The height of the image, in pixels.
+     * @param source The image. Absolute indices are used; its position is ignored.
+     * @param filter The downsampling filter.
+     * @param srgb Whether colour components are sRGB encoded.
+     * @param executor The executor to build on, e.g. a worker pool.
+     * @return The chain, once built.
+     */
+    public static CompletableFuture<MipChain> buildAsync(int components, int width, int height, ByteBuffer source,
+                                                         MipFilter filter, boolean srgb, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> build(components, width, height, source, filter, srgb), executor);
+    }
+
+    /**
+     * Returns whether an internal format stores sRGB encoded colour, in which case its levels should be built with sRGB conversion.
+     *
+     * @param internalFormat The internal format, or the amount of components.
+     * @return Whether the format is one of the uncompressed sRGB or sLuminance formats.
+     */
+    public static boolean isSrgb(int internalFormat) {
+        return switch (internalFormat) {
+            case GL_SRGB, GL_SRGB8, GL_SRGB_ALPHA, GL_SRGB8_ALPHA8,
+                 GL_SLUMINANCE, GL_SLUMINANCE8, GL_SLUMINANCE_ALPHA, GL_SLUMINANCE8_ALPHA8 -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Uploads every level to the texture bound to the target. The unpack pixel-store state is set to match the chain for the
+     * duration of the upload and restored afterwards.
+     *
+     * @param target The texture target, e.g. {@code GL_TEXTURE_2D}.
+     * @param internalFormat The internal format, or the amount of components.
+     * @param format The format of the pixels, e.g. {@code GL_RGBA}.
+     */
+    public void upload(int target, int internalFormat, int format) {
+        ByteBuffer data = this.getData();
+
+        int rowLength = PixelStoreTracker.get(GL_UNPACK_ROW_LENGTH);
+        int alignment = PixelStoreTracker.get(GL_UNPACK_ALIGNMENT);
+        int skipRows = PixelStoreTracker.get(GL_UNPACK_SKIP_ROWS);
+        int skipPixels = PixelStoreTracker.get(GL_UNPACK_SKIP_PIXELS);
+        PixelStoreTracker.set(GL_UNPACK_ROW_LENGTH, 0);
+        PixelStoreTracker.set(GL_UNPACK_ALIGNMENT, 1);
+        PixelStoreTracker.set(GL_UNPACK_SKIP_ROWS, 0);
+        PixelStoreTracker.set(GL_UNPACK_SKIP_PIXELS, 0);
+
+        for (int level = 0; level < this.levels; level++) {
+            glTexImage2D(target, level, internalFormat, this.widths[level], this.heights[level], 0, format, GL_UNSIGNED_BYTE, this.getLevel(level));
+        }
+
+        PixelStoreTracker.set(GL_UNPACK_ROW_LENGTH, rowLength);
+        PixelStoreTracker.set(GL_UNPACK_ALIGNMENT, alignment);
+        PixelStoreTracker.set(GL_UNPACK_SKIP_ROWS, skipRows);
+        PixelStoreTracker.set(GL_UNPACK_SKIP_PIXELS, skipPixels);
+    }
+
+    /**
+     * Returns the width of a level.
+     *
+     * @param level The level.
+     * @return The width, in pixels.
+     */
+    public int getWidth(int level) {
+        return this.widths[level];
+    }
+
+    /**
+     * Returns the height of a level.
+     *
+     * @param level The level.
+     * @return The height, in pixels.
+     */
+    public int getHeight(int level) {
+        return this.heights[level];
+    }
+
+    /**
+     * Returns a level's pixels.
+     *
+     * @param level The level.
+     * @return A view of the level's pixels, tightly packed.
+     */
+    public ByteBuffer getLevel(int level) {
+        int size = this.widths[level] * this.heights[level] * this.components;
+        return this.getData().slice(this.offsets[level], size);
+    }
+
+    /**
+     * Frees the chain's memory. Views returned by {@link #getLevel(int)} must not be used afterwards.
+     */
+    public void free() {
+        if (this.data != null) {
+            PooledAllocator.release(this.data);
+            this.data = null;
+        }
+    }
+
+    /**
+     * Resamples an image with the given filter, using the exact integer box filter where possible, and the 2x2 box filter for
+     * sRGB levels which halve the previous one.
+     */
+    private static void resample(MipFilter filter, boolean srgb, int components,
+                                 int widthIn, int heightIn, ByteBuffer dataIn, int offsetIn, int strideIn,
+                                 int widthOut, int heightOut, ByteBuffer dataOut, int offsetOut, int strideOut) {
+        if (filter == MipFilter.BOX && !srgb) {
+            ImageResampler.scale(components, widthIn, heightIn, dataIn, offsetIn, strideIn, widthOut, heightOut, dataOut, offsetOut, strideOut);
+        } else if (filter == MipFilter.BOX && KernelResampler.halves(widthIn, widthOut) && KernelResampler.halves(heightIn, heightOut)) {
+            KernelResampler.halve(srgb, components, widthIn, heightIn, dataIn, offsetIn, strideIn, widthOut, heightOut, dataOut, offsetOut, strideOut);
+        } else {
+            KernelResampler.scale(filter, srgb, components, widthIn, heightIn, dataIn, offsetIn, strideIn, widthOut, heightOut, dataOut, offsetOut, strideOut);
+        }
+    }
+
+    private ByteBuffer getData() {
+        if (this.data == null) {
+            throw new IllegalStateException("Mip chain freed.");
+        }
+        return this.data;
+    }
+}
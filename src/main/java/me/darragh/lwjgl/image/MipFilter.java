@@ -0,0 +1,79 @@
+package me.darragh.lwjgl.image;
+
+/**
+ * The downsampling filters available to {@link MipChain}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public enum MipFilter {
+    /**
+     * Averages each 2x2 block; the filter used by {@code gluBuild2DMipmaps}. Cheapest, but prone to aliasing.
+     */
+    BOX(0.5),
+
+    /**
+     * A sinc windowed by a Kaiser window (alpha 4) over three texels either side. Sharp, with little ringing.
+     */
+    KAISER(3.0),
+
+    /**
+     * A sinc windowed by a sinc over two texels either side. Sharper than box, with slight ringing around hard edges.
+     */
+    LANCZOS2(2.0);
+
+    private static final double KAISER_ALPHA = 4.0;
+    private static final double KAISER_NORMALISER = 1.0 / bessel0(KAISER_ALPHA);
+
+    /**
+     * The distance from the centre, in destination texels, beyond which the filter is zero.
+     */
+    final double radius;
+
+    MipFilter(double radius) {
+        this.radius = radius;
+    }
+
+    /**
+     * Evaluates the filter at a distance from the centre, in destination texels.
+     * This is only called while computing weights, never per texel.
+     */
+    double evaluate(double x) {
+        x = Math.abs(x);
+        if (x > this.radius) {
+            return 0.0;
+        }
+
+        return switch (this) {
+            case BOX -> x == this.radius ? 0.5 : 1.0; // A texel on the edge is shared between both boxes
+            case KAISER -> {
+                double t = x / this.radius;
+                yield sinc(x) * bessel0(KAISER_ALPHA * Math.sqrt(1.0 - t * t)) * KAISER_NORMALISER;
+            }
+            case LANCZOS2 -> sinc(x) * sinc(x / this.radius);
+        };
+    }
+
+    private static double sinc(double x) {
+        if (x < 1.0E-6) {
+            return 1.0;
+        }
+        double px = Math.PI * x;
+        return Math.sin(px) / px;
+    }
+
+    /**
+     * The zeroth order modified Bessel function of the first kind, by its power series.
+     */
+    private static double bessel0(double x) {
+        double sum = 1.0, term = 1.0, halfX = x * 0.5;
+        for (int k = 1; k < 32; k++) {
+            term *= (halfX / k) * (halfX / k);
+            sum += term;
+            if (term < sum * 1.0E-12) {
+                break;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,87 @@
+package me.darragh.lwjgl.image;
+
+/**
+ * Lookup tables converting 8-bit values to and from linear floats, so filtering never calls {@code Math.pow} per texel.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+final class SrgbLut {
+    /**
+     * The linear value of each 8-bit sRGB value, in {@code [0, 1]}.
+     */
+    static final float[] SRGB_TO_LINEAR = new float[256];
+
+    /**
+     * Each 8-bit value divided by 255, for components which are already linear, e.g. alpha.
+     */
+    static final float[] UNORM_TO_FLOAT = new float[256];
+
+    /**
+     * The linear value halfway between each sRGB value and the next; {@link #encodeSrgb(float)} compares against these,
+     * so rounding is exact.
+     */
+    private static final float[] SRGB_THRESHOLDS = new float[255];
+
+    private static final int ENCODE_BUCKETS = 4096; // Narrower than the smallest gap between two thresholds
+
+    /**
+     * The sRGB value of the start of each of {@link #ENCODE_BUCKETS} equal linear ranges, from which {@link #encodeSrgb(float)}
+     * steps up past at most one threshold.
+     */
+    private static final byte[] SRGB_BUCKETS = new byte[ENCODE_BUCKETS];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            SRGB_TO_LINEAR[i] = (float) decode(i / 255.0);
+            UNORM_TO_FLOAT[i] = i / 255.0F;
+        }
+        for (int i = 0; i < 255; i++) {
+            SRGB_THRESHOLDS[i] = (float) decode((i + 0.5) / 255.0);
+        }
+
+        for (int i = 0, encoded = 0; i < ENCODE_BUCKETS; i++) {
+            float start = (float) i / ENCODE_BUCKETS;
+            while (encoded < 255 && start >= SRGB_THRESHOLDS[encoded]) {
+                encoded++;
+            }
+            SRGB_BUCKETS[i] = (byte) encoded;
+        }
+    }
+
+    private SrgbLut() {
+    }
+
+    /**
+     * Encodes a linear value as the nearest 8-bit sRGB value.
+     *
+     * @param linear The linear value; values outside {@code [0, 1]} are clamped.
+     * @return The sRGB value, in {@code [0, 255]}.
+     */
+    static int encodeSrgb(float linear) {
+        int bucket = (int) (linear * ENCODE_BUCKETS); // Exact, as the bucket count is a power of two, and truncated towards zero
+        int encoded = bucket <= 0 ? 0 : SRGB_BUCKETS[Math.min(bucket, ENCODE_BUCKETS - 1)] & 0xFF;
+        while (encoded < 255 && linear >= SRGB_THRESHOLDS[encoded]) { // The result is the amount of thresholds below the value
+            encoded++;
+        }
+        return encoded;
+    }
+
+    /**
+     * Encodes a linear value as the nearest 8-bit unsigned normalised value.
+     *
+     * @param value The value; values outside {@code [0, 1]} are clamped.
+     * @return The 8-bit value, in {@code [0, 255]}.
+     */
+    static int encodeUnorm(float value) {
+        int encoded = (int) (value * 255.0F + 0.5F);
+        return encoded < 0 ? 0 : Math.min(encoded, 255);
+    }
+
+    /**
+     * The sRGB transfer function, inverted.
+     */
+    private static double decode(double srgb) {
+        return srgb <= 0.04045 ? srgb / 12.92 : Math.pow((srgb + 0.055) / 1.055, 2.4);
+    }
+}
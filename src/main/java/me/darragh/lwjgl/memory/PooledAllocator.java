@@ -0,0 +1,247 @@
+package me.darragh.lwjgl.memory;
+
+import org.jspecify.annotations.Nullable;
+import org.lwjgl.LWJGLUtil;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * A pooled off-heap allocator for short-lived scratch buffers, e.g. those used to pass strings and lengths to OpenGL.
+ * <p>
+ * Allocations are rounded up to power-of-two size classes between {@value #MIN_SIZE} and {@value #MAX_SIZE} bytes. Released
+ * blocks are kept on a free list per size class of the releasing thread, and reused by later allocations from that thread, so
+ * steady-state use neither calls {@code malloc} nor reserves direct memory through {@code ByteBuffer.allocateDirect} (which
+ * may trigger {@code System.gc()} once the direct memory limit is approached). Larger allocations are not pooled. The blocks
+ * kept by a thread are freed once it has exited.
+ * <p>
+ * Every buffer must be released explicitly with {@link #release(ByteBuffer)}. Releasing a buffer which is still on the
+ * thread's free list throws. With {@link LWJGLUtil#DEBUG} enabled, the allocation site of every live buffer is recorded, so
+ * leaks may be reported with {@link #reportLeaks()}, and releasing a buffer twice always throws.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public final class PooledAllocator {
+    /**
+     * The smallest size class, in bytes.
+     */
+    public static final int MIN_SIZE = 1 << PooledAllocator.MIN_SHIFT;
+
+    /**
+     * The largest size class, in bytes. Larger allocations are made and freed directly.
+     */
+    public static final int MAX_SIZE = 1 << PooledAllocator.MAX_SHIFT;
+
+    private static final int MIN_SHIFT = 6;
+    private static final int MAX_SHIFT = 24;
+    private static final int CLASS_COUNT = MAX_SHIFT - MIN_SHIFT + 1;
+    private static final int FREE_LIST_SIZE = 8; // Blocks kept per size class and thread; any more are freed
+
+    private static final Cleaner CLEANER = Cleaner.create(); // Frees the blocks cached by threads which have exited
+    private static final ThreadLocal<ThreadFreeLists> FREE_LISTS = ThreadLocal.withInitial(ThreadFreeLists::new);
+
+    @Nullable
+    private static final Map<Long, Throwable> ALLOCATION_SITES = LWJGLUtil.DEBUG ? new ConcurrentHashMap<>() : null;
+    private static final AtomicLong LIVE = new AtomicLong();
+
+    private PooledAllocator() {
+    }
+
+    /**
+     * Allocates a buffer of at least the given size.
+     *
+     * @param size The minimum capacity, in bytes.
+     * @return A buffer whose capacity is the size rounded up to its size class. Its contents are undefined.
+     *
+     * @throws OutOfMemoryError If the memory could not be allocated.
+     */
+    public static ByteBuffer allocate(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Cannot allocate " + size + " bytes.");
+        }
+
+        int capacity = size <= MAX_SIZE ? sizeClass(size) : size;
+        long address = 0L;
+        if (capacity <= MAX_SIZE) {
+            FreeList list = FREE_LISTS.get().lists[index(capacity)];
+            if (list != null && list.count > 0) {
+                address = list.addresses[--list.count];
+            }
+        }
+        if (address == 0L) {
+            address = nmemAlloc(capacity);
+            if (address == 0L) {
+                throw new OutOfMemoryError("Failed to allocate " + capacity + " bytes.");
+            }
+        }
+
+        LIVE.incrementAndGet();
+        if (ALLOCATION_SITES != null) {
+            ALLOCATION_SITES.put(address, new Throwable("Allocated " + capacity + " bytes"));
+        }
+        return memByteBuffer(address, capacity);
+    }
+
+    /**
+     * Allocates a buffer of at least the given size, copying the first {@code length} bytes of the given buffer into it and
+     * releasing the given buffer. If the given buffer is already large enough, it is returned unchanged.
+     *
+     * @param buffer A buffer returned by this allocator.
+     * @param size The minimum capacity, in bytes.
+     * @param length The amount of bytes to keep.
+     * @return A buffer of at least the given size. A new buffer has its position at zero and its limit at its capacity.
+     */
+    public static ByteBuffer reallocate(ByteBuffer buffer, int size, int length) {
+        if (buffer.capacity() >= size) {
+            return buffer;
+        }
+
+        ByteBuffer bufferNew = allocate(size);
+        memCopy(memAddress0(buffer), memAddress0(bufferNew), length); // Native copy of the used prefix only
+        release(buffer);
+        return bufferNew;
+    }
+
+    /**
+     * Releases a buffer, returning it to the calling thread's free list for its size class.
+     * The buffer must not be used afterwards.
+     *
+     * @param buffer A buffer returned by {@link #allocate(int)} or {@link #reallocate(ByteBuffer, int, int)}.
+     *
+     * @throws IllegalStateException If the buffer is on the calling thread's free list, i.e. was already released, or leak
+     *                               tracking is enabled and the buffer is not live.
+     */
+    public static void release(ByteBuffer buffer) {
+        long address = memAddress0(buffer);
+        int capacity = buffer.capacity();
+
+        FreeList list = null;
+        if (capacity <= MAX_SIZE && capacity >= MIN_SIZE && Integer.bitCount(capacity) == 1) {
+            FreeList[] lists = FREE_LISTS.get().lists;
+            int index = index(capacity);
+            list = lists[index];
+            if (list == null) {
+                list = lists[index] = new FreeList();
+            } else if (list.contains(address)) { // Cheap enough to check without leak tracking
+                throw new IllegalStateException("Buffer at 0x" + Long.toHexString(address) + " was already released.");
+            }
+        }
+
+        if (ALLOCATION_SITES != null && ALLOCATION_SITES.remove(address) == null) {
+            throw new IllegalStateException("Buffer at 0x" + Long.toHexString(address) + " was not allocated by this allocator or was already released.");
+        }
+        LIVE.decrementAndGet();
+
+        if (list != null && list.count < FREE_LIST_SIZE) {
+            list.addresses[list.count++] = address;
+            return;
+        }
+        nmemFree(address);
+    }
+
+    /**
+     * Frees every block on the calling thread's free lists.
+     * <p>
+     * Blocks cached by a thread are also freed once it has exited, when its free lists are garbage collected.
+     */
+    public static void trim() {
+        trim(FREE_LISTS.get().lists);
+    }
+
+    /**
+     * Returns the amount of buffers allocated but not yet released.
+     *
+     * @return The amount of live buffers.
+     */
+    public static long getLiveCount() {
+        return LIVE.get();
+    }
+
+    /**
+     * Logs the allocation site of every live buffer. This requires {@link LWJGLUtil#DEBUG}.
+     *
+     * @return The amount of live buffers reported.
+     */
+    public static int reportLeaks() {
+        if (ALLOCATION_SITES == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (Map.Entry<Long, Throwable> entry : ALLOCATION_SITES.entrySet()) {
+            Throwable site = entry.getValue();
+            StringBuilder message = new StringBuilder("Unreleased buffer at 0x").append(Long.toHexString(entry.getKey())).append(": ").append(site.getMessage());
+            for (StackTraceElement element : site.getStackTrace()) {
+                message.append("\n\tat ").append(element);
+            }
+            LWJGLUtil.log(message);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Rounds a size up to its size class.
+     */
+    private static int sizeClass(int size) {
+        return size <= MIN_SIZE ? MIN_SIZE : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Returns the free list index of a size class.
+     */
+    private static int index(int sizeClass) {
+        return Integer.numberOfTrailingZeros(sizeClass) - MIN_SHIFT;
+    }
+
+    /**
+     * Frees every block on the given free lists.
+     */
+    private static void trim(FreeList[] lists) {
+        for (FreeList list : lists) {
+            if (list == null) {
+                continue;
+            }
+            while (list.count > 0) {
+                nmemFree(list.addresses[--list.count]);
+            }
+        }
+    }
+
+    /**
+     * A thread's free lists, one per size class.
+     * <p>
+     * The cleaning action references only the lists, so this becomes unreachable once the thread has exited, and the lists are trimmed.
+     */
+    private static final class ThreadFreeLists {
+        final FreeList[] lists = new FreeList[CLASS_COUNT];
+
+        ThreadFreeLists() {
+            FreeList[] lists = this.lists;
+            CLEANER.register(this, () -> trim(lists));
+        }
+    }
+
+    /**
+     * A thread's free blocks of a single size class.
+     */
+    private static final class FreeList {
+        final long[] addresses = new long[FREE_LIST_SIZE];
+        int count;
+
+        boolean contains(long address) {
+            for (int i = 0; i < this.count; i++) {
+                if (this.addresses[i] == address) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
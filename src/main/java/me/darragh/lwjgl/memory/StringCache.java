@@ -0,0 +1,113 @@
+package me.darragh.lwjgl.memory;
+
+import java.util.Arrays;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * A fixed-size cache of decoded strings, keyed by their encoded bytes, for strings which are decoded repeatedly, e.g. uniform
+ * names or {@code glGetString} values.
+ * <p>
+ * A lookup hashes and compares the bytes in place, so a hit allocates nothing; only a miss decodes (with a bulk
+ * {@code memASCII}/{@code memUTF8} call) and replaces the entry in its slot. The cache is safe to share between threads, as
+ * entries are immutable and a lost race only costs a miss.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public final class StringCache {
+    static final int MAX_LENGTH = 256; // Longer strings, e.g. shader logs, are decoded without caching
+
+    private final Entry[] entries;
+    private final boolean utf8;
+
+    private StringCache(int capacity, boolean utf8) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two, was " + capacity + ".");
+        }
+
+        this.entries = new Entry[capacity];
+        this.utf8 = utf8;
+    }
+
+    /**
+     * Creates a cache decoding ASCII (or rather, ISO-8859-1) strings.
+     *
+     * @param capacity The amount of entries, which must be a power of two.
+     * @return The cache.
+     */
+    public static StringCache ascii(int capacity) {
+        return new StringCache(capacity, false);
+    }
+
+    /**
+     * Creates a cache decoding UTF-8 strings.
+     *
+     * @param capacity The amount of entries, which must be a power of two.
+     * @return The cache.
+     */
+    public static StringCache utf8(int capacity) {
+        return new StringCache(capacity, true);
+    }
+
+    /**
+     * Decodes a string, returning the cached instance if the same bytes were decoded before.
+     *
+     * @param address The address of the encoded bytes.
+     * @param length The amount of encoded bytes.
+     * @return The decoded string.
+     */
+    public String decode(long address, int length) {
+        if (length == 0) {
+            return "";
+        }
+        if (length > MAX_LENGTH) {
+            return this.decodeUncached(address, length);
+        }
+
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + memGetByte(address + i);
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & (this.entries.length - 1);
+        Entry entry = this.entries[slot];
+        if (entry != null && entry.hash == hash && entry.matches(address, length)) {
+            return entry.value;
+        }
+
+        String value = this.decodeUncached(address, length);
+        byte[] bytes = new byte[length];
+        memByteBuffer(address, length).get(bytes);
+        this.entries[slot] = new Entry(hash, bytes, value);
+        return value;
+    }
+
+    /**
+     * Empties the cache.
+     */
+    public void clear() {
+        Arrays.fill(this.entries, null);
+    }
+
+    private String decodeUncached(long address, int length) {
+        return this.utf8 ? memUTF8(address, length) : memASCII(address, length);
+    }
+
+    /**
+     * An encoded string and its decoded value.
+     */
+    private record Entry(int hash, byte[] bytes, String value) {
+        boolean matches(long address, int length) {
+            if (this.bytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (this.bytes[i] != memGetByte(address + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package me.darragh.lwjgl.opengl.buffer;
+
+import lombok.Getter;
+import me.darragh.lwjgl.opengl.fence.FenceProvider;
+import me.darragh.lwjgl.opengl.fence.GLFenceProvider;
+import org.jspecify.annotations.Nullable;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL44.*;
+
+/**
+ * A ring buffer for streaming per-frame data, e.g. immediate-mode style geometry, without re-specifying a buffer every frame.
+ * <p>
+ * Where buffer storage is supported ({@code GL_ARB_buffer_storage} or OpenGL 4.4), the buffer is split into {@value #REGION_COUNT}
+ * regions, persistently and coherently mapped once, and handed out in aligned sub-ranges; reuse of a region is guarded by a fence
+ * inserted when its frame ended (see {@link StreamingRing}). Otherwise, the buffer is orphaned with {@code glBufferData(null)}
+ * whenever it fills up or a frame ends, and each range is mapped with {@code MAP_INVALIDATE_RANGE}, which requires
+ * {@code GL_ARB_map_buffer_range} or OpenGL 3.0.
+ * <p>
+ * Usage per range is {@link #map(int, int)}, writing into the returned buffer, {@link #unmap()} and then drawing from
+ * {@link #getOffset()}. {@link #endFrame()} must be called once per frame, after the draws using this buffer.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class StreamingBuffer {
+    /**
+     * The amount of frames in flight when persistently mapped.
+     */
+    public static final int REGION_COUNT = 3;
+
+    private static final int REGION_ALIGNMENT = 256; // Covers GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT on common hardware
+
+    private final int target;
+
+    /**
+     * -- GETTER --
+     *  Returns the buffer object name.
+     */
+    @Getter
+    private final int buffer;
+
+    /**
+     * -- GETTER --
+     *  Returns whether the buffer is persistently mapped, rather than orphaned.
+     */
+    @Getter
+    private final boolean persistent;
+
+    @Nullable
+    private final StreamingRing ring; // Persistent only
+    private final long size;
+
+    @Nullable
+    private ByteBuffer persistentMapping;
+
+    private long orphanOffset; // Fallback only; offset of the next range since the last orphan
+    private boolean orphanPending = true;
+    private boolean mapped;
+
+    /**
+     * -- GETTER --
+     *  Returns the offset of the last mapped range from the start of the buffer, e.g. for {@code glVertexPointer}.
+     */
+    @Getter
+    private long offset;
+
+    /**
+     * Creates a streaming buffer for the current context.
+     *
+     * @param target The buffer target, e.g. {@code GL_ARRAY_BUFFER}.
+     * @param frameSize The amount of bytes which may be streamed per frame.
+     *
+     * @throws IllegalStateException If neither buffer storage nor map buffer range is supported.
+     * @throws IllegalArgumentException If the frame size is not positive, or the whole buffer would exceed 2GB.
+     */
+    public StreamingBuffer(int target, long frameSize) {
+        this(target, frameSize, GLFenceProvider.INSTANCE);
+    }
+
+    /**
+     * Creates a streaming buffer for the current context.
+     *
+     * @param target The buffer target, e.g. {@code GL_ARRAY_BUFFER}.
+     * @param frameSize The amount of bytes which may be streamed per frame.
+     * @param fenceProvider The provider of fences guarding region reuse.
+     *
+     * @throws IllegalStateException If neither buffer storage nor map buffer range is supported.
+     */
+    public StreamingBuffer(int target, long frameSize, FenceProvider fenceProvider) {
+        GLCapabilities capabilities = GL.getCapabilities();
+        if (!capabilities.OpenGL30 && !capabilities.GL_ARB_map_buffer_range) {
+            throw new IllegalStateException("Streaming buffers require GL_ARB_map_buffer_range or OpenGL 3.0.");
+        }
+
+        long regionSize = ((frameSize + REGION_ALIGNMENT - 1) / REGION_ALIGNMENT) * REGION_ALIGNMENT;
+        this.target = target;
+        this.persistent = capabilities.OpenGL44 || capabilities.GL_ARB_buffer_storage;
+
+        long size = this.persistent ? REGION_COUNT * regionSize : regionSize;
+        if (frameSize <= 0L || size > Integer.MAX_VALUE) { // Ranges are handed out as ByteBuffers, which are indexed by int
+            throw new IllegalArgumentException("Cannot stream " + frameSize + " bytes per frame; the buffer must hold between 1 byte and 2GB.");
+        }
+        this.ring = this.persistent ? new StreamingRing(REGION_COUNT, regionSize, fenceProvider) : null;
+        this.size = size;
+
+        this.buffer = glGenBuffers();
+        glBindBuffer(target, this.buffer);
+        if (this.persistent) {
+            int flags = GL_MAP_WRITE_BIT | GL_MAP_PERSISTENT_BIT | GL_MAP_COHERENT_BIT;
+            glBufferStorage(target, this.size, flags);
+            this.persistentMapping = Objects.requireNonNull(glMapBufferRange(target, 0L, this.size, flags), "Failed to map streaming buffer.");
+        } else {
+            glBufferData(target, this.size, GL_STREAM_DRAW);
+        }
+    }
+
+    /**
+     * Maps a range for writing. The buffer is bound to its target.
+     *
+     * @param size The size of the range, in bytes.
+     * @param alignment The alignment of the range's offset, in bytes, e.g. the vertex stride.
+     * @return A buffer of {@code size} bytes to write the data into, starting at position zero.
+     *
+     * @throws IllegalStateException If a range is already mapped.
+     */
+    public ByteBuffer map(int size, int alignment) {
+        if (this.mapped) {
+            throw new IllegalStateException("A range is already mapped.");
+        }
+
+        glBindBuffer(this.target, this.buffer);
+        if (this.persistent) {
+            this.offset = Objects.requireNonNull(this.ring).allocate(size, alignment);
+            this.mapped = true;
+            return Objects.requireNonNull(this.persistentMapping).slice((int) this.offset, size);
+        }
+
+        long offset = ((this.orphanOffset + alignment - 1) / alignment) * alignment;
+        if (this.orphanPending || offset + size > this.size) {
+            if (size > this.size) {
+                throw new IllegalArgumentException("Cannot map " + size + " bytes from a buffer of " + this.size + " bytes.");
+            }
+            glBufferData(this.target, this.size, GL_STREAM_DRAW); // Orphan; the driver keeps the old storage alive for pending draws
+            this.orphanPending = false;
+            offset = 0L;
+        }
+
+        ByteBuffer range = Objects.requireNonNull(glMapBufferRange(this.target, offset, size,
+                GL_MAP_WRITE_BIT | GL_MAP_INVALIDATE_RANGE_BIT | GL_MAP_UNSYNCHRONIZED_BIT), "Failed to map streaming buffer range.");
+        this.orphanOffset = offset + size;
+        this.offset = offset;
+        this.mapped = true;
+        return range;
+    }
+
+    /**
+     * Finishes writing the mapped range. The buffer must still be bound to its target.
+     */
+    public void unmap() {
+        if (!this.mapped) {
+            return;
+        }
+
+        if (!this.persistent) {
+            glUnmapBuffer(this.target);
+        }
+        this.mapped = false;
+    }
+
+    /**
+     * Ends the frame. This must be called after the draws using this frame's ranges have been issued.
+     */
+    public void endFrame() {
+        this.unmap();
+        if (this.ring != null) {
+            this.ring.endFrame();
+        } else {
+            this.orphanPending = true;
+        }
+    }
+
+    /**
+     * Returns the amount of times mapping had to wait on the GPU.
+     *
+     * @return The amount of stalls.
+     */
+    public long getStalls() {
+        return this.ring != null ? this.ring.getStalls() : 0L; // Orphaning never waits
+    }
+
+    /**
+     * Deletes the buffer and any outstanding fences.
+     */
+    public void destroy() {
+        glBindBuffer(this.target, this.buffer);
+        if (this.persistent || this.mapped) {
+            glUnmapBuffer(this.target);
+        }
+        glBindBuffer(this.target, 0);
+
+        if (this.ring != null) {
+            this.ring.reset();
+        }
+        glDeleteBuffers(this.buffer);
+        this.persistentMapping = null;
+        this.mapped = false;
+    }
+}
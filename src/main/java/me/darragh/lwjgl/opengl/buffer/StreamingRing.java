@@ -0,0 +1,158 @@
+package me.darragh.lwjgl.opengl.buffer;
+
+import lombok.Getter;
+import me.darragh.lwjgl.opengl.fence.FenceProvider;
+
+/**
+ * The region and fence bookkeeping of a {@link StreamingBuffer}, independent of OpenGL.
+ * <p>
+ * The buffer is split into equally sized regions, one per frame in flight. Allocations are made linearly within the current
+ * region. When a frame ends, or the current region is full, the region is fenced and the next one is entered, waiting for its
+ * previous fence first so that data the GPU may still be reading is never overwritten.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class StreamingRing {
+    private final FenceProvider fenceProvider;
+    private final long[] regionFences;
+
+    @Getter
+    private final int regionCount;
+
+    @Getter
+    private final long regionSize;
+
+    /**
+     * -- GETTER --
+     *  Returns the index of the region currently being allocated from.
+     */
+    @Getter
+    private int region;
+
+    private long regionOffset; // Offset of the next allocation within the current region
+    private boolean regionFenced = true; // Whether the current region's previous fence has been waited on
+
+    /**
+     * -- GETTER --
+     *  Returns the amount of times an allocation had to wait on the GPU, i.e. all regions were still in use.
+     */
+    @Getter
+    private long stalls;
+
+    /**
+     * Creates a ring.
+     *
+     * @param regionCount The amount of regions, e.g. three for triple buffering.
+     * @param regionSize The size of each region, in bytes.
+     * @param fenceProvider The provider of fences guarding region reuse.
+     */
+    public StreamingRing(int regionCount, long regionSize, FenceProvider fenceProvider) {
+        if (regionCount <= 0 || regionSize <= 0L) {
+            throw new IllegalArgumentException("A streaming ring requires at least one region of a positive size.");
+        }
+
+        this.fenceProvider = fenceProvider;
+        this.regionCount = regionCount;
+        this.regionSize = regionSize;
+        this.regionFences = new long[regionCount];
+    }
+
+    /**
+     * Allocates a range from the current region, moving onto the next region if it does not fit.
+     * <p>
+     * The offset is aligned from the start of the buffer rather than the region, so alignments which do not divide the region
+     * size, such as a vertex stride of 12 or 24 bytes, hold in every region. The padding this needs at the start of a region
+     * is at most {@code alignment - gcd(regionSize, alignment)} bytes, which a range must leave room for.
+     *
+     * @param size The size of the range, in bytes.
+     * @param alignment The alignment of the range's offset, in bytes.
+     * @return The offset of the range from the start of the buffer.
+     *
+     * @throws IllegalArgumentException If the range can never fit within a region.
+     */
+    public long allocate(long size, int alignment) {
+        if (size <= 0L || alignment <= 0 || size + alignment - gcd(this.regionSize, alignment) > this.regionSize) {
+            throw new IllegalArgumentException("Cannot allocate " + size + " bytes aligned to " + alignment + " from regions of " + this.regionSize + " bytes.");
+        }
+
+        long offset = this.alignedOffset(this.regionOffset, alignment);
+        if (offset + size > this.regionSize) {
+            this.advance();
+            offset = this.alignedOffset(0L, alignment);
+        }
+
+        this.awaitRegion();
+        this.regionOffset = offset + size;
+        return this.region * this.regionSize + offset;
+    }
+
+    /**
+     * Ends the frame, fencing the current region if anything was allocated from it and moving onto the next.
+     */
+    public void endFrame() {
+        if (this.regionOffset > 0L) {
+            this.advance();
+        }
+    }
+
+    /**
+     * Deletes all outstanding fences. The ring may be reused afterwards, starting from the first region.
+     */
+    public void reset() {
+        for (int i = 0; i < this.regionCount; i++) {
+            this.fenceProvider.delete(this.regionFences[i]);
+            this.regionFences[i] = 0L;
+        }
+        this.region = 0;
+        this.regionOffset = 0L;
+        this.regionFenced = true;
+    }
+
+    /**
+     * Fences the current region and moves onto the next.
+     */
+    private void advance() {
+        this.regionFences[this.region] = this.fenceProvider.create();
+        this.region = (this.region + 1) % this.regionCount;
+        this.regionOffset = 0L;
+        this.regionFenced = false;
+    }
+
+    /**
+     * Waits for the GPU to finish with the current region, if not already done.
+     */
+    private void awaitRegion() {
+        if (this.regionFenced) {
+            return;
+        }
+
+        long fence = this.regionFences[this.region];
+        if (!this.fenceProvider.isSignaled(fence)) {
+            this.stalls++;
+            this.fenceProvider.await(fence);
+        }
+        this.fenceProvider.delete(fence);
+        this.regionFences[this.region] = 0L;
+        this.regionFenced = true;
+    }
+
+    /**
+     * Returns the first offset within the current region, from the given one, whose offset from the start of the buffer is a
+     * multiple of the alignment.
+     */
+    private long alignedOffset(long regionOffset, int alignment) {
+        long offset = this.region * this.regionSize + regionOffset;
+        long remainder = offset % alignment;
+        return remainder == 0L ? regionOffset : regionOffset + alignment - remainder;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0L) {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,34 @@
+package me.darragh.lwjgl.opengl.error;
+
+/**
+ * Determines how {@code Display.update()} checks for OpenGL errors.
+ * <p>
+ * {@code glGetError} forces a round trip to the driver, which can stall the pipeline, so production builds should prefer
+ * {@link #NEVER} or {@link #DEBUG_OUTPUT}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public enum ErrorCheckPolicy {
+    /**
+     * Errors are never checked.
+     */
+    NEVER,
+
+    /**
+     * Errors are checked once every {@code Config.GL_ERROR_CHECK_INTERVAL} frames.
+     */
+    INTERVAL,
+
+    /**
+     * Errors are never polled; they are only counted as reported by the {@code Display.setDebugOutput} callback.
+     * <p>
+     * This requires a debug context, see {@code Config.GL_CONTEXT_DEBUG}.
+     */
+    DEBUG_OUTPUT,
+
+    /**
+     * Errors are checked every frame. This is the historical behaviour.
+     */
+    ALWAYS
+}
@@ -0,0 +1,107 @@
+package me.darragh.lwjgl.opengl.error;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accumulates OpenGL error counts observed by the display.
+ * <p>
+ * Counters are atomic, as the debug output callback may be invoked from a driver thread unless
+ * {@code GL_DEBUG_OUTPUT_SYNCHRONOUS} is enabled.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class ErrorMetrics {
+    private final AtomicLong checks = new AtomicLong(),
+            errors = new AtomicLong(),
+            debugErrors = new AtomicLong(),
+            debugMessages = new AtomicLong();
+
+    private final AtomicInteger lastError = new AtomicInteger();
+
+    /**
+     * Records a {@code glGetError} check.
+     */
+    public void recordCheck() {
+        this.checks.incrementAndGet();
+    }
+
+    /**
+     * Records an error returned by {@code glGetError}.
+     *
+     * @param error The error code.
+     */
+    public void recordError(int error) {
+        this.errors.incrementAndGet();
+        this.lastError.set(error);
+    }
+
+    /**
+     * Records a message received through the debug output callback.
+     *
+     * @param error Whether the message is of type {@code GL_DEBUG_TYPE_ERROR}.
+     */
+    public void recordDebugMessage(boolean error) {
+        this.debugMessages.incrementAndGet();
+        if (error) {
+            this.debugErrors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Retrieves the amount of {@code glGetError} checks performed.
+     *
+     * @return The amount of checks.
+     */
+    public long getChecks() {
+        return this.checks.get();
+    }
+
+    /**
+     * Retrieves the amount of errors returned by {@code glGetError}.
+     *
+     * @return The amount of errors.
+     */
+    public long getErrors() {
+        return this.errors.get();
+    }
+
+    /**
+     * Retrieves the amount of error messages received through the debug output callback.
+     *
+     * @return The amount of debug errors.
+     */
+    public long getDebugErrors() {
+        return this.debugErrors.get();
+    }
+
+    /**
+     * Retrieves the amount of messages of any type received through the debug output callback.
+     *
+     * @return The amount of debug messages.
+     */
+    public long getDebugMessages() {
+        return this.debugMessages.get();
+    }
+
+    /**
+     * Retrieves the last error code returned by {@code glGetError}.
+     *
+     * @return The last error code, or {@code GL_NO_ERROR} if none has occurred.
+     */
+    public int getLastError() {
+        return this.lastError.get();
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public void reset() {
+        this.checks.set(0L);
+        this.errors.set(0L);
+        this.debugErrors.set(0L);
+        this.debugMessages.set(0L);
+        this.lastError.set(0);
+    }
+}
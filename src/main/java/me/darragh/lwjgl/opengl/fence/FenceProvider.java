@@ -0,0 +1,45 @@
+package me.darragh.lwjgl.opengl.fence;
+
+/**
+ * Creates and queries GPU fences.
+ * <p>
+ * This abstracts sync objects away from OpenGL, so that code tracking fences can be driven by a fake provider without a GPU.
+ * A fence handle of zero is always treated as signalled.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public interface FenceProvider {
+    /**
+     * Inserts a fence after all previously submitted commands in the current context.
+     *
+     * @return The fence handle, or zero if the commands have already completed.
+     */
+    long create();
+
+    /**
+     * Checks whether a fence has been signalled, without blocking.
+     *
+     * @param fence The fence handle.
+     * @return Whether all commands preceding the fence have completed.
+     */
+    boolean isSignaled(long fence);
+
+    /**
+     * Blocks until a fence has been signalled.
+     *
+     * @param fence The fence handle.
+     */
+    default void await(long fence) {
+        while (!this.isSignaled(fence)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Deletes a fence.
+     *
+     * @param fence The fence handle. Zero is ignored.
+     */
+    void delete(long fence);
+}
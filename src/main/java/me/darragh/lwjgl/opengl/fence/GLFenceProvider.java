@@ -0,0 +1,68 @@
+package me.darragh.lwjgl.opengl.fence;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+import static org.lwjgl.opengl.GL11.glFinish;
+import static org.lwjgl.opengl.GL11.glFlush;
+import static org.lwjgl.opengl.GL32.*;
+
+/**
+ * Provides fences through OpenGL sync objects, i.e. {@code glFenceSync}.
+ * <p>
+ * Where sync objects are unsupported (neither OpenGL 3.2 nor {@code GL_ARB_sync}), {@link #create()} falls back to {@code glFinish}
+ * and returns zero, which is always signalled.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class GLFenceProvider implements FenceProvider {
+    /**
+     * A shared instance; this class holds no state.
+     */
+    public static final GLFenceProvider INSTANCE = new GLFenceProvider();
+
+    private static final long AWAIT_TIMEOUT = 1_000_000L; // 1ms per driver wait
+
+    @Override
+    public long create() {
+        GLCapabilities capabilities = GL.getCapabilities();
+        if (!capabilities.OpenGL32 && !capabilities.GL_ARB_sync) {
+            glFinish();
+            return 0L;
+        }
+
+        long fence = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        glFlush(); // Ensure the fence is submitted, so that waiting on it from another context cannot hang
+        return fence;
+    }
+
+    @Override
+    public boolean isSignaled(long fence) {
+        if (fence == 0L) {
+            return true;
+        }
+
+        int status = glClientWaitSync(fence, 0, 0L);
+        return status != GL_TIMEOUT_EXPIRED; // GL_WAIT_FAILED is treated as signalled, as it would otherwise never be
+    }
+
+    @Override
+    public void await(long fence) {
+        if (fence == 0L) {
+            return;
+        }
+
+        int flags = GL_SYNC_FLUSH_COMMANDS_BIT;
+        while (glClientWaitSync(fence, flags, AWAIT_TIMEOUT) == GL_TIMEOUT_EXPIRED) {
+            flags = 0; // Only the first wait needs to flush
+        }
+    }
+
+    @Override
+    public void delete(long fence) {
+        if (fence != 0L) {
+            glDeleteSync(fence);
+        }
+    }
+}
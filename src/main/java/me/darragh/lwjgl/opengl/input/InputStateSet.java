@@ -0,0 +1,69 @@
+package me.darragh.lwjgl.opengl.input;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A fixed-size bitset tracking which keys or buttons are currently held down.
+ * <p>
+ * This is written by the thread running the GLFW callbacks and may be read from any thread.
+ * There is only ever one writer, so bits can be updated without compare-and-set loops.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class InputStateSet {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+
+    /**
+     * Creates a set able to track the given amount of codes.
+     *
+     * @param size The amount of codes, i.e. the highest code plus one.
+     */
+    public InputStateSet(int size) {
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Returns whether the code is down.
+     *
+     * @param code The key or button code.
+     * @return Whether the code is down. Codes out of range are never down.
+     */
+    public boolean isDown(int code) {
+        int word = code >>> 6;
+        if (word >= this.words.length) { // Also rejects negative codes
+            return false;
+        }
+        return ((long) WORDS.getOpaque(this.words, word) & (1L << code)) != 0L;
+    }
+
+    /**
+     * Sets whether the code is down.
+     *
+     * @param code The key or button code.
+     * @param down Whether the code is down. Codes out of range are ignored.
+     *
+     * @apiNote Must only be called from the thread running the GLFW callbacks.
+     */
+    public void setDown(int code, boolean down) {
+        int word = code >>> 6;
+        if (word >= this.words.length) {
+            return;
+        }
+
+        long value = (long) WORDS.getOpaque(this.words, word);
+        WORDS.setOpaque(this.words, word, down ? value | (1L << code) : value & ~(1L << code));
+    }
+
+    /**
+     * Marks all codes as up.
+     */
+    public void clear() {
+        for (int word = 0; word < this.words.length; word++) {
+            WORDS.setOpaque(this.words, word, 0L);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package me.darragh.lwjgl.opengl.input.keyboard;
+
+import me.darragh.lwjgl.opengl.input.InputStateSet;
+import org.lwjgl.Sys;
+import org.lwjgl.input.Keyboard;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Translates a window's GLFW key and char callbacks into LWJGL2 key events.
+ * <p>
+ * GLFW reports a key and the character it types as two callbacks, whereas LWJGL2 reports them as one event. Presses and
+ * repeats of keys with a character are therefore held back until their char callback arrives, and then queued with it.
+ * <p>
+ * Used for the display window by {@link Keyboard}, and by each {@link org.lwjgl.opengl.DisplayInstance}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class KeyCallbackHandler {
+    private final KeyEventBuffer events;
+    private final InputStateSet keyDownStates;
+
+    private boolean cancelNextChar;
+
+    // Press/repeat event delayed until its char event arrives; kept as primitives to avoid allocating per key press
+    private boolean ingredientPending, ingredientOutOfOrder;
+    private int ingredientKey;
+    private KeyState ingredientState = KeyState.PRESS;
+    private long ingredientTime;
+
+    /**
+     * Creates a handler writing into the given event queue and key states.
+     *
+     * @param events The queue to add key events to.
+     * @param keyDownStates The key states to update, regardless of whether the event itself is queued.
+     */
+    public KeyCallbackHandler(KeyEventBuffer events, InputStateSet keyDownStates) {
+        this.events = events;
+        this.keyDownStates = keyDownStates;
+    }
+
+    /**
+     * Handles a GLFW key callback.
+     *
+     * @param key The GLFW key code.
+     * @param action The GLFW action.
+     * @param mods The modifiers that were pressed.
+     *
+     * @apiNote Must only be called from the thread running the GLFW callbacks.
+     */
+    public void onKey(int key, int action, int mods) {
+        int lwjglKey = KeyCodeUtil.toLwjgl(key);
+        if (lwjglKey != Keyboard.KEY_NONE) { // Unmapped keys
+            this.keyDownStates.setDown(lwjglKey, action != GLFW_RELEASE);
+        }
+
+        this.cancelNextChar = false;
+        if (key > GLFW_KEY_SPACE && key <= GLFW_KEY_GRAVE_ACCENT) { // Handle keys have a char - we exclude space to avoid extra input when switching IME
+            if ((GLFW_MOD_CONTROL & mods) != 0 && (GLFW_MOD_ALT & mods) == 0) { // Handle Ctrl + X/C/V
+                this.events.add(lwjglKey, (char) (key & 0x1F), toState(action), Sys.getNanoTime(), false);
+                this.cancelNextChar = true; // Cancel char event from Ctrl key event since it is handled here
+            } else if (action > 0) { // Delay press and repeat key event to actual char input; there is always a following char
+                this.ingredientPending = true;
+                this.ingredientOutOfOrder = false;
+                this.ingredientKey = lwjglKey;
+                this.ingredientState = action > 1 ? KeyState.REPEAT : KeyState.PRESS;
+                this.ingredientTime = Sys.getNanoTime();
+            } else { // Release event
+                if (this.ingredientPending && this.ingredientKey == lwjglKey) {
+                    this.ingredientOutOfOrder = true;
+                }
+                this.events.add(lwjglKey, '\0', KeyState.RELEASE, Sys.getNanoTime(), false);
+            }
+        } else { // Other key with no char event associated
+            char mappedChar = switch (key) {
+                case GLFW_KEY_ENTER -> 0x0D;
+                case GLFW_KEY_ESCAPE -> 0x1B;
+                case GLFW_KEY_TAB -> 0x09;
+                case GLFW_KEY_BACKSPACE -> 0x08;
+                default -> '\0';
+            };
+            this.events.add(lwjglKey, mappedChar, toState(action), Sys.getNanoTime(), false);
+        }
+    }
+
+    /**
+     * Handles a GLFW char callback.
+     *
+     * @param codepoint The Unicode code point of the character.
+     *
+     * @apiNote Must only be called from the thread running the GLFW callbacks.
+     */
+    public void onChar(int codepoint) {
+        if (this.cancelNextChar) { // Char event being cancelled
+            this.cancelNextChar = false;
+        } else if (this.ingredientPending) {
+            // Send char with ASCII key event here
+            this.events.add(this.ingredientKey, (char) codepoint, this.ingredientState, this.ingredientTime, this.ingredientOutOfOrder);
+            if (this.ingredientOutOfOrder) {
+                this.events.add(this.ingredientKey, (char) codepoint, KeyState.RELEASE, this.ingredientTime, true);
+            }
+            this.ingredientPending = false;
+        } else {
+            this.events.add(Keyboard.KEY_NONE, (char) codepoint, KeyState.PRESS, Sys.getNanoTime(), false); // Non-ASCII chars
+        }
+    }
+
+    private static KeyState toState(int action) {
+        return switch (action) {
+            case GLFW_RELEASE -> KeyState.RELEASE;
+            case GLFW_REPEAT -> KeyState.REPEAT;
+            default -> KeyState.PRESS;
+        };
+    }
+}
@@ -12,6 +12,20 @@ import org.lwjgl.input.Keyboard;
  */
 @UtilityClass
 public class KeyCodeUtil {
+    // Dense lookup tables generated from the mappings below, so that conversion is a bounds check plus an array load
+    private static final short[] GLFW_TO_LWJGL = new short[GLFW.GLFW_KEY_LAST + 1];
+    private static final short[] LWJGL_TO_GLFW = new short[Keyboard.KEYBOARD_SIZE];
+
+    static {
+        for (int keyCode = 0; keyCode < GLFW_TO_LWJGL.length; keyCode++) {
+            GLFW_TO_LWJGL[keyCode] = (short) mapToLwjgl(keyCode);
+        }
+
+        for (int keyCode = 0; keyCode < LWJGL_TO_GLFW.length; keyCode++) {
+            LWJGL_TO_GLFW[keyCode] = (short) mapToGlfw(keyCode);
+        }
+    }
+
     /**
      * Converts a GLFW key code to a LWJGL key code.
      *
@@ -23,6 +37,36 @@ public class KeyCodeUtil {
             return keyCode;
         }
 
+        if (keyCode >= 0) {
+            return GLFW_TO_LWJGL[keyCode];
+        }
+        return keyCode == GLFW.GLFW_KEY_UNKNOWN ? Keyboard.KEY_UNLABELED : Keyboard.KEY_NONE;
+    }
+
+    /**
+     * Converts a LWJGL key code to a GLFW key code.
+     *
+     * @param keyCode The LWJGL key code.
+     * @return The GLFW key code.
+     */
+    public static int toGlfw(int keyCode) {
+        if (keyCode > GLFW.GLFW_KEY_LAST) {
+            return keyCode;
+        }
+
+        if (keyCode >= 0 && keyCode < LWJGL_TO_GLFW.length) {
+            return LWJGL_TO_GLFW[keyCode];
+        }
+        return GLFW.GLFW_KEY_UNKNOWN; // No LWJGL key codes exist outside the table
+    }
+
+    /**
+     * Maps a GLFW key code to a LWJGL key code. Used to generate the lookup table, and by tests to check it.
+     *
+     * @param keyCode The GLFW key code.
+     * @return The LWJGL key code.
+     */
+    static int mapToLwjgl(int keyCode) {
         return switch (keyCode) {
             case GLFW.GLFW_KEY_UNKNOWN -> Keyboard.KEY_UNLABELED;
             case GLFW.GLFW_KEY_ESCAPE -> Keyboard.KEY_ESCAPE;
@@ -142,16 +186,12 @@ public class KeyCodeUtil {
     }
 
     /**
-     * Converts a LWJGL key code to a GLFW key code.
+     * Maps a LWJGL key code to a GLFW key code. Used to generate the lookup table, and by tests to check it.
      *
      * @param keyCode The LWJGL key code.
      * @return The GLFW key code.
      */
-    public static int toGlfw(int keyCode) {
-        if (keyCode > GLFW.GLFW_KEY_LAST) {
-            return keyCode;
-        }
-
+    static int mapToGlfw(int keyCode) {
         return switch (keyCode) {
             case Keyboard.KEY_NONE -> 0;
             case Keyboard.KEY_ESCAPE -> GLFW.GLFW_KEY_ESCAPE;
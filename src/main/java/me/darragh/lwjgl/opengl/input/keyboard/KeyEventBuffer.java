@@ -0,0 +1,136 @@
+package me.darragh.lwjgl.opengl.input.keyboard;
+
+import me.darragh.lwjgl.Config;
+import me.darragh.lwjgl.event.EventQueue;
+import org.lwjgl.Sys;
+
+/**
+ * A queue of key events for one window, stored as a struct of arrays indexed by an {@link EventQueue} so that enqueuing and
+ * reading events does not allocate.
+ * <p>
+ * The read position always holds the current event, which is why the first slot is populated with a dummy release.
+ * This backs {@link org.lwjgl.input.Keyboard} for the display window, and each {@link org.lwjgl.opengl.DisplayInstance}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class KeyEventBuffer {
+    private static final KeyState[] KEY_STATES = KeyState.values();
+
+    private final EventQueue queue = EventQueue.create(Config.INPUT_KEYBOARD_QUEUE_SIZE, Config.INPUT_KEYBOARD_OVERFLOW_POLICY);
+    private final int[] keys = new int[this.queue.getMaxCapacity()];
+    private final char[] chars = new char[this.queue.getMaxCapacity()];
+    private final byte[] states = new byte[this.queue.getMaxCapacity()];
+    private final long[] timings = new long[this.queue.getMaxCapacity()];
+    private final boolean[] outOfOrder = new boolean[this.queue.getMaxCapacity()];
+
+    private volatile boolean repeatEvents;
+
+    public KeyEventBuffer() {
+        this.states[this.queue.getReadPosition()] = (byte) KeyState.RELEASE.ordinal();
+        this.timings[this.queue.getReadPosition()] = Sys.getNanoTime();
+    }
+
+    /**
+     * Enqueues a key event, unless it is a repeat and repeat events are disabled.
+     *
+     * @param key The LWJGL key code.
+     * @param keyChar The character that was pressed.
+     * @param state The state of the key.
+     * @param timePressed The time the event occurred in nanoseconds.
+     * @param outOfOrder Whether the release is out of order.
+     */
+    public void add(int key, char keyChar, KeyState state, long timePressed, boolean outOfOrder) {
+        if (state == KeyState.REPEAT && !this.repeatEvents) {
+            return;
+        }
+
+        this.enqueue(key, keyChar, state, timePressed, outOfOrder);
+    }
+
+    /**
+     * Writes an event into the next slot and pushes it, regardless of whether repeat events are enabled.
+     * <p>
+     * When the queue is full, the configured {@link Config#INPUT_KEYBOARD_OVERFLOW_POLICY} decides whether the oldest or this event is dropped.
+     *
+     * @param key The LWJGL key code.
+     * @param keyChar The character that was pressed.
+     * @param state The state of the key.
+     * @param timePressed The time the event occurred in nanoseconds.
+     * @param outOfOrder Whether the release is out of order.
+     */
+    public void enqueue(int key, char keyChar, KeyState state, long timePressed, boolean outOfOrder) {
+        int position = this.queue.getWritePosition();
+        this.keys[position] = key;
+        this.chars[position] = keyChar;
+        this.states[position] = (byte) state.ordinal();
+        this.timings[position] = timePressed;
+        this.outOfOrder[position] = outOfOrder;
+        this.queue.push();
+    }
+
+    /**
+     * Moves on to the next event in the queue.
+     *
+     * @return Whether there are more events in the queue.
+     */
+    public boolean next() {
+        return this.queue.next();
+    }
+
+    /**
+     * Returns the number of queued events.
+     *
+     * @return The number of queued events.
+     */
+    public int getCurrentCount() {
+        return this.queue.getCurrentCount();
+    }
+
+    /**
+     * Returns the amount of events dropped due to the queue being full.
+     *
+     * @return The amount of dropped events.
+     */
+    public long getDroppedCount() {
+        return this.queue.getDroppedCount();
+    }
+
+    /**
+     * Sets whether repeat events are queued.
+     *
+     * @param enable Whether to enable repeat events.
+     */
+    public void enableRepeatEvents(boolean enable) {
+        this.repeatEvents = enable;
+    }
+
+    /**
+     * Returns whether repeat events are queued.
+     *
+     * @return Whether repeat events are enabled.
+     */
+    public boolean areRepeatEventsEnabled() {
+        return this.repeatEvents;
+    }
+
+    public int getEventKey() {
+        return this.keys[this.queue.getReadPosition()];
+    }
+
+    public char getEventCharacter() {
+        return this.chars[this.queue.getReadPosition()];
+    }
+
+    public KeyState getEventState() {
+        return KEY_STATES[this.states[this.queue.getReadPosition()]];
+    }
+
+    public long getEventNanoseconds() {
+        return this.timings[this.queue.getReadPosition()];
+    }
+
+    public boolean isEventOutOfOrder() {
+        return this.outOfOrder[this.queue.getReadPosition()];
+    }
+}
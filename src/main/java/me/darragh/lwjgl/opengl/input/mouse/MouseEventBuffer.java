@@ -0,0 +1,219 @@
+package me.darragh.lwjgl.opengl.input.mouse;
+
+import me.darragh.lwjgl.event.EventQueue;
+import me.darragh.lwjgl.event.OverflowPolicy;
+
+/**
+ * A queue of mouse events for one window, stored as a struct of arrays indexed by an {@link EventQueue} so that enqueuing and
+ * reading events does not allocate.
+ * <p>
+ * The read position always holds the current event. {@link MouseEvent} records are only created on request through
+ * {@link #getEventSnapshot()}. This backs {@link org.lwjgl.input.Mouse} for the display window, and each {@link org.lwjgl.opengl.DisplayInstance}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class MouseEventBuffer {
+    private static final MouseEventType[] TYPES = MouseEventType.values();
+
+    private final EventQueue queue;
+    private final byte[] types;
+    private final double[] x, y;
+    private final int[] prevX, prevY;
+    private final int[] buttons;
+    private final boolean[] buttonStates;
+    private final double[] scrollX, scrollY;
+    private final long[] timings, firstTimings;
+
+    /**
+     * Whether the write slot holds a coalesced move event which has not been pushed yet.
+     * <p>
+     * The slot is not visible to the reader until it is pushed, so it can be safely updated in place by the producer.
+     */
+    private boolean pendingMove;
+
+    /**
+     * Creates a buffer backed by the queue selected by {@link me.darragh.lwjgl.Config#INPUT_LOCK_FREE_QUEUES}.
+     *
+     * @param capacity The amount of slots in the backing arrays.
+     * @param overflowPolicy The policy to apply when the queue is full.
+     */
+    public MouseEventBuffer(int capacity, OverflowPolicy overflowPolicy) {
+        this.queue = EventQueue.create(capacity, overflowPolicy);
+        int slots = this.queue.getMaxCapacity();
+        this.types = new byte[slots];
+        this.x = new double[slots];
+        this.y = new double[slots];
+        this.prevX = new int[slots];
+        this.prevY = new int[slots];
+        this.buttons = new int[slots];
+        this.buttonStates = new boolean[slots];
+        this.scrollX = new double[slots];
+        this.scrollY = new double[slots];
+        this.timings = new long[slots];
+        this.firstTimings = new long[slots];
+    }
+
+    /**
+     * Writes an event into the next slot and pushes it, after any pending coalesced move event.
+     *
+     * @param type The type of the event.
+     * @param x The x position of the mouse.
+     * @param y The y position of the mouse.
+     * @param prevX The x position of the previous event, from which {@link #getEventDX()} is measured.
+     * @param prevY The y position of the previous event, from which {@link #getEventDY()} is measured.
+     * @param button The button, or -1 if none.
+     * @param state Whether the button was pressed.
+     * @param scrollX The x scroll offset.
+     * @param scrollY The y scroll offset.
+     * @param time The time the event occurred in nanoseconds.
+     */
+    public void enqueue(MouseEventType type, double x, double y, int prevX, int prevY, int button, boolean state, double scrollX, double scrollY, long time) {
+        this.flush(); // Preserve ordering with any pending coalesced move
+        this.write(type, x, y, prevX, prevY, button, state, scrollX, scrollY, time);
+        this.queue.push();
+    }
+
+    /**
+     * Merges a move event into the pending move event, or starts a new one.
+     * <p>
+     * The merged event keeps the previous position of the first event and the position of the last, so its delta is the sum of all merged deltas.
+     * {@link #getEventNanoseconds()} reports the time of the last merged event and {@link #getEventFirstNanoseconds()} that of the first.
+     *
+     * @param x The x position of the mouse.
+     * @param y The y position of the mouse.
+     * @param prevX The x position of the previous event; only used when starting a new event.
+     * @param prevY The y position of the previous event; only used when starting a new event.
+     * @param time The time the event occurred in nanoseconds.
+     */
+    public void coalesceMove(double x, double y, int prevX, int prevY, long time) {
+        if (!this.pendingMove) {
+            this.write(MouseEventType.MOVE, x, y, prevX, prevY, -1, false, 0, 0, time);
+            this.pendingMove = true;
+            return;
+        }
+
+        int position = this.queue.getWritePosition();
+        this.x[position] = x;
+        this.y[position] = y;
+        this.timings[position] = time;
+    }
+
+    /**
+     * Publishes the pending coalesced move event, if any.
+     *
+     * @apiNote Must be called from the thread producing events.
+     */
+    public void flush() {
+        if (this.pendingMove) {
+            this.pendingMove = false;
+            this.queue.push();
+        }
+    }
+
+    /**
+     * Writes an event into the write slot without pushing it.
+     */
+    private void write(MouseEventType type, double x, double y, int prevX, int prevY, int button, boolean state, double scrollX, double scrollY, long time) {
+        int position = this.queue.getWritePosition();
+        this.types[position] = (byte) type.ordinal();
+        this.x[position] = x;
+        this.y[position] = y;
+        this.prevX[position] = prevX;
+        this.prevY[position] = prevY;
+        this.buttons[position] = button;
+        this.buttonStates[position] = state;
+        this.scrollX[position] = scrollX;
+        this.scrollY[position] = scrollY;
+        this.timings[position] = this.firstTimings[position] = time;
+    }
+
+    /**
+     * Moves on to the next event in the queue.
+     *
+     * @return Whether there are more events in the queue.
+     */
+    public boolean next() {
+        return this.queue.next();
+    }
+
+    /**
+     * Returns the number of queued events.
+     *
+     * @return The number of queued events.
+     */
+    public int getCurrentCount() {
+        return this.queue.getCurrentCount();
+    }
+
+    /**
+     * Returns the amount of events dropped due to the queue being full.
+     *
+     * @return The amount of dropped events.
+     */
+    public long getDroppedCount() {
+        return this.queue.getDroppedCount();
+    }
+
+    public MouseEventType getEventType() {
+        return TYPES[this.types[this.queue.getReadPosition()]];
+    }
+
+    public double getEventX() {
+        return this.x[this.queue.getReadPosition()];
+    }
+
+    public double getEventY() {
+        return this.y[this.queue.getReadPosition()];
+    }
+
+    public int getEventDX() {
+        int position = this.queue.getReadPosition();
+        return (int) (this.x[position] - this.prevX[position]);
+    }
+
+    public int getEventDY() {
+        int position = this.queue.getReadPosition();
+        return (int) (this.y[position] - this.prevY[position]);
+    }
+
+    public int getEventButton() {
+        return this.buttons[this.queue.getReadPosition()];
+    }
+
+    public boolean getEventButtonState() {
+        return this.buttonStates[this.queue.getReadPosition()];
+    }
+
+    public double getEventScrollX() {
+        return this.scrollX[this.queue.getReadPosition()];
+    }
+
+    public double getEventScrollY() {
+        return this.scrollY[this.queue.getReadPosition()];
+    }
+
+    public long getEventNanoseconds() {
+        return this.timings[this.queue.getReadPosition()];
+    }
+
+    public long getEventFirstNanoseconds() {
+        return this.firstTimings[this.queue.getReadPosition()];
+    }
+
+    /**
+     * Returns a snapshot of the current event as a record.
+     *
+     * @return A snapshot of the current event.
+     *
+     * @implNote This allocates a new record per call. Prefer the primitive getters on hot paths.
+     */
+    public MouseEvent getEventSnapshot() {
+        int position = this.queue.getReadPosition();
+        return switch (this.getEventType()) {
+            case MOVE -> new MouseMoveEvent(this.x[position], this.y[position]);
+            case BUTTON -> new MouseButtonEvent(this.buttons[position], this.buttonStates[position]);
+            case SCROLL -> new MouseScrollEvent(this.scrollX[position], this.scrollY[position]);
+        };
+    }
+}
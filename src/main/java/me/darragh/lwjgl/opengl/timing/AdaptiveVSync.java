@@ -0,0 +1,130 @@
+package me.darragh.lwjgl.opengl.timing;
+
+import lombok.Getter;
+
+/**
+ * Decides the swap interval for adaptive VSync from measured frame times.
+ * <p>
+ * While frames fit within the refresh interval, VSync is enabled. Once {@code missFrames} consecutive frames miss a refresh, VSync is
+ * disabled (using adaptive tearing where supported) and the software limiter is used instead, so late frames are presented
+ * immediately rather than waiting for the next refresh. VSync is only enabled again once {@code recoverFrames} consecutive frames
+ * fit within the refresh interval with headroom to spare, which prevents flapping around the boundary.
+ * <p>
+ * The time of a frame is measured between the ends of consecutive buffer swaps, so it includes the swap itself, where the driver
+ * blocks once the GPU falls behind. Time deliberately spent waiting in a limiter is excluded, so frames can be seen to fit again
+ * while the software limiter caps the frame rate. While synced, a fitting frame takes one refresh interval, as the swap waits for
+ * the next refresh, and a late one at least two; frames are therefore only counted as late beyond {@link #MISS_THRESHOLD} intervals.
+ * <p>
+ * This class holds no references to GLFW or OpenGL, and may be driven with synthetic frame times.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class AdaptiveVSync {
+    private static final int DEFAULT_MISS_FRAMES = 3,
+            DEFAULT_RECOVER_FRAMES = 120;
+
+    /**
+     * The amount of refresh intervals a synced frame must exceed to count as late, absorbing the jitter of the swap's wait.
+     */
+    static final double MISS_THRESHOLD = 1.5;
+    private static final double RECOVER_HEADROOM = 0.85; // Frames must fit within this fraction of the refresh interval to recover
+
+    private final long refreshInterval;
+    private final boolean tearSupported;
+    private final int missFrames, recoverFrames;
+
+    /**
+     * -- GETTER --
+     *  Returns whether VSync is currently enabled.
+     */
+    @Getter
+    private boolean synced = true;
+
+    private int consecutiveMisses, consecutiveFits;
+
+    /**
+     * Creates a controller with the default hysteresis.
+     *
+     * @param refreshInterval The refresh interval of the monitor, in nanoseconds.
+     * @param tearSupported Whether a negative swap interval is supported, i.e. {@code WGL/GLX_EXT_swap_control_tear}.
+     */
+    public AdaptiveVSync(long refreshInterval, boolean tearSupported) {
+        this(refreshInterval, tearSupported, DEFAULT_MISS_FRAMES, DEFAULT_RECOVER_FRAMES);
+    }
+
+    /**
+     * Creates a controller.
+     *
+     * @param refreshInterval The refresh interval of the monitor, in nanoseconds.
+     * @param tearSupported Whether a negative swap interval is supported, i.e. {@code WGL/GLX_EXT_swap_control_tear}.
+     * @param missFrames The amount of consecutive late frames before disabling VSync.
+     * @param recoverFrames The amount of consecutive fitting frames before enabling VSync again.
+     */
+    public AdaptiveVSync(long refreshInterval, boolean tearSupported, int missFrames, int recoverFrames) {
+        if (refreshInterval <= 0L) {
+            throw new IllegalArgumentException("Refresh interval must be positive.");
+        }
+        this.refreshInterval = refreshInterval;
+        this.tearSupported = tearSupported;
+        this.missFrames = Math.max(missFrames, 1);
+        this.recoverFrames = Math.max(recoverFrames, 1);
+    }
+
+    /**
+     * Feeds the time of a frame.
+     *
+     * @param frameTime The time between the ends of the previous and current buffer swaps, excluding limiter waits, in nanoseconds.
+     * @return Whether the swap interval changed as a result.
+     */
+    public boolean update(long frameTime) {
+        if (this.synced) {
+            this.consecutiveMisses = frameTime > this.refreshInterval * MISS_THRESHOLD ? this.consecutiveMisses + 1 : 0;
+            if (this.consecutiveMisses >= this.missFrames) {
+                this.synced = false;
+                this.consecutiveMisses = 0;
+                this.consecutiveFits = 0;
+                return true;
+            }
+        } else {
+            this.consecutiveFits = frameTime <= this.refreshInterval * RECOVER_HEADROOM ? this.consecutiveFits + 1 : 0;
+            if (this.consecutiveFits >= this.recoverFrames) {
+                this.synced = true;
+                this.consecutiveMisses = 0;
+                this.consecutiveFits = 0;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves the swap interval for the current state.
+     *
+     * @return 1 while synced, otherwise -1 if tearing is supported or 0 if not.
+     */
+    public int getSwapInterval() {
+        if (this.synced) {
+            return 1;
+        }
+        return this.tearSupported ? -1 : 0;
+    }
+
+    /**
+     * Retrieves whether the software limiter should cap the frame rate to the refresh rate.
+     *
+     * @return Whether frames should be limited in software, i.e. whether VSync is disabled.
+     */
+    public boolean isLimiting() {
+        return !this.synced;
+    }
+
+    /**
+     * Retrieves the refresh interval this controller was created with.
+     *
+     * @return The refresh interval, in nanoseconds.
+     */
+    public long getRefreshInterval() {
+        return this.refreshInterval;
+    }
+}
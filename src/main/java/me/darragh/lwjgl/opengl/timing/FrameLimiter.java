@@ -0,0 +1,142 @@
+package me.darragh.lwjgl.opengl.timing;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hybrid frame limiter which parks for the bulk of the remaining frame time and spins for the remainder.
+ * <p>
+ * The spin threshold adapts to the system it runs on: every park records how far it overslept, and the threshold is set to the
+ * 90th percentile of the recent oversleeps. Parking therefore wakes early enough to hit the deadline in most cases, while the
+ * occasional scheduling hiccup only delays its own frame rather than making every following frame spin. The threshold is capped
+ * well under a millisecond, so a system with coarse timers trades some pacing accuracy for not burning a core.
+ * <p>
+ * All timings are read from {@link System#nanoTime()}. This class is not thread-safe; it is intended to be driven by the render thread.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class FrameLimiter {
+    private static final long NANOS_IN_SECOND = 1_000_000_000L;
+
+    private static final long MIN_SPIN_THRESHOLD = 50_000L, // 0.05ms; covers the cost of waking a parked thread
+            MAX_SPIN_THRESHOLD = 500_000L, // 0.5ms; beyond this, spinning costs more CPU than sleeping with Sync did
+            INITIAL_SPIN_THRESHOLD = 250_000L;
+
+    private static final int SAMPLE_COUNT = 64,
+            SAMPLE_PERCENTILE = 90; // Low enough that a few outliers within the window do not set the threshold
+
+    private final long[] oversleepSamples = new long[SAMPLE_COUNT],
+            sortedSamples = new long[SAMPLE_COUNT];
+    private int sampleOffset, sampleCount;
+
+    private long nextFrame;
+    private int lastFps;
+
+    /**
+     * -- GETTER --
+     *  Returns the current spin threshold, in nanoseconds.
+     */
+    @Getter
+    private long spinThreshold = INITIAL_SPIN_THRESHOLD;
+
+    /**
+     * -- GETTER --
+     *  Returns how late the last frame was released relative to its deadline, in nanoseconds.
+     *  This is large when the frame itself took longer than the target frame time.
+     */
+    @Getter
+    private long lastPacingError;
+
+    /**
+     * -- GETTER --
+     *  Returns the amount of frames released more than a full frame after their deadline.
+     */
+    @Getter
+    private long missedFrames;
+
+    /**
+     * Waits until the next frame deadline for the desired frame rate.
+     * It should be called once every frame.
+     *
+     * @param fps The desired frame rate, in frames per second.
+     */
+    public void sync(int fps) {
+        if (fps <= 0) {
+            return;
+        }
+
+        long frameTime = NANOS_IN_SECOND / fps;
+        long now = System.nanoTime();
+        if (fps != this.lastFps) { // Restart pacing rather than catching up with the previous rate
+            this.lastFps = fps;
+            this.nextFrame = now;
+        }
+
+        long deadline = this.nextFrame;
+        if (deadline - now < 0) { // Already late; release immediately
+            long late = now - deadline;
+            this.lastPacingError = late;
+            if (late > frameTime) {
+                this.missedFrames++;
+            }
+            // Keep the cadence after a slightly late frame; only re-anchor once a whole frame was missed, rather than bursting to catch up
+            this.nextFrame = Math.max(deadline + frameTime, now);
+            return;
+        }
+
+        for (long remaining = deadline - now; remaining > this.spinThreshold; remaining = deadline - now) {
+            long requested = remaining - this.spinThreshold;
+            LockSupport.parkNanos(requested);
+            long woken = System.nanoTime();
+            this.recordOversleep((woken - now) - requested);
+            now = woken;
+        }
+
+        while (deadline - now > 0) {
+            Thread.onSpinWait();
+            now = System.nanoTime();
+        }
+
+        this.lastPacingError = now - deadline;
+        this.nextFrame = deadline + frameTime;
+    }
+
+    /**
+     * Retrieves the frame rate passed to the last {@link #sync(int)}.
+     *
+     * @return The target frame rate, or zero if none.
+     */
+    public int getTargetFps() {
+        return this.lastFps;
+    }
+
+    /**
+     * Resets the pacing, e.g. after a pause, so that the next call does not count as late.
+     */
+    public void reset() {
+        this.lastFps = 0;
+        this.lastPacingError = 0L;
+    }
+
+    /**
+     * Records how far a park overslept and updates the spin threshold.
+     *
+     * @param oversleep The oversleep, in nanoseconds. Negative values (spurious early wake-ups) are recorded as zero.
+     */
+    private void recordOversleep(long oversleep) {
+        this.oversleepSamples[this.sampleOffset] = Math.max(oversleep, 0L);
+        this.sampleOffset = (this.sampleOffset + 1) % SAMPLE_COUNT;
+        if (this.sampleCount < SAMPLE_COUNT) {
+            this.sampleCount++;
+        }
+
+        // Sorting a copy of 64 samples is cheap relative to a park, and keeps this allocation-free
+        System.arraycopy(this.oversleepSamples, 0, this.sortedSamples, 0, this.sampleCount);
+        Arrays.sort(this.sortedSamples, 0, this.sampleCount);
+        long percentile = this.sortedSamples[((this.sampleCount - 1) * SAMPLE_PERCENTILE) / 100];
+        this.spinThreshold = Math.min(Math.max(percentile, MIN_SPIN_THRESHOLD), MAX_SPIN_THRESHOLD);
+    }
+}
@@ -0,0 +1,34 @@
+package me.darragh.lwjgl.opengl.timing;
+
+/**
+ * A phase of the frame timed by {@link FrameStats}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public enum FramePhase {
+    /**
+     * The interval between consecutive {@code Display.update()} calls, i.e. the frame time.
+     */
+    FRAME,
+
+    /**
+     * The whole of {@code Display.update()}.
+     */
+    UPDATE,
+
+    /**
+     * The buffer swap within {@code Display.update()}.
+     */
+    SWAP_BUFFERS,
+
+    /**
+     * The message processing within {@code Display.update()}.
+     */
+    PROCESS_MESSAGES,
+
+    /**
+     * {@code Display.sync(int)}.
+     */
+    SYNC
+}
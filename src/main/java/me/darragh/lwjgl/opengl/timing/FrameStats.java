@@ -0,0 +1,119 @@
+package me.darragh.lwjgl.opengl.timing;
+
+/**
+ * Per-phase frame timings recorded by the display, when enabled by {@code Config.GL_FRAME_STATS}.
+ * <p>
+ * Every {@link FramePhase} is recorded into its own {@link TimeHistogram}, so recording never allocates.
+ * A frame counts as dropped when it takes more than one and a half times the target frame time.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class FrameStats {
+    private static final long NANOS_IN_SECOND = 1_000_000_000L;
+
+    private static final FramePhase[] PHASES = FramePhase.values();
+
+    private final TimeHistogram[] histograms = new TimeHistogram[PHASES.length];
+
+    private long lastFrameStart;
+    private long fpsWindowStart;
+    private int fpsWindowFrames;
+
+    private volatile int currentFps;
+    private volatile long droppedFrames;
+
+    public FrameStats() {
+        for (int i = 0; i < this.histograms.length; i++) {
+            this.histograms[i] = new TimeHistogram();
+        }
+    }
+
+    /**
+     * Records the start of a frame, deriving the frame time from the previous start.
+     *
+     * @param now The current time, from {@link System#nanoTime()}.
+     * @param targetFrameTime The expected frame time in nanoseconds, or zero if unknown.
+     */
+    public void recordFrameStart(long now, long targetFrameTime) {
+        if (this.lastFrameStart != 0L) {
+            long frameTime = now - this.lastFrameStart;
+            this.histograms[FramePhase.FRAME.ordinal()].record(frameTime);
+            if (targetFrameTime > 0L && frameTime > targetFrameTime + (targetFrameTime >>> 1)) {
+                this.droppedFrames++;
+            }
+        } else {
+            this.fpsWindowStart = now;
+        }
+        this.lastFrameStart = now;
+
+        this.fpsWindowFrames++;
+        if (now - this.fpsWindowStart >= NANOS_IN_SECOND) {
+            this.currentFps = (int) ((this.fpsWindowFrames * NANOS_IN_SECOND) / (now - this.fpsWindowStart));
+            this.fpsWindowStart = now;
+            this.fpsWindowFrames = 0;
+        }
+    }
+
+    /**
+     * Records the duration of a phase.
+     *
+     * @param phase The phase.
+     * @param nanos The duration, in nanoseconds.
+     */
+    public void record(FramePhase phase, long nanos) {
+        this.histograms[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Retrieves the histogram of a phase.
+     *
+     * @param phase The phase.
+     * @return The histogram.
+     */
+    public TimeHistogram getHistogram(FramePhase phase) {
+        return this.histograms[phase.ordinal()];
+    }
+
+    /**
+     * Retrieves the duration of a phase at a percentile.
+     *
+     * @param phase The phase.
+     * @param percentile The percentile, from 0 to 100.
+     * @return The duration, in nanoseconds.
+     */
+    public long getPercentile(FramePhase phase, double percentile) {
+        return this.histograms[phase.ordinal()].getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Retrieves the frame rate measured over the last full second.
+     *
+     * @return The current frame rate.
+     */
+    public int getCurrentFps() {
+        return this.currentFps;
+    }
+
+    /**
+     * Retrieves the amount of frames which took more than one and a half times the target frame time.
+     *
+     * @return The amount of dropped frames.
+     */
+    public long getDroppedFrames() {
+        return this.droppedFrames;
+    }
+
+    /**
+     * Clears all recorded timings, e.g. at the start of a soak session.
+     */
+    public void reset() {
+        for (TimeHistogram histogram : this.histograms) {
+            histogram.reset();
+        }
+        this.lastFrameStart = 0L;
+        this.fpsWindowFrames = 0;
+        this.currentFps = 0;
+        this.droppedFrames = 0L;
+    }
+}
@@ -0,0 +1,131 @@
+package me.darragh.lwjgl.opengl.timing;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size, allocation-free histogram of nanosecond durations with log-linear buckets.
+ * <p>
+ * Each power of two is split into 32 linear sub-buckets, so recorded values keep roughly three percent
+ * relative precision from single nanoseconds up to {@link #MAX_VALUE}, which larger values are clamped to.
+ * <p>
+ * Recording is intended for a single thread. Other threads may read at any time, although a read racing with a recording
+ * may observe a slightly inconsistent snapshot.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class TimeHistogram {
+    private static final int SUB_BUCKET_BITS = 5,
+            SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS,
+            MAX_SHIFT = 32;
+
+    /**
+     * The largest distinguishable value, in nanoseconds (roughly 275 seconds).
+     */
+    public static final long MAX_VALUE = (1L << (MAX_SHIFT + SUB_BUCKET_BITS + 1)) - 1L;
+
+    private final long[] counts = new long[(MAX_SHIFT + 2) * SUB_BUCKET_COUNT];
+
+    private volatile long totalCount;
+    private long minValue = Long.MAX_VALUE,
+            maxValue;
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration, in nanoseconds. Negative values are recorded as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0L), MAX_VALUE);
+        this.counts[indexOf(value)]++;
+        this.minValue = Math.min(this.minValue, value);
+        this.maxValue = Math.max(this.maxValue, value);
+        this.totalCount++; // Published last, so readers do not see more samples than counted
+    }
+
+    /**
+     * Retrieves the value at a percentile.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The value at the percentile, in nanoseconds, or zero if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = this.totalCount;
+        if (total == 0L) {
+            return 0L;
+        }
+
+        long target = Math.max(1L, (long) Math.ceil((Math.min(Math.max(percentile, 0.0), 100.0) / 100.0) * total));
+        long cumulative = 0L;
+        for (int i = 0; i < this.counts.length; i++) {
+            cumulative += this.counts[i];
+            if (cumulative >= target) {
+                return Math.min(Math.max(valueOf(i), this.minValue), this.maxValue);
+            }
+        }
+        return this.maxValue;
+    }
+
+    /**
+     * Retrieves the amount of recorded values.
+     *
+     * @return The amount of recorded values.
+     */
+    public long getTotalCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * Retrieves the smallest recorded value.
+     *
+     * @return The smallest value, in nanoseconds, or zero if nothing was recorded.
+     */
+    public long getMinValue() {
+        return this.totalCount == 0L ? 0L : this.minValue;
+    }
+
+    /**
+     * Retrieves the largest recorded value.
+     *
+     * @return The largest value, in nanoseconds.
+     */
+    public long getMaxValue() {
+        return this.maxValue;
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        this.totalCount = 0L;
+        Arrays.fill(this.counts, 0L);
+        this.minValue = Long.MAX_VALUE;
+        this.maxValue = 0L;
+    }
+
+    /**
+     * Computes the bucket index of a value.
+     */
+    private static int indexOf(long value) {
+        int magnitude = 63 - Long.numberOfLeadingZeros(value | 1L);
+        if (magnitude < SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Computes the midpoint of the values sharing a bucket.
+     */
+    private static long valueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowest + ((1L << shift) >>> 1);
+    }
+}
@@ -0,0 +1,261 @@
+package me.darragh.lwjgl.opengl.worker;
+
+import lombok.Getter;
+import me.darragh.lwjgl.Config;
+import me.darragh.lwjgl.opengl.fence.FenceProvider;
+import me.darragh.lwjgl.opengl.fence.GLFenceProvider;
+import org.jspecify.annotations.Nullable;
+import org.lwjgl.LWJGLUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A pool of threads, each owning a context sharing objects with the display context, for asynchronous texture and buffer uploads.
+ * <p>
+ * Tasks are run in submission order by whichever worker is free. After each task, the worker inserts a fence, and the task is
+ * only completed once {@link #poll()} (called from the render thread, e.g. once per frame) observes the fence as signalled.
+ * Completion callbacks therefore run on the render thread, when the uploaded objects are safe to use. Nothing here blocks the render thread.
+ * <p>
+ * The pool must be created after {@code Display.create()}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class GLWorkerPool {
+    private final WorkerContextProvider contextProvider;
+    private final FenceProvider fenceProvider;
+
+    private final BlockingQueue<GLWorkerTask> pendingTasks = new LinkedBlockingQueue<>();
+    private final Queue<GLWorkerTask> fencedTasks = new ConcurrentLinkedQueue<>();
+
+    private final Thread[] workers;
+    private final long[] contexts;
+
+    /**
+     * -- GETTER --
+     *  Returns whether the pool has been shut down.
+     */
+    @Getter
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a pool of {@link Config#GL_WORKER_THREADS} workers using shared GLFW contexts.
+     *
+     * @throws Exception If a context could not be created.
+     */
+    public GLWorkerPool() throws Exception {
+        this(Config.GL_WORKER_THREADS);
+    }
+
+    /**
+     * Creates a pool using shared GLFW contexts.
+     *
+     * @param threads The amount of workers.
+     *
+     * @throws Exception If a context could not be created.
+     */
+    public GLWorkerPool(int threads) throws Exception {
+        this(threads, new SharedContextProvider(), GLFenceProvider.INSTANCE);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param threads The amount of workers.
+     * @param contextProvider The provider of worker contexts.
+     * @param fenceProvider The provider of fences.
+     *
+     * @throws Exception If a context could not be created.
+     */
+    public GLWorkerPool(int threads, WorkerContextProvider contextProvider, FenceProvider fenceProvider) throws Exception {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("A worker pool requires at least one thread.");
+        }
+
+        this.contextProvider = contextProvider;
+        this.fenceProvider = fenceProvider;
+        this.workers = new Thread[threads];
+        this.contexts = new long[threads];
+
+        for (int i = 0; i < threads; i++) {
+            try {
+                this.contexts[i] = contextProvider.createContext();
+            } catch (Exception e) {
+                for (int j = 0; j < i; j++) {
+                    contextProvider.destroyContext(this.contexts[j]);
+                }
+                throw e;
+            }
+        }
+
+        for (int i = 0; i < threads; i++) {
+            long context = this.contexts[i];
+            Thread worker = new Thread(() -> this.runWorker(context), "GL Worker " + i);
+            worker.setDaemon(true);
+            this.workers[i] = worker;
+            worker.start();
+        }
+    }
+
+    /**
+     * Submits a task to run on a worker.
+     *
+     * @param task The task, which issues GL commands against the worker's context.
+     * @return The submitted task.
+     */
+    public GLWorkerTask submit(Runnable task) {
+        return this.submit(task, null);
+    }
+
+    /**
+     * Submits a task to run on a worker.
+     *
+     * @param task The task, which issues GL commands against the worker's context.
+     * @param onComplete Run by {@link #poll()} on the render thread once the task's commands have completed.
+     * @return The submitted task.
+     *
+     * @throws IllegalStateException If the pool has been shut down.
+     */
+    public GLWorkerTask submit(Runnable task, @Nullable Runnable onComplete) {
+        if (this.shutdown) {
+            throw new IllegalStateException("Worker pool shut down.");
+        }
+
+        GLWorkerTask workerTask = new GLWorkerTask(task, onComplete);
+        this.pendingTasks.add(workerTask);
+        return workerTask;
+    }
+
+    /**
+     * Completes every task whose fence has been signalled, running their completion callbacks.
+     * This never blocks, and should be called from the render thread, e.g. once per frame.
+     *
+     * @return The amount of tasks completed.
+     */
+    public int poll() {
+        int completed = 0;
+        for (Iterator<GLWorkerTask> iterator = this.fencedTasks.iterator(); iterator.hasNext(); ) {
+            GLWorkerTask task = iterator.next();
+            if (!this.fenceProvider.isSignaled(task.fence)) {
+                continue; // Workers finish out of order, so keep checking later tasks
+            }
+
+            iterator.remove();
+            this.fenceProvider.delete(task.fence);
+            task.fence = 0L;
+            task.state = GLWorkerTask.State.COMPLETE;
+            completed++;
+
+            if (task.onComplete != null) {
+                task.onComplete.run();
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Returns the amount of tasks waiting for a worker.
+     *
+     * @return The amount of pending tasks.
+     */
+    public int getPendingCount() {
+        return this.pendingTasks.size();
+    }
+
+    /**
+     * Returns the amount of tasks run by a worker but not yet completed by {@link #poll()}.
+     *
+     * @return The amount of fenced tasks.
+     */
+    public int getFencedCount() {
+        return this.fencedTasks.size();
+    }
+
+    /**
+     * Stops the workers, cancelling any tasks not yet run, and destroys their contexts.
+     * Tasks already run by a worker are completed by this call, without running their completion callbacks.
+     * <p>
+     * A task being run is allowed to finish first; this waits for every worker to stop even if the calling thread is
+     * interrupted, and then restores its interrupt status.
+     * <p>
+     * This should be called from the render thread, as outstanding fences are deleted from the current context.
+     */
+    public void shutdown() {
+        if (this.shutdown) {
+            return;
+        }
+        this.shutdown = true;
+
+        for (Thread worker : this.workers) {
+            worker.interrupt();
+        }
+        boolean interrupted = false;
+        for (Thread worker : this.workers) {
+            while (worker.isAlive()) { // A context must not be destroyed while its worker may still be using it
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<GLWorkerTask> cancelled = new ArrayList<>();
+        this.pendingTasks.drainTo(cancelled);
+        for (GLWorkerTask task : cancelled) {
+            task.state = GLWorkerTask.State.CANCELLED;
+        }
+
+        GLWorkerTask task;
+        while ((task = this.fencedTasks.poll()) != null) { // Sync objects belong to the share group, so outlive the worker contexts
+            this.fenceProvider.delete(task.fence);
+            task.fence = 0L;
+            task.state = GLWorkerTask.State.COMPLETE;
+        }
+
+        for (long context : this.contexts) {
+            this.contextProvider.destroyContext(context);
+        }
+    }
+
+    /**
+     * Runs tasks on a worker thread until the pool is shut down.
+     */
+    private void runWorker(long context) {
+        this.contextProvider.makeCurrent(context);
+        try {
+            while (!this.shutdown) {
+                GLWorkerTask task;
+                try {
+                    task = this.pendingTasks.take();
+                } catch (InterruptedException e) {
+                    break;
+                }
+
+                try {
+                    task.task.run();
+                } catch (Throwable t) {
+                    LWJGLUtil.log("GL worker task failed: " + t);
+                    task.failure = t;
+                    task.state = GLWorkerTask.State.FAILED;
+                    continue;
+                }
+
+                task.fence = this.fenceProvider.create();
+                task.state = GLWorkerTask.State.FENCED;
+                this.fencedTasks.add(task);
+            }
+        } finally {
+            this.contextProvider.releaseCurrent();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package me.darragh.lwjgl.opengl.worker;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A task submitted to a {@link GLWorkerPool}, e.g. a texture or buffer upload.
+ * <p>
+ * Once the task has run on a worker, a fence is inserted after its commands. The task only completes once the fence is
+ * signalled, as observed by {@link GLWorkerPool#poll()} on the render thread, so its results are safe to use from then on.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class GLWorkerTask {
+    /**
+     * The lifecycle of a task.
+     */
+    public enum State {
+        /**
+         * Queued, waiting for a worker.
+         */
+        PENDING,
+
+        /**
+         * Run by a worker, waiting for its fence to be signalled.
+         */
+        FENCED,
+
+        /**
+         * The fence has been signalled; the task's results are visible to every context.
+         */
+        COMPLETE,
+
+        /**
+         * The task threw an exception, see {@link #getFailure()}.
+         */
+        FAILED,
+
+        /**
+         * The pool was shut down before the task ran.
+         */
+        CANCELLED
+    }
+
+    final Runnable task;
+
+    @Nullable
+    final Runnable onComplete;
+
+    /**
+     * -- GETTER --
+     *  Returns the current state of the task.
+     */
+    @Getter
+    volatile State state = State.PENDING;
+
+    volatile long fence;
+
+    /**
+     * -- GETTER --
+     *  Returns the exception thrown by the task, if it failed.
+     */
+    @Getter
+    @Nullable
+    volatile Throwable failure;
+
+    GLWorkerTask(Runnable task, @Nullable Runnable onComplete) {
+        this.task = task;
+        this.onComplete = onComplete;
+    }
+
+    /**
+     * Returns whether the task has finished, successfully or not.
+     *
+     * @return Whether the task is complete, failed or cancelled.
+     */
+    public boolean isDone() {
+        State state = this.state;
+        return state == State.COMPLETE || state == State.FAILED || state == State.CANCELLED;
+    }
+}
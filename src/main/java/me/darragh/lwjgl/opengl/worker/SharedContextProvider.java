@@ -0,0 +1,58 @@
+package me.darragh.lwjgl.opengl.worker;
+
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.ContextGL;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DrawableGL;
+import org.lwjgl.opengl.GL;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Provides worker contexts through {@link DrawableGL#createSharedContext()}, i.e. hidden windows sharing the display context.
+ * <p>
+ * Window creation and destruction are forwarded to the input thread, as GLFW requires.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class SharedContextProvider implements WorkerContextProvider {
+    @Override
+    public long createContext() throws LWJGLException {
+        if (!(Display.getDrawable() instanceof DrawableGL drawable)) {
+            throw new IllegalStateException("Display not created.");
+        }
+
+        if (!Display.isOnInputThread()) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return drawable.createSharedContext().glfwWindow;
+                } catch (LWJGLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, Display::runOnInputThread).join();
+        }
+
+        ContextGL context = drawable.createSharedContext();
+        return context.glfwWindow;
+    }
+
+    @Override
+    public void makeCurrent(long context) {
+        glfwMakeContextCurrent(context);
+        GL.createCapabilities();
+    }
+
+    @Override
+    public void releaseCurrent() {
+        glfwMakeContextCurrent(0L);
+        GL.setCapabilities(null);
+    }
+
+    @Override
+    public void destroyContext(long context) {
+        Display.runOnInputThread(() -> glfwDestroyWindow(context));
+    }
+}
@@ -0,0 +1,40 @@
+package me.darragh.lwjgl.opengl.worker;
+
+/**
+ * Creates and binds the contexts used by {@link GLWorkerPool} threads.
+ * <p>
+ * Contexts are identified by opaque handles, so that the pool's scheduling can be driven by a stub without OpenGL.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public interface WorkerContextProvider {
+    /**
+     * Creates a context sharing objects with the display context.
+     * This is called on the thread creating the pool.
+     *
+     * @return The context handle.
+     *
+     * @throws Exception If the context could not be created.
+     */
+    long createContext() throws Exception;
+
+    /**
+     * Makes a context current on the calling worker thread.
+     *
+     * @param context The context handle.
+     */
+    void makeCurrent(long context);
+
+    /**
+     * Releases the context current on the calling worker thread.
+     */
+    void releaseCurrent();
+
+    /**
+     * Destroys a context once its worker thread has stopped.
+     *
+     * @param context The context handle.
+     */
+    void destroyContext(long context);
+}
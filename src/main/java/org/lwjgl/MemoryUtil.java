@@ -31,6 +31,9 @@
  */
 package org.lwjgl;
 
+import me.darragh.lwjgl.memory.StringCache;
+import org.lwjgl.system.MemoryStack;
+
 import java.nio.*;
 import java.nio.charset.*;
 
@@ -51,6 +54,9 @@ public final class MemoryUtil {
             utf8 = StandardCharsets.UTF_8,
             utf16 = StandardCharsets.UTF_16LE;
 
+    private static final StringCache asciiCache = StringCache.ascii(1024),
+            utf8Cache = StringCache.utf8(1024);
+
     private MemoryUtil() {
     }
 
@@ -191,4 +197,104 @@ public final class MemoryUtil {
         return org.lwjgl.system.MemoryUtil.memUTF16(buffer);
     }
 
+    // --- [ String utilities - Allocation-light ] ---
+
+    /**
+     * Encodes the specified text as ASCII and null-terminated into the target buffer, starting at its position.
+     * The position is not modified.
+     *
+     * @param text   the text to encode
+     * @param target the buffer to encode into, which must have enough bytes remaining
+     *
+     * @return the amount of bytes written, including the null-terminator
+     *
+     * @apiNote Custom method.
+     */
+    public static int encodeASCII(final CharSequence text, final ByteBuffer target) {
+        return org.lwjgl.system.MemoryUtil.memASCII(text, true, target, target.position());
+    }
+
+    /**
+     * Encodes the specified text as UTF-8 and null-terminated into the target buffer, starting at its position.
+     * The position is not modified.
+     *
+     * @param text   the text to encode
+     * @param target the buffer to encode into, which must have at least {@code memLengthUTF8(text, true)} bytes remaining
+     *
+     * @return the amount of bytes written, including the null-terminator
+     *
+     * @apiNote Custom method.
+     */
+    public static int encodeUTF8(final CharSequence text, final ByteBuffer target) {
+        return org.lwjgl.system.MemoryUtil.memUTF8(text, true, target, target.position());
+    }
+
+    /**
+     * Returns a buffer on the specified stack containing the text ASCII encoded and null-terminated.
+     *
+     * @param stack the stack to allocate from
+     * @param text  the text to encode
+     *
+     * @return the encoded text, valid until the stack frame is popped
+     *
+     * @apiNote Custom method.
+     */
+    public static ByteBuffer encodeASCII(final MemoryStack stack, final CharSequence text) {
+        return stack.ASCII(text);
+    }
+
+    /**
+     * Returns a buffer on the specified stack containing the text UTF-8 encoded and null-terminated.
+     *
+     * @param stack the stack to allocate from
+     * @param text  the text to encode
+     *
+     * @return the encoded text, valid until the stack frame is popped
+     *
+     * @apiNote Custom method.
+     */
+    public static ByteBuffer encodeUTF8(final MemoryStack stack, final CharSequence text) {
+        return stack.UTF8(text);
+    }
+
+    /**
+     * Decodes the remaining bytes of the specified buffer as ASCII, returning a cached instance for repeated values.
+     *
+     * @param buffer the buffer to decode
+     *
+     * @return the decoded text
+     *
+     * @apiNote Custom method.
+     */
+    public static String decodeASCIICached(final ByteBuffer buffer) {
+        return asciiCache.decode(org.lwjgl.system.MemoryUtil.memAddress(buffer), buffer.remaining());
+    }
+
+    /**
+     * Decodes the remaining bytes of the specified buffer as UTF-8, returning a cached instance for repeated values.
+     *
+     * @param buffer the buffer to decode
+     *
+     * @return the decoded text
+     *
+     * @apiNote Custom method.
+     */
+    public static String decodeUTF8Cached(final ByteBuffer buffer) {
+        return utf8Cache.decode(org.lwjgl.system.MemoryUtil.memAddress(buffer), buffer.remaining());
+    }
+
+    /**
+     * Decodes the null-terminated UTF-8 string at the specified address, e.g. one returned by {@code nglGetString},
+     * returning a cached instance for repeated values. If the address is {@code NULL}, null is returned.
+     *
+     * @param address the address of the string
+     *
+     * @return the decoded text or null
+     *
+     * @apiNote Custom method.
+     */
+    public static String decodeUTF8Cached(final long address) {
+        return address == NULL ? null : utf8Cache.decode(address, org.lwjgl.system.MemoryUtil.memLengthNT1(address, Integer.MAX_VALUE));
+    }
+
 }
\ No newline at end of file
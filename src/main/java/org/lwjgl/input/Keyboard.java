@@ -1,8 +1,12 @@
 package org.lwjgl.input;
 
+import me.darragh.lwjgl.Config;
+import me.darragh.lwjgl.opengl.input.InputStateSet;
+import me.darragh.lwjgl.opengl.input.keyboard.KeyCallbackHandler;
 import me.darragh.lwjgl.opengl.input.keyboard.KeyCodeUtil;
 import me.darragh.lwjgl.opengl.input.keyboard.KeyEvent;
 import me.darragh.lwjgl.opengl.input.keyboard.KeyCode;
+import me.darragh.lwjgl.opengl.input.keyboard.KeyEventBuffer;
 import me.darragh.lwjgl.opengl.input.keyboard.KeyState;
 import org.lwjgl.LWJGLException;
 import org.lwjgl.LWJGLUtil;
@@ -12,11 +16,8 @@ import org.lwjgl.opengl.Display;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
 
 import static org.lwjgl.glfw.GLFW.*;
-import static org.lwjgl.system.MemoryUtil.NULL;
 
 /**
  * This is a wrapper implementation of the LWJGL2 Keyboard class.
@@ -174,18 +175,21 @@ public class Keyboard {
     @KeyCode(name = "POWER") public static final int KEY_POWER = 0xDE;
     @KeyCode(name = "SLEEP") public static final int KEY_SLEEP = 0xDF;
 
-    private static final Queue<KeyEvent> EVENT_QUEUE = new ArrayBlockingQueue<>(128);
     private static final Map<Integer, String> KEY_NAMES = new HashMap<>();
     private static final int KEY_COUNT;
-    private static boolean repeatEvents;
 
     /**
-     * Unused variable.
+     * The amount of key codes, used to size the cached key states.
      * <p>
      * Retained for compatibility.
      */
     public static final int KEYBOARD_SIZE = 256;
 
+    private static final InputStateSet KEY_DOWN_STATES = new InputStateSet(KEYBOARD_SIZE);
+
+    private static final KeyEventBuffer EVENTS = new KeyEventBuffer();
+    private static final KeyCallbackHandler CALLBACK_HANDLER = new KeyCallbackHandler(EVENTS, KEY_DOWN_STATES);
+
     static {
         int counter = 0;
         try {
@@ -204,7 +208,32 @@ public class Keyboard {
         } catch (Exception ignored) {}
 
         KEY_COUNT = counter;
-        EVENT_QUEUE.add(new KeyEvent(0, '\0', KeyState.RELEASE, Sys.getNanoTime()));
+    }
+
+    /**
+     * Handles the display window's GLFW key callback.
+     *
+     * @param key The GLFW key code.
+     * @param action The GLFW action.
+     * @param mods The modifiers that were pressed.
+     *
+     * @apiNote Custom method.
+     * @see KeyCallbackHandler#onKey(int, int, int)
+     */
+    public static void handleKeyCallback(int key, int action, int mods) {
+        CALLBACK_HANDLER.onKey(key, action, mods);
+    }
+
+    /**
+     * Handles the display window's GLFW char callback.
+     *
+     * @param codepoint The Unicode code point of the character.
+     *
+     * @apiNote Custom method.
+     * @see KeyCallbackHandler#onChar(int)
+     */
+    public static void handleCharCallback(int codepoint) {
+        CALLBACK_HANDLER.onChar(codepoint);
     }
 
     /**
@@ -230,7 +259,7 @@ public class Keyboard {
             state = KeyState.REPEAT;
         }
 
-        EVENT_QUEUE.add(new KeyEvent(KeyCodeUtil.toLwjgl(key), keyChar, state, Sys.getNanoTime()));
+        EVENTS.enqueue(KeyCodeUtil.toLwjgl(key), keyChar, state, Sys.getNanoTime(), false);
     }
 
     /**
@@ -239,13 +268,29 @@ public class Keyboard {
      * @param event The key event to enqueue.
      *
      * @apiNote Custom method.
+     * @implNote The event is copied into the queue; prefer {@link #addKeyEvent(int, char, KeyState, long, boolean)} to avoid allocating it.
      */
     public static void addKeyEvent(KeyEvent event) {
-        if (event == null || (event.state() == KeyState.REPEAT && !repeatEvents)) {
+        if (event == null) {
             return;
         }
 
-        EVENT_QUEUE.add(event);
+        addKeyEvent(event.key(), event.keyChar(), event.state(), event.timePressed(), event.outOfOrder());
+    }
+
+    /**
+     * Enqueues a key event from its components.
+     *
+     * @param key The LWJGL key code.
+     * @param keyChar The character that was pressed.
+     * @param state The state of the key.
+     * @param timePressed The time the event occurred in nanoseconds.
+     * @param outOfOrder Whether the release is out of order.
+     *
+     * @apiNote Custom method.
+     */
+    public static void addKeyEvent(int key, char keyChar, KeyState state, long timePressed, boolean outOfOrder) {
+        EVENTS.add(key, keyChar, state, timePressed, outOfOrder);
     }
 
     /**
@@ -257,7 +302,7 @@ public class Keyboard {
      * @apiNote Custom method.
      */
     public static void addCharEvent(int key, char keyChar) {
-        EVENT_QUEUE.add(new KeyEvent(KEY_NONE, keyChar, KeyState.PRESS, Sys.getNanoTime()));
+        EVENTS.enqueue(KEY_NONE, keyChar, KeyState.PRESS, Sys.getNanoTime(), false);
     }
 
     /**
@@ -299,14 +344,34 @@ public class Keyboard {
 
     /**
      * Returns whether the key is currently down.
+     * <p>
+     * Off the input thread (see {@link Display#runWithInputThread(Runnable)}), this is always answered from callback state, as GLFW may only be queried from the main thread.
      *
      * @param key The key to check.
      * @return Whether the key is down.
      */
     public static boolean isKeyDown(int key) {
+        if (Config.INPUT_CACHED_KEY_STATE || !Display.isOnInputThread()) {
+            return KEY_DOWN_STATES.isDown(key);
+        }
         return glfwGetKey(Display.getWindow(), KeyCodeUtil.toGlfw(key)) == GLFW_PRESS;
     }
 
+    /**
+     * Sets whether a key is down, as reported by {@link #isKeyDown(int)} when {@link Config#INPUT_CACHED_KEY_STATE} is enabled or off the input thread.
+     *
+     * @param key The LWJGL key code.
+     * @param down Whether the key is down.
+     *
+     * @apiNote Custom method. Called from the key callback, regardless of whether the event itself is queued.
+     */
+    public static void setKeyDown(int key, boolean down) {
+        if (key == KEY_NONE) { // Unmapped keys
+            return;
+        }
+        KEY_DOWN_STATES.setDown(key, down);
+    }
+
     /**
      * Returns the name of the key.
      *
@@ -337,7 +402,18 @@ public class Keyboard {
      * @return The number of queued keyboard events.
      */
     public static int getNumKeyboardKeys() {
-        return EVENT_QUEUE.size();
+        return EVENTS.getCurrentCount();
+    }
+
+    /**
+     * Returns the amount of events dropped due to the queue being full.
+     *
+     * @return The amount of dropped events.
+     *
+     * @apiNote Custom method.
+     */
+    public static long getDroppedEventCount() {
+        return EVENTS.getDroppedCount();
     }
 
     /**
@@ -346,11 +422,7 @@ public class Keyboard {
      * @return Whether there are more events in the queue.
      */
     public static boolean next() {
-        boolean next = EVENT_QUEUE.size() > 1;
-        if (next) {
-            EVENT_QUEUE.remove();
-        }
-        return next;
+        return EVENTS.next();
     }
 
     /**
@@ -358,7 +430,7 @@ public class Keyboard {
      * @param enable Whether to enable repeat events.
      */
     public static void enableRepeatEvents(boolean enable) {
-        repeatEvents = enable;
+        EVENTS.enableRepeatEvents(enable);
     }
 
     /**
@@ -366,7 +438,7 @@ public class Keyboard {
      * @return Whether repeat events are enabled.
      */
     public static boolean areRepeatEventsEnabled() {
-        return repeatEvents;
+        return EVENTS.areRepeatEventsEnabled();
     }
 
     /**
@@ -384,10 +456,7 @@ public class Keyboard {
      * @return The current event key character.
      */
     public static char getEventCharacter() {
-        if (EVENT_QUEUE.isEmpty()) {
-            return CHAR_NONE;
-        }
-        return EVENT_QUEUE.peek().keyChar();
+        return EVENTS.getEventCharacter();
     }
 
     /**
@@ -396,10 +465,7 @@ public class Keyboard {
      * @return The current event key character.
      */
     public static int getEventKey() {
-        if (EVENT_QUEUE.isEmpty()) {
-            return CHAR_NONE;
-        }
-        return EVENT_QUEUE.peek().key();
+        return EVENTS.getEventKey();
     }
 
     /**
@@ -408,10 +474,7 @@ public class Keyboard {
      * @return The current event key.
      */
     public static boolean getEventKeyState() {
-        if (EVENT_QUEUE.isEmpty()) {
-            return false;
-        }
-        return EVENT_QUEUE.peek().state().isPressed();
+        return EVENTS.getEventState().isPressed();
     }
 
     /**
@@ -420,10 +483,7 @@ public class Keyboard {
      * @return The exact time the event was pressed in nanoseconds.
      */
     public static long getEventNanoseconds() {
-        if (EVENT_QUEUE.isEmpty()) {
-            return NULL;
-        }
-        return EVENT_QUEUE.peek().timePressed();
+        return EVENTS.getEventNanoseconds();
     }
 
     /**
@@ -432,9 +492,17 @@ public class Keyboard {
      * @return Whether the current event is a repeat event.
      */
     public static boolean isRepeatEvent() {
-        if (EVENT_QUEUE.isEmpty()) {
-            return false;
-        }
-        return EVENT_QUEUE.peek().state() == KeyState.REPEAT;
+        return EVENTS.getEventState() == KeyState.REPEAT;
+    }
+
+    /**
+     * Returns whether the current event is a release which was delivered after its character event.
+     *
+     * @return Whether the current event is out of order.
+     *
+     * @apiNote Custom method.
+     */
+    public static boolean isEventOutOfOrder() {
+        return EVENTS.isEventOutOfOrder();
     }
 }
@@ -1,16 +1,21 @@
 package org.lwjgl.input;
 
 import lombok.Getter;
-import me.darragh.lwjgl.event.CircularEventQueue;
-import me.darragh.lwjgl.opengl.input.mouse.MouseButtonEvent;
-import me.darragh.lwjgl.opengl.input.mouse.MouseMoveEvent;
-import me.darragh.lwjgl.opengl.input.mouse.MouseScrollEvent;
+import me.darragh.lwjgl.Config;
+import me.darragh.lwjgl.event.OverflowPolicy;
+import me.darragh.lwjgl.opengl.input.InputStateSet;
+import me.darragh.lwjgl.opengl.input.mouse.MouseEvent;
+import me.darragh.lwjgl.opengl.input.mouse.MouseEventBuffer;
+import me.darragh.lwjgl.opengl.input.mouse.MouseEventType;
 import org.apache.commons.lang3.StringUtils;
 import org.lwjgl.LWJGLUtil;
 import org.lwjgl.Sys;
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.opengl.Display;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.lwjgl.glfw.GLFW.glfwGetMouseButton;
 import static org.lwjgl.glfw.GLFW.glfwSetCursorPos;
 
@@ -28,12 +33,14 @@ public class Mouse {
      */
     public static final int EVENT_SIZE = 1 + 1 + 4 + 4 + 4 + 8;
     
-    private static final CircularEventQueue EVENT_QUEUE = new CircularEventQueue(256);
-    private static final MouseMoveEvent[] MOUSE_MOVE_EVENTS = new MouseMoveEvent[EVENT_QUEUE.getMaxCapacity()];
-    private static final MouseMoveEvent[] PREV_MOUSE_MOVE_EVENTS = new MouseMoveEvent[EVENT_QUEUE.getMaxCapacity()];
-    private static final MouseButtonEvent[] MOUSE_BUTTON_EVENTS = new MouseButtonEvent[EVENT_QUEUE.getMaxCapacity()];
-    private static final MouseScrollEvent[] MOUSE_SCROLL_EVENTS = new MouseScrollEvent[EVENT_QUEUE.getMaxCapacity()];
-    private static final long[] MOUSE_EVENT_TIMINGS = new long[EVENT_QUEUE.getMaxCapacity()];
+    /**
+     * The events are written in place into a struct of arrays, so that enqueuing and reading events does not allocate.
+     * <p>
+     * {@link MouseEvent} records are only created on request through {@link #getEventSnapshot()}.
+     */
+    private static final MouseEventBuffer EVENTS = new MouseEventBuffer(Config.INPUT_MOUSE_QUEUE_SIZE, OverflowPolicy.DROP_OLDEST);
+
+    private static final InputStateSet BUTTON_DOWN_STATES = new InputStateSet(GLFW.GLFW_MOUSE_BUTTON_LAST + 1);
 
     /**
      * The storage of mouse coordinates is <b>lossy</b>. This is due to the original LWJGL2 implementation using integers and not doubles.
@@ -42,7 +49,7 @@ public class Mouse {
      * Changing this would be a breaking change and therefore will not be done.
      */
     private static int prevX, prevY;
-    private static int latestX, latestY;
+    private static volatile int latestX, latestY; // Written by the input thread, read by poll()
 
     // Mouse data
     /**
@@ -59,10 +66,13 @@ public class Mouse {
     @Getter
     private static int y;
 
-    private static int dx, dy;
+    // Accumulated between reads; atomic as they may be accumulated and reset on different threads
+    private static final AtomicInteger DX = new AtomicInteger(),
+            DY = new AtomicInteger();
 
     // Wheel data
-    private static int dWheelX, dWheelY;
+    private static final AtomicInteger D_WHEEL_X = new AtomicInteger(),
+            D_WHEEL_Y = new AtomicInteger();
 
     private static boolean clipPosition;
 
@@ -71,7 +81,7 @@ public class Mouse {
      *  Returns whether the mouse is grabbed.
      */
     @Getter
-    private static boolean grabbed;
+    private static volatile boolean grabbed;
 
     private static int ignoreNextDelta, ignoreNextMove; // Used to prevent mouse issues
 
@@ -90,8 +100,8 @@ public class Mouse {
         }
 
         // Update delta values
-        dx += (int) (x - latestX);
-        dy += Display.getHeight() - (int) y - latestY;
+        DX.addAndGet((int) (x - latestX));
+        DY.addAndGet(Display.getHeight() - (int) y - latestY);
 
         // Keep track of event history
         prevX = latestX;
@@ -101,7 +111,8 @@ public class Mouse {
         latestY = Display.getHeight() - (int) y;
 
         // Reset the delta if ignored
-        if (ignoreNextDelta > 0) {
+        boolean deltaIgnored = ignoreNextDelta > 0;
+        if (deltaIgnored) {
             ignoreNextDelta--;
 
             x = latestX;
@@ -110,20 +121,21 @@ public class Mouse {
             prevX = latestX;
             prevY = latestY;
 
-            dx = 0;
-            dy = 0;
+            DX.set(0);
+            DY.set(0);
         }
 
         // Enqueue events
-        PREV_MOUSE_MOVE_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseMoveEvent(prevX, prevY);
-        prevX = latestX;
-        prevY = latestY;
-
-        MOUSE_MOVE_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseMoveEvent(x, y);
-        MOUSE_BUTTON_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseButtonEvent(-1, false);
-        MOUSE_SCROLL_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseScrollEvent(0, 0);
-        MOUSE_EVENT_TIMINGS[EVENT_QUEUE.getWritePosition()] = Sys.getNanoTime();
-        EVENT_QUEUE.push();
+        if (Config.INPUT_MOUSE_COALESCE_MOTION) {
+            if (deltaIgnored) {
+                flushEvents(); // Merging would keep the pending event's previous position, reporting the ignored jump
+            }
+            EVENTS.coalesceMove(x, y, prevX, prevY, Sys.getNanoTime());
+            prevX = latestX;
+            prevY = latestY;
+        } else {
+            enqueue(MouseEventType.MOVE, x, y, -1, false, 0, 0);
+        }
     }
 
     /**
@@ -135,15 +147,7 @@ public class Mouse {
      * @apiNote Custom method.
      */
     public static void addButtonEvent(int button, boolean state) {
-        PREV_MOUSE_MOVE_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseMoveEvent(prevX, prevY);
-        prevX = latestX;
-        prevY = latestY;
-
-        MOUSE_MOVE_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseMoveEvent(latestX, latestY);
-        MOUSE_BUTTON_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseButtonEvent(button, state);
-        MOUSE_SCROLL_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseScrollEvent(0, 0);
-        MOUSE_EVENT_TIMINGS[EVENT_QUEUE.getWritePosition()] = Sys.getNanoTime();
-        EVENT_QUEUE.push();
+        enqueue(MouseEventType.BUTTON, latestX, latestY, button, state, 0, 0);
     }
 
     /**
@@ -155,23 +159,31 @@ public class Mouse {
      * @apiNote Custom method.
      */
     public static void addScrollEvent(double x, double y) {
-        int lastWheelX = dWheelX,
-                lastWheelY = dWheelY;
-
-        dWheelX += (int) x;
-        dWheelY += (int) y;
+        if ((int) x != 0 || (int) y != 0) {
+            D_WHEEL_X.addAndGet((int) x);
+            D_WHEEL_Y.addAndGet((int) y);
+            enqueue(MouseEventType.SCROLL, latestX, latestY, -1, false, x, y);
+        }
+    }
 
-        if (lastWheelX != dWheelX || lastWheelY != dWheelY) {
-            PREV_MOUSE_MOVE_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseMoveEvent(prevX, prevY);
-            prevX = latestX;
-            prevY = latestY;
+    /**
+     * Enqueues an event after any pending coalesced move event.
+     * <p>
+     * The previous position is taken from the last enqueued event, so that {@link #getEventDX()} and {@link #getEventDY()} represent the motion between the two.
+     */
+    private static void enqueue(MouseEventType type, double x, double y, int button, boolean state, double scrollX, double scrollY) {
+        EVENTS.enqueue(type, x, y, prevX, prevY, button, state, scrollX, scrollY, Sys.getNanoTime());
+        prevX = latestX;
+        prevY = latestY;
+    }
 
-            MOUSE_MOVE_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseMoveEvent(latestX, latestY);
-            MOUSE_BUTTON_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseButtonEvent(-1, false);
-            MOUSE_SCROLL_EVENTS[EVENT_QUEUE.getWritePosition()] = new MouseScrollEvent(x, y);
-            MOUSE_EVENT_TIMINGS[EVENT_QUEUE.getWritePosition()] = Sys.getNanoTime();
-            EVENT_QUEUE.push();
-        }
+    /**
+     * Publishes the pending coalesced move event, if any.
+     *
+     * @apiNote Custom method. Must be called from the thread producing events; see {@link Display#runWithInputThread(Runnable)}.
+     */
+    public static void flushEvents() {
+        EVENTS.flush();
     }
 
     /**
@@ -240,9 +252,7 @@ public class Mouse {
      * @apiNote Custom method.
      */
     public static int getDWheelX() {
-        int v = dWheelX;
-        dWheelX = 0;
-        return v;
+        return D_WHEEL_X.getAndSet(0);
     }
 
     /**
@@ -253,9 +263,7 @@ public class Mouse {
      * @apiNote Custom method.
      */
     public static int getDWheelY() {
-        int v = dWheelY;
-        dWheelY = 0;
-        return v;
+        return D_WHEEL_Y.getAndSet(0);
     }
 
     /**
@@ -264,9 +272,7 @@ public class Mouse {
      * @return The delta x position of the mouse.
      */
     public static int getDX() {
-        int v = dx;
-        dx = 0;
-        return v;
+        return DX.getAndSet(0);
     }
 
     /**
@@ -275,9 +281,7 @@ public class Mouse {
      * @return The delta y position of the mouse.
      */
     public static int getDY() {
-        int v = dy;
-        dy = 0;
-        return v;
+        return DY.getAndSet(0);
     }
 
     /**
@@ -286,7 +290,7 @@ public class Mouse {
      * @return The current event button.
      */
     public static int getEventButton() {
-        return MOUSE_BUTTON_EVENTS[EVENT_QUEUE.getReadPosition()].button();
+        return EVENTS.getEventButton();
     }
 
     /**
@@ -295,7 +299,7 @@ public class Mouse {
      * @return The current event button state.
      */
     public static boolean getEventButtonState() {
-        return MOUSE_BUTTON_EVENTS[EVENT_QUEUE.getReadPosition()].state();
+        return EVENTS.getEventButtonState();
     }
 
     /**
@@ -315,7 +319,7 @@ public class Mouse {
      * @apiNote Custom method.
      */
     public static int getEventDWheelX() {
-        return MOUSE_SCROLL_EVENTS[EVENT_QUEUE.getReadPosition()] != null ? (int) MOUSE_SCROLL_EVENTS[EVENT_QUEUE.getReadPosition()].x() : 0;
+        return (int) EVENTS.getEventScrollX();
     }
 
     /**
@@ -326,7 +330,7 @@ public class Mouse {
      * @apiNote Custom method.
      */
     public static int getEventDWheelY() {
-        return MOUSE_SCROLL_EVENTS[EVENT_QUEUE.getReadPosition()] != null ? (int) MOUSE_SCROLL_EVENTS[EVENT_QUEUE.getReadPosition()].y() : 0;
+        return (int) EVENTS.getEventScrollY();
     }
 
     /**
@@ -335,7 +339,7 @@ public class Mouse {
      * @return The current event delta x position of the last two events.
      */
     public static int getEventDX() {
-        return (int) (MOUSE_MOVE_EVENTS[EVENT_QUEUE.getReadPosition()].x() - PREV_MOUSE_MOVE_EVENTS[EVENT_QUEUE.getReadPosition()].x());
+        return EVENTS.getEventDX();
     }
 
     /**
@@ -344,7 +348,7 @@ public class Mouse {
      * @return The current event delta y position of the last two events.
      */
     public static int getEventDY() {
-        return (int) (MOUSE_MOVE_EVENTS[EVENT_QUEUE.getReadPosition()].y() - PREV_MOUSE_MOVE_EVENTS[EVENT_QUEUE.getReadPosition()].y());
+        return EVENTS.getEventDY();
     }
 
     /**
@@ -353,7 +357,20 @@ public class Mouse {
      * @return The time in nanoseconds of the latest event.
      */
     public static long getEventNanoseconds() {
-        return MOUSE_EVENT_TIMINGS[EVENT_QUEUE.getReadPosition()];
+        return EVENTS.getEventNanoseconds();
+    }
+
+    /**
+     * Returns the time in nanoseconds of the first event merged into the current event.
+     * <p>
+     * This only differs from {@link #getEventNanoseconds()} when {@link Config#INPUT_MOUSE_COALESCE_MOTION} is enabled.
+     *
+     * @return The time in nanoseconds of the first merged event.
+     *
+     * @apiNote Custom method.
+     */
+    public static long getEventFirstNanoseconds() {
+        return EVENTS.getEventFirstNanoseconds();
     }
 
     /**
@@ -362,10 +379,7 @@ public class Mouse {
      * @return The latest x position of the mouse.
      */
     public static int getEventX() {
-        if (MOUSE_MOVE_EVENTS[EVENT_QUEUE.getReadPosition()] == null) {
-            return 0;
-        }
-        return (int) MOUSE_MOVE_EVENTS[EVENT_QUEUE.getReadPosition()].x();
+        return (int) EVENTS.getEventX();
     }
 
     /**
@@ -374,10 +388,30 @@ public class Mouse {
      * @return The latest y position of the mouse.
      */
     public static int getEventY() {
-        if (MOUSE_MOVE_EVENTS[EVENT_QUEUE.getReadPosition()] == null) {
-            return 0;
-        }
-        return (int) MOUSE_MOVE_EVENTS[EVENT_QUEUE.getReadPosition()].y();
+        return (int) EVENTS.getEventY();
+    }
+
+    /**
+     * Returns the type of the current event.
+     *
+     * @return The type of the current event.
+     *
+     * @apiNote Custom method.
+     */
+    public static MouseEventType getEventType() {
+        return EVENTS.getEventType();
+    }
+
+    /**
+     * Returns a snapshot of the current event as a record.
+     *
+     * @return A snapshot of the current event.
+     *
+     * @apiNote Custom method.
+     * @implNote This allocates a new record per call. Prefer the primitive getters on hot paths.
+     */
+    public static MouseEvent getEventSnapshot() {
+        return EVENTS.getEventSnapshot();
     }
 
     /**
@@ -405,14 +439,31 @@ public class Mouse {
 
     /**
      * Returns whether a mouse button is down.
+     * <p>
+     * Off the input thread (see {@link Display#runWithInputThread(Runnable)}), this is always answered from callback state, as GLFW may only be queried from the main thread.
      *
      * @param button The button to check.
      * @return Whether the button is down.
      */
     public static boolean isButtonDown(int button) {
+        if (Config.INPUT_CACHED_KEY_STATE || !Display.isOnInputThread()) {
+            return BUTTON_DOWN_STATES.isDown(button);
+        }
         return glfwGetMouseButton(Display.getWindow(), button) == GLFW.GLFW_PRESS;
     }
 
+    /**
+     * Sets whether a button is down, as reported by {@link #isButtonDown(int)} when {@link Config#INPUT_CACHED_KEY_STATE} is enabled or off the input thread.
+     *
+     * @param button The button.
+     * @param down Whether the button is down.
+     *
+     * @apiNote Custom method. Called from the mouse button callback.
+     */
+    public static void setButtonDown(int button, boolean down) {
+        BUTTON_DOWN_STATES.setDown(button, down);
+    }
+
     /**
      * Returns whether the mouse is clipped to the window.
      *
@@ -449,21 +500,36 @@ public class Mouse {
         return Display.isVisible();
     }
 
+    /**
+     * Returns the amount of events dropped due to the queue being full.
+     *
+     * @return The amount of dropped events.
+     *
+     * @apiNote Custom method.
+     */
+    public static long getDroppedEventCount() {
+        return EVENTS.getDroppedCount();
+    }
+
     /**
      * Moves on to the next event in the queue.
      *
      * @return Whether there are more events in the queue.
      */
     public static boolean next() {
-        return EVENT_QUEUE.next();
+        return EVENTS.next();
     }
 
     /**
      * Dummy method.
      * <p>
-     * Forcefully updates the mouse position to match the latest event.
+     * Forcefully updates the mouse position to match the latest event, and publishes any pending coalesced move event.
      */
     public static void poll() {
+        if (Display.isOnInputThread()) { // Otherwise flushed by the input thread, as it owns the pending event
+            flushEvents();
+        }
+
         if (!grabbed && clipPosition) {
             if (latestX < 0) latestX = 0;
             if (latestY < 0) latestY = 0;
@@ -491,12 +557,19 @@ public class Mouse {
      * @param y The y position of the cursor.
      */
     public static void setCursorPosition(int x, int y) {
+        if (!Display.isOnInputThread()) {
+            Display.runOnInputThread(() -> setCursorPosition(x, y));
+            return;
+        }
+
         glfwSetCursorPos(Display.getWindow(), x, y);
         addMoveEvent(x, y);
     }
 
     /**
      * Sets whether the mouse is grabbed.
+     * <p>
+     * Off the input thread, this waits for the input thread to apply it, so that {@code isGrabbed()} and the position are up to date on return.
      *
      * @param grabbed Whether the mouse is grabbed.
      */
@@ -505,6 +578,11 @@ public class Mouse {
             return;
         }
 
+        if (!Display.isOnInputThread()) { // The cursor state is owned by the input thread; wait for it
+            CompletableFuture.runAsync(() -> setGrabbed(grabbed), Display::runOnInputThread).join();
+            return;
+        }
+
         GLFW.glfwSetInputMode(Display.getWindow(), GLFW.GLFW_CURSOR, grabbed ? GLFW.GLFW_CURSOR_DISABLED : GLFW.GLFW_CURSOR_NORMAL);
         Mouse.grabbed = grabbed;
         if (!grabbed) {
@@ -519,8 +597,8 @@ public class Mouse {
             addButtonEvent(-1, false); // This is a hacky solution to cause the game to get the correct mouse position if no new events are fired
         } else {
             ignoreNextDelta++; // Prevent camera rapidly rotating when closing GUIs.
-            dx = 0;
-            dy = 0;
+            DX.set(0);
+            DY.set(0);
         }
     }
 
@@ -31,6 +31,7 @@
  */
 package org.lwjgl.opengl;
 
+import me.darragh.lwjgl.memory.PooledAllocator;
 import org.lwjgl.BufferUtils;
 import org.lwjgl.LWJGLUtil;
 import org.lwjgl.MemoryUtil;
@@ -39,7 +40,8 @@ import java.nio.*;
 
 /**
  * Utility class for OpenGL API calls. Instances of APIUtil are created in ContextCapabilities,
- * so we have an instance per OpenGL context.
+ * so we have an instance per OpenGL context. The scratch byte buffer is backed by {@link PooledAllocator}, so growing it
+ * neither reserves direct memory nor leaves the old buffer to the garbage collector.
  *
  * @author spasi
  */
@@ -50,7 +52,6 @@ final class APIUtil {
 
     private static final int BUFFERS_SIZE = 32;
 
-    private char[]     array;
     private ByteBuffer buffer;
     private IntBuffer  lengths;
 
@@ -60,8 +61,7 @@ final class APIUtil {
     private final DoubleBuffer doubles;
 
     APIUtil() {
-        array = new char[INITIAL_BUFFER_SIZE];
-        buffer = BufferUtils.createByteBuffer(INITIAL_BUFFER_SIZE);
+        buffer = PooledAllocator.allocate(INITIAL_BUFFER_SIZE);
         lengths = BufferUtils.createIntBuffer(INITIAL_LENGTHS_SIZE);
 
         ints = BufferUtils.createIntBuffer(BUFFERS_SIZE);
@@ -71,30 +71,12 @@ final class APIUtil {
         doubles = BufferUtils.createDoubleBuffer(BUFFERS_SIZE);
     }
 
-    private static char[] getArray(final ContextCapabilities caps, final int size) {
-        char[] array = caps.util.array;
-
-        if ( array.length < size ) {
-            int sizeNew = array.length << 1;
-            while ( sizeNew < size )
-                sizeNew <<= 1;
-
-            array = new char[size];
-            caps.util.array = array;
-        }
-
-        return array;
-    }
-
     static ByteBuffer getBufferByte(final ContextCapabilities caps, final int size) {
         ByteBuffer buffer = caps.util.buffer;
 
         if ( buffer.capacity() < size ) {
-            int sizeNew = buffer.capacity() << 1;
-            while ( sizeNew < size )
-                sizeNew <<= 1;
-
-            buffer = BufferUtils.createByteBuffer(size);
+            PooledAllocator.release(buffer);
+            buffer = PooledAllocator.allocate(size); // Rounded up to a power of two
             caps.util.buffer = buffer;
         } else
             buffer.clear();
@@ -105,18 +87,12 @@ final class APIUtil {
     private static ByteBuffer getBufferByteOffset(final ContextCapabilities caps, final int size) {
         ByteBuffer buffer = caps.util.buffer;
 
-        if ( buffer.capacity() < size ) {
-            int sizeNew = buffer.capacity() << 1;
-            while ( sizeNew < size )
-                sizeNew <<= 1;
+        final int limit = buffer.limit();
+        if ( buffer.capacity() < size )
+            caps.util.buffer = (buffer = PooledAllocator.reallocate(buffer, size, limit)); // Copies only the bytes already written
 
-            final ByteBuffer bufferNew = BufferUtils.createByteBuffer(size);
-            bufferNew.put(buffer);
-            caps.util.buffer = (buffer = bufferNew);
-        } else {
-            buffer.position(buffer.limit());
-            buffer.limit(buffer.capacity());
-        }
+        buffer.position(limit);
+        buffer.limit(buffer.capacity());
 
         return buffer;
     }
@@ -141,7 +117,7 @@ final class APIUtil {
             while ( sizeNew < size )
                 sizeNew <<= 1;
 
-            lengths = BufferUtils.createIntBuffer(size);
+            lengths = BufferUtils.createIntBuffer(sizeNew);
             caps.util.lengths = lengths;
         } else
             lengths.clear();
@@ -156,9 +132,14 @@ final class APIUtil {
      * @param string The source string
      */
     private static ByteBuffer encode(final ByteBuffer buffer, final CharSequence string) {
+        if ( !LWJGLUtil.DEBUG ) { // Bulk encode, then advance past the written bytes
+            buffer.position(buffer.position() + org.lwjgl.system.MemoryUtil.memASCII(string, false, buffer, buffer.position()));
+            return buffer;
+        }
+
         for ( int i = 0; i < string.length(); i++ ) {
             final char c = string.charAt(i);
-            if ( LWJGLUtil.DEBUG && 0x80 <= c ) // Silently ignore and map to 0x1A.
+            if ( 0x80 <= c ) // Silently ignore and map to 0x1A.
                 buffer.put((byte)0x1A);
             else
                 buffer.put((byte)c);
@@ -168,20 +149,14 @@ final class APIUtil {
     }
 
     /**
-     * Reads a byte string from the specified buffer.
+     * Reads a byte string from the specified buffer. Repeated strings, e.g. uniform names, are returned from a cache.
      *
      * @param buffer
      *
      * @return the buffer as a String.
      */
     static String getString(final ContextCapabilities caps, final ByteBuffer buffer) {
-        final int length = buffer.remaining();
-        final char[] charArray = getArray(caps, length);
-
-        for ( int i = buffer.position(); i < buffer.limit(); i++ )
-            charArray[i - buffer.position()] = (char)buffer.get(i);
-
-        return new String(charArray, 0, length);
+        return MemoryUtil.decodeASCIICached(buffer);
     }
 
     /**
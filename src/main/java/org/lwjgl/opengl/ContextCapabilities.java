@@ -2,12 +2,12 @@ package org.lwjgl.opengl;
 
 import me.darragh.lwjgl.opengl.Capability;
 
-import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
+import static org.lwjgl.glfw.GLFW.glfwGetCurrentContext;
 
 /**
  * Stores a copy of all context capabilities from GL.getCapabilities().
+ * <p>
+ * The copy is performed by {@code ContextCapabilitiesCopier}, which is generated at build time from the {@link Capability} annotations.
  *
  * @author darraghd493
  * @since 1.0.0
@@ -19,6 +19,7 @@ public class ContextCapabilities {
     static final boolean DEBUG = false;
     final APIUtil util = new APIUtil();
     final StateTracker tracker = new StateTracker();
+    final PixelStoreTracker pixelStore = new PixelStoreTracker();
 
     /**
      * Capabilities.
@@ -387,23 +388,43 @@ public class ContextCapabilities {
     @Capability(name = "GL_SGIS_texture_lod") public boolean GL_SGIS_texture_lod;
     @Capability(name = "GL_SUN_slice_accum") public boolean GL_SUN_slice_accum;
 
+    /**
+     * Limits of the display context, queried on first use.
+     */
+    private int maxTextureSize;
+    private long limitsContext; // The context the limits belong to
+
     public ContextCapabilities() {
-        Map<String, Field> fields = new HashMap<>();
-        for (var field : ContextCapabilities.class.getFields()) {
-            if (field.isAnnotationPresent(Capability.class)) {
-                Capability capability = field.getAnnotation(Capability.class);
-                fields.put(capability.name(), field);
-            }
+        ContextCapabilitiesCopier.copy(this.capabilities, this);
+    }
+
+    /**
+     * Returns {@code GL_MAX_TEXTURE_SIZE} of the current context.
+     * <p>
+     * While the display context is current, this is queried once and then cached, as it never changes for a context. The cache
+     * is invalidated whenever the display is created or destroyed. Other contexts are always queried.
+     *
+     * @return The maximum width and height of a texture, in texels.
+     */
+    public int getMaxTextureSize() {
+        long current = glfwGetCurrentContext();
+        if (current == 0L || current != Display.getWindow()) {
+            return GL11.glGetInteger(GL11.GL_MAX_TEXTURE_SIZE);
         }
-        try {
-            for (var field : GLCapabilities.class.getFields()) {
-                if (!fields.containsKey(field.getName())) continue;
-                boolean value = field.getBoolean(capabilities);
-                var entryField = fields.get(field.getName());
-                entryField.setBoolean(this, value);
-            }
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
+
+        if (this.maxTextureSize == 0 || this.limitsContext != current) {
+            this.maxTextureSize = GL11.glGetInteger(GL11.GL_MAX_TEXTURE_SIZE);
+            this.limitsContext = current;
         }
+        return this.maxTextureSize;
+    }
+
+    /**
+     * Discards the cached limits, so they are queried again on next use. A recreated display may reuse the window address of
+     * the previous one, so this is called by {@link Display} rather than relying on the context handle changing.
+     */
+    void invalidateLimits() {
+        this.maxTextureSize = 0;
+        this.limitsContext = 0L;
     }
 }
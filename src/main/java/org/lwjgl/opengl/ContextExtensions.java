@@ -0,0 +1,72 @@
+package org.lwjgl.opengl;
+
+import me.darragh.lwjgl.opengl.Extension;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A compact alternative to {@link ContextCapabilities}, storing every capability as a single bit keyed by {@link Extension#ordinal()}.
+ * <p>
+ * The bitset is only populated from {@link GLCapabilities} on the first query, so contexts which never check their
+ * capabilities (e.g. shared contexts) do not pay for copying them. Once populated, the view no longer references the
+ * {@link GLCapabilities}, so it does not keep a destroyed context's capabilities alive.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class ContextExtensions {
+    private static final int WORDS = (Extension.values().length + 63) >>> 6;
+
+    @Nullable
+    private GLCapabilities capabilities; // Released once the bitset is populated
+    private volatile long[] bits;
+
+    /**
+     * Creates a view of the capabilities of the current context.
+     */
+    public ContextExtensions() {
+        this(GL.getCapabilities());
+    }
+
+    /**
+     * Creates a view of the given capabilities.
+     *
+     * @param capabilities The capabilities to read from.
+     */
+    public ContextExtensions(GLCapabilities capabilities) {
+        this.capabilities = capabilities;
+    }
+
+    /**
+     * Checks if the context supports an extension.
+     *
+     * @param extension The extension to check.
+     * @return Whether the extension is supported.
+     *
+     * @apiNote Custom method.
+     */
+    public boolean has(Extension extension) {
+        long[] bits = this.bits;
+        if (bits == null) {
+            bits = this.populate();
+        }
+
+        int ordinal = extension.ordinal();
+        return (bits[ordinal >>> 6] & (1L << ordinal)) != 0L;
+    }
+
+    /**
+     * Copies the capabilities into the bitset, if another thread has not already done so, and releases them.
+     *
+     * @return The populated bitset.
+     */
+    synchronized long[] populate() {
+        long[] bits = this.bits;
+        if (bits == null) {
+            bits = new long[WORDS];
+            ContextCapabilitiesCopier.copy(this.capabilities, bits);
+            this.capabilities = null;
+            this.bits = bits;
+        }
+        return bits;
+    }
+}
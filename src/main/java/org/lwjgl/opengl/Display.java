@@ -2,21 +2,32 @@ package org.lwjgl.opengl;
 
 import lombok.Getter;
 import me.darragh.lwjgl.Config;
-import me.darragh.lwjgl.opengl.input.keyboard.KeyCodeUtil;
-import me.darragh.lwjgl.opengl.input.keyboard.KeyEvent;
-import me.darragh.lwjgl.opengl.input.keyboard.KeyState;
+import me.darragh.lwjgl.opengl.error.ErrorCheckPolicy;
+import me.darragh.lwjgl.opengl.error.ErrorMetrics;
+import me.darragh.lwjgl.opengl.timing.AdaptiveVSync;
+import me.darragh.lwjgl.opengl.timing.FrameLimiter;
+import me.darragh.lwjgl.opengl.timing.FramePhase;
+import me.darragh.lwjgl.opengl.timing.FrameStats;
 import org.jspecify.annotations.Nullable;
 import org.lwjgl.BufferUtils;
 import org.lwjgl.LWJGLUtil;
+import org.lwjgl.MemoryUtil;
 import org.lwjgl.PointerBuffer;
 import org.lwjgl.Sys;
 import org.lwjgl.glfw.*;
 import org.lwjgl.input.Keyboard;
 import org.lwjgl.input.Mouse;
+import org.lwjgl.system.MemoryStack;
 
 import java.awt.*;
 import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 import static me.darragh.lwjgl.Config.*;
 import static org.lwjgl.glfw.GLFW.*;
@@ -86,27 +97,95 @@ public class Display {
     @Getter
     private static DisplayMode displayMode = new DisplayMode(width, height);
 
-    private static boolean displayCreated, displayFocused = true,
-            displayVisible, displayResized, displayDirty;
+    private static boolean displayCreated, displayResized;
 
-    private static int displayX, displayY,
-            displayWidth, displayHeight;
+    // The display window's callbacks and window state; its input is handed to Keyboard and Mouse
+    @Nullable
+    private static volatile DisplayInstance defaultInstance;
+
+    private static final DisplayInstance.InputHandler DISPLAY_INPUT = new DisplayInstance.InputHandler() {
+        @Override
+        public void onKey(int key, int action, int mods) {
+            Keyboard.handleKeyCallback(key, action, mods);
+        }
+
+        @Override
+        public void onChar(int codepoint) {
+            Keyboard.handleCharCallback(codepoint);
+        }
+
+        @Override
+        public void onCursorPos(double x, double y) {
+            Mouse.addMoveEvent(x, y);
+        }
+
+        @Override
+        public void onMouseButton(int button, boolean pressed) {
+            Mouse.setButtonDown(button, pressed);
+            Mouse.addButtonEvent(button, pressed);
+        }
+
+        @Override
+        public void onScroll(double x, double y) {
+            Mouse.addScrollEvent(x, y);
+        }
+    };
+
+    private static final GLFWErrorCallback ERROR_CALLBACK = GLFWErrorCallback.createPrint(System.err); // Kept open; we want to see the errors
+
+    private static int displayWidth, displayHeight; // Updated from the display instance once per processMessages
 
     private static int savedDisplayX, savedDisplayY,
             savedDisplayWidth, savedDisplayHeight;
 
-    // TODO: Remove? Only set; internal tracking
-    private static int displayFramebufferWidth,
-            displayFramebufferHeight;
+    // Display modes of the last queried monitor; cleared by the monitor callback as monitors are connected or disconnected
+    @Nullable
+    private static volatile CachedDisplayModes cachedDisplayModes;
+
+    @Nullable
+    private static GLFWMonitorCallback monitorCallback, previousMonitorCallback; // The previous callback is chained, not replaced
+
+    // Input thread data
+    private static volatile boolean inputThreaded;
+
+    @Nullable
+    private static volatile Thread inputThread;
+
+    private static final Queue<Runnable> INPUT_THREAD_TASKS = new ConcurrentLinkedQueue<>();
 
-    private static boolean latestResized;
-    private static int latestWidth, latestHeight;
+    // Error checking
+    /**
+     * -- GETTER --
+     *  Returns the OpenGL error counts observed by {@link #update(boolean)} and the debug output callback.
+     *
+     * @apiNote Custom method.
+     */
+    @Getter
+    private static final ErrorMetrics errorMetrics = new ErrorMetrics();
 
-    // Callback data
-    private static boolean cancelNextChar;
+    private static int framesSinceErrorCheck;
 
+    // Frame statistics
+    /**
+     * -- GETTER --
+     *  Returns the per-phase frame timings, which are only recorded while {@link Config#GL_FRAME_STATS} is enabled.
+     *
+     * @apiNote Custom method.
+     */
+    @Getter
+    private static final FrameStats frameStats = new FrameStats();
+
+    // Adaptive VSync
     @Nullable
-    private static KeyEvent ingredientKeyEvent;
+    private static AdaptiveVSync adaptiveVSync;
+
+    private static final FrameLimiter ADAPTIVE_LIMITER = new FrameLimiter();
+
+    private static int adaptiveRefreshRate;
+    private static long adaptiveFrameEnd, adaptiveWaitTime; // Wait time accumulates Display.sync calls and the adaptive limiter between swaps
+
+    // Idle mode
+    private static long idleNextFrame;
 
     public Display() {
         throw new UnsupportedOperationException("This class cannot be instantiated. Please use Display.create().");
@@ -124,6 +203,17 @@ public class Display {
                 monitorRefreshRate = vidMode.refreshRate();
 
         desktopDisplayMode = new DisplayMode(monitorWidth, monitorHeight, monitorBitPerPixel, monitorRefreshRate);
+
+        monitorCallback = new GLFWMonitorCallback() {
+            @Override
+            public void invoke(long monitor, int event) {
+                cachedDisplayModes = null; // The primary monitor may have changed too
+                if (previousMonitorCallback != null) {
+                    previousMonitorCallback.invoke(monitor, event);
+                }
+            }
+        };
+        previousMonitorCallback = glfwSetMonitorCallback(monitorCallback);
     }
 
     /**
@@ -131,7 +221,7 @@ public class Display {
      */
     // TODO: Fix late resize issue; for some reason it doesn't update on Hyprland?
     public static void create() {
-        if (Window.handle != NULL || displayCreated) {
+        if (defaultInstance != null || displayCreated) {
             throw new IllegalStateException("Display already created.");
         }
 
@@ -157,7 +247,7 @@ public class Display {
             glfwWindowHint(GLFW_OPENGL_FORWARD_COMPAT, GL_TRUE);
         }
 
-        glfwWindowHint(GLFW_VISIBLE, GLFW_TRUE);
+        DrawableGL.setVisibleHint(GLFW_TRUE);
         glfwWindowHint(GLFW_RESIZABLE, GLFW_TRUE);
         glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, GL_VERSION_MAJOR);
         glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, GL_VERSION_MINOR);
@@ -179,153 +269,28 @@ public class Display {
         glfwWindowHintString(GLFW_WAYLAND_APP_ID, Config.WAYLAND_APP_ID);
 
         // Create window
-        glfwSetErrorCallback(Window.errorCallback); // temporary
-        Window.handle = glfwCreateWindow(displayMode.getWidth(), displayMode.getHeight(), title, NULL, NULL);
-        if (Window.handle == NULL) {
+        glfwSetErrorCallback(ERROR_CALLBACK);
+        long window = glfwCreateWindow(displayMode.getWidth(), displayMode.getHeight(), title, NULL, NULL);
+        if (window == NULL) {
             throw new IllegalStateException("Failed to create Display window");
         }
 
         // Patch for raw mouse input
         if (glfwRawMouseMotionSupported()) {
-            glfwSetInputMode(Window.handle, GLFW_RAW_MOUSE_MOTION, GLFW_TRUE);
+            glfwSetInputMode(window, GLFW_RAW_MOUSE_MOTION, GLFW_TRUE);
         }
 
-        // Set callbacks
-        Window.keyCallback = new GLFWKeyCallback() {
-            @Override
-            public void invoke(long window, int key, int scancode, int action, int mods) {
-                cancelNextChar = false;
-                if (key > GLFW_KEY_SPACE && key <= GLFW_KEY_GRAVE_ACCENT) { // Handle keys have a char - we exclude space to avoid extra input when switching IME
-                    if ((GLFW_MOD_CONTROL & mods) != 0 && (GLFW_MOD_ALT & mods) == 0) { // Handle Ctrl + X/C/V
-                        Keyboard.addKeyEvent(window, key, scancode, action, mods, (char) (key & 0x1F));
-                        cancelNextChar = true; // Cancel char event from Ctrl key event since it is handled here
-                    } else if (action > 0) { // Delay press and repeat key event to actual char input; there is always a following char
-                        ingredientKeyEvent = new KeyEvent(KeyCodeUtil.toLwjgl(key), '\0', action > 1 ? KeyState.REPEAT : KeyState.PRESS, Sys.getNanoTime());
-                    } else { // Release event
-                        if (ingredientKeyEvent != null && ingredientKeyEvent.key() == KeyCodeUtil.toLwjgl(key)) {
-                            ingredientKeyEvent.outOfOrder(true);
-                        }
-                        Keyboard.addKeyEvent(window, key, scancode, action, mods, '\0');
-                    }
-                } else { // Other key with no char event associated
-                    char mappedChar = switch (key) {
-                        case GLFW_KEY_ENTER -> 0x0D;
-                        case GLFW_KEY_ESCAPE -> 0x1B;
-                        case GLFW_KEY_TAB -> 0x09;
-                        case GLFW_KEY_BACKSPACE -> 0x08;
-                        default -> '\0';
-                    };
-                    Keyboard.addKeyEvent(window, key, scancode, action, mods, mappedChar);
-                }
-            }
-        };
-
-        Window.charCallback = new GLFWCharCallback() {
-            @Override
-            public void invoke(long window, int codepoint) {
-                if (cancelNextChar) { // Char event being cancelled
-                    cancelNextChar = false;
-                } else if (ingredientKeyEvent != null) {
-                    ingredientKeyEvent.keyChar((char) codepoint); // Send char with ASCII key event here
-                    Keyboard.addKeyEvent(ingredientKeyEvent);
-                    if (ingredientKeyEvent.outOfOrder()) {
-                        ingredientKeyEvent = ingredientKeyEvent.copy();
-                        ingredientKeyEvent.state(KeyState.RELEASE);
-                        Keyboard.addKeyEvent(ingredientKeyEvent);
-                    }
-                    ingredientKeyEvent = null;
-                } else {
-                    Keyboard.addCharEvent(0, (char) codepoint); // Non-ASCII chars
-                }
-            }
-        };
-
-        Window.cursorPosCallback = new GLFWCursorPosCallback() {
-            @Override
-            public void invoke(long window, double x, double y) {
-                Mouse.addMoveEvent(x, y);
-            }
-        };
-
-        Window.mouseButtonCallback = new GLFWMouseButtonCallback() {
-            @Override
-            public void invoke(long window, int id, int action, int mods) {
-                Mouse.addButtonEvent(id, action > 0);
-            }
-        };
-
-        Window.scrollCallback = new GLFWScrollCallback() {
-            @Override
-            public void invoke(long window, double xOffset, double yOffset) {
-                Mouse.addScrollEvent(xOffset, yOffset);
-            }
-        };
-
-        Window.windowFocusCallback = new GLFWWindowFocusCallback() {
-            @Override
-            public void invoke(long window, boolean focused) {
-                displayFocused = focused;
-            }
-        };
-
-        Window.windowIconifyCallback = new GLFWWindowIconifyCallback() {
-            @Override
-            public void invoke(long window, boolean iconified) {
-                displayVisible = !iconified;
-            }
-        };
-
-        Window.windowSizeCallback = new GLFWWindowSizeCallback() {
-            @Override
-            public void invoke(long window, int width, int height) {
-                latestResized = true;
-                latestWidth = width;
-                latestHeight = height;
-            }
-        };
-
-        Window.windowPosCallback = new GLFWWindowPosCallback() {
-            @Override
-            public void invoke(long window, int x, int y) {
-                displayX = x;
-                displayY = y;
-            }
-        };
-
-        Window.windowRefreshCallback = new GLFWWindowRefreshCallback() {
-            @Override
-            public void invoke(long window) {
-                displayDirty = true;
-            }
-        };
-
-        Window.framebufferSizeCallback = new GLFWFramebufferSizeCallback() {
-            @Override
-            public void invoke(long window, int width, int height) {
-                displayFramebufferWidth = width;
-                displayFramebufferHeight = height;
-            }
-        };
-
-        Window.setCallbacks();
-
-        // Update display state
+        // Set callbacks and update display state
+        DisplayInstance instance = DisplayInstance.createDefault(window, displayMode.getWidth(), displayMode.getHeight(), DISPLAY_INPUT);
+        instance.setPosition((monitorWidth - displayMode.getWidth()) / 2, (monitorHeight - displayMode.getHeight()) / 2);
         displayWidth = displayMode.getWidth();
         displayHeight = displayMode.getHeight();
+        defaultInstance = instance;
 
-        int[] fbw = new int[1],
-                fbh = new int[1];
-
-        glfwGetFramebufferSize(Window.handle, fbw, fbh);
-        displayFramebufferWidth = fbw[0];
-        displayFramebufferHeight = fbh[0];
-
-        displayX = (monitorWidth - displayMode.getWidth()) / 2;
-        displayY = (monitorHeight - displayMode.getHeight()) / 2;
-
-        glfwMakeContextCurrent(Window.handle);
+        glfwMakeContextCurrent(window);
         drawable = new DrawableGL();
         glCapabilities = GL.createCapabilities();
+        invalidateContextCaches();
 
         glfwSwapInterval(1);
         displayCreated = true;
@@ -340,15 +305,8 @@ public class Display {
         // Poll events early
         glfwPollEvents();
 
-        // Trigger early callbacks to get a more accurate initial state
-        int[] ww = new int[1], wh = new int[1];
-        int[] fw = new int[1], fh = new int[1];
-
-        glfwGetWindowSize(Window.handle, ww, wh);
-        glfwGetFramebufferSize(Window.handle, fw, fh);
-
-        Window.windowSizeCallback.invoke(Window.handle, ww[0], wh[0]);
-        Window.framebufferSizeCallback.invoke(Window.handle, fw[0], fh[0]);
+        // Query the sizes again to get a more accurate initial state
+        instance.updateSize();
     }
 
     /**
@@ -449,41 +407,123 @@ public class Display {
             throw new IllegalStateException("Display not created.");
         }
 
-        if (Window.handle == NULL) {
+        if (!isOnInputThread()) { // Window destruction must happen on the main thread; wait for it
+            if (isCurrent()) { // A context can only be released by the thread it is current on
+                releaseContext();
+            }
+            CompletableFuture.runAsync(() -> destroy(terminate), Display::runOnInputThread).join();
+            return;
+        }
+
+        DisplayInstance instance = defaultInstance;
+        if (instance == null) {
             LWJGLUtil.log("Display.destroy() called but the display window is already destroyed.");
             return;
         }
 
-        Window.releaseCallbacks();
+        DisplayInstance.destroyAll();
+        instance.releaseCallbacks();
 
-        if (Window.handle != NULL) {
-            glfwDestroyWindow(Window.handle);
-            Window.handle = NULL;
+        if (isCurrent()) { // Otherwise the caches are invalidated when the display is next created
+            invalidateContextCaches();
         }
 
+        glfwDestroyWindow(instance.getWindow());
+        defaultInstance = null;
+
         if (terminate) {
             terminate();
+            releaseMonitorCallback(); // GLFW no longer calls it; display modes are no longer cached
         }
 
         displayCreated = false;
     }
 
+    /**
+     * Discards the state cached for the display context. A recreated display may reuse the window address of the previous one,
+     * so the caches cannot rely on the context handle changing.
+     */
+    private static void invalidateContextCaches() {
+        GLContext.getCapabilities().invalidateLimits();
+        PixelStoreTracker.invalidate();
+    }
+
     /**
      * Returns the driver adapter.
      *
      * @return The driver adapter.
      */
     public static String getAdapter() {
-        return isCreated() ? Objects.requireNonNull(glGetString(GL11.GL_VENDOR), "GL_VENDOR is null.") : "Unknown";
+        return isCreated() ? Objects.requireNonNull(MemoryUtil.decodeUTF8Cached(nglGetString(GL11.GL_VENDOR)), "GL_VENDOR is null.") : "Unknown";
     }
 
     /**
      * Returns all available display adapters.
+     * <p>
+     * The list is cached per monitor until a monitor is connected or disconnected; each call returns a copy, which may be modified.
+     * {@link #getAvailableDisplayModes(DisplayMode[])} avoids the copy.
      *
      * @return All available display adapters.
      */
     public static DisplayMode[] getAvailableDisplayModes() { // TODO: Consider other monitors?
-        GLFWVidMode.Buffer modes = glfwGetVideoModes(glfwGetPrimaryMonitor());
+        return getCachedDisplayModes().clone();
+    }
+
+    /**
+     * Copies the available display modes into the given array, without allocating while they are cached.
+     * <p>
+     * At most {@code modes.length} modes are copied; the return value tells whether the array was large enough.
+     *
+     * @param modes The array to copy the display modes into.
+     * @return The amount of available display modes, which may exceed the length of the array.
+     *
+     * @apiNote Custom method.
+     */
+    public static int getAvailableDisplayModes(DisplayMode[] modes) {
+        DisplayMode[] available = getCachedDisplayModes();
+        System.arraycopy(available, 0, modes, 0, Math.min(available.length, modes.length));
+        return available.length;
+    }
+
+    /**
+     * Returns the display modes of the primary monitor, from the cache if possible. The array must not be modified.
+     */
+    private static DisplayMode[] getCachedDisplayModes() {
+        long monitor = glfwGetPrimaryMonitor();
+        if (monitorCallback == null) { // Nothing would invalidate the cache
+            return _getDisplayModes(monitor);
+        }
+
+        CachedDisplayModes cached = cachedDisplayModes;
+        if (cached == null || cached.monitor() != monitor) {
+            cached = new CachedDisplayModes(monitor, _getDisplayModes(monitor));
+            cachedDisplayModes = cached;
+        }
+        return cached.modes();
+    }
+
+    /**
+     * Frees the monitor callback and discards the cached display modes.
+     */
+    private static void releaseMonitorCallback() {
+        if (monitorCallback != null) {
+            monitorCallback.free();
+            monitorCallback = null;
+        }
+        previousMonitorCallback = null; // Owned by whoever installed it
+        cachedDisplayModes = null;
+    }
+
+    /**
+     * The display modes of a monitor, held together so both are published at once.
+     */
+    private record CachedDisplayModes(long monitor, DisplayMode[] modes) {}
+
+    /**
+     * Queries the display modes of a monitor.
+     */
+    private static DisplayMode[] _getDisplayModes(long monitor) {
+        GLFWVidMode.Buffer modes = glfwGetVideoModes(monitor);
         if (modes == null) {
             LWJGLUtil.log("No video modes found.");
             return new DisplayMode[] {
@@ -520,17 +560,12 @@ public class Display {
      * Returns the pixel scale factor of the display window.
      *
      * @return The pixel scale factor of the display window.
+     *
+     * @implNote The scale is tracked by the content scale callback rather than queried on each call.
      */
     public static float getPixelScaleFactor() {
-        if (!isCreated()) {
-            return 1.0F;
-        }
-
-        float[] xScale = new float[1],
-                yScale = new float[1];
-
-        glfwGetWindowContentScale(getWindow(), xScale, yScale);
-        return Math.max(xScale[0], yScale[0]);
+        DisplayInstance instance = defaultInstance;
+        return instance != null && isCreated() ? instance.getPixelScaleFactor() : 1.0F;
     }
 
     /**
@@ -539,7 +574,7 @@ public class Display {
      * @return The driver version of OpenGL.
      */
     public static String getVersion() {
-        return isCreated() ? Objects.requireNonNull(glGetString(GL11.GL_VERSION), "GL_VERSION is null.") : "Unknown";
+        return isCreated() ? Objects.requireNonNull(MemoryUtil.decodeUTF8Cached(nglGetString(GL11.GL_VERSION)), "GL_VERSION is null.") : "Unknown";
     }
 
     /**
@@ -568,7 +603,8 @@ public class Display {
      * @return The current x position of the display window.
      */
     public static int getX() {
-        return displayX;
+        DisplayInstance instance = defaultInstance;
+        return instance != null ? instance.getX() : 0;
     }
 
     /**
@@ -577,15 +613,17 @@ public class Display {
      * @return The current y position of the display window.
      */
     public static int getY() {
-        return displayY;
+        DisplayInstance instance = defaultInstance;
+        return instance != null ? instance.getY() : 0;
     }
 
     public static boolean isActive() {
-        return displayFocused;
+        DisplayInstance instance = defaultInstance;
+        return instance == null || instance.isActive();
     }
 
     public static boolean isCloseRequested() {
-        return glfwWindowShouldClose(Window.handle);
+        return glfwWindowShouldClose(getWindow());
     }
 
     /**
@@ -594,7 +632,7 @@ public class Display {
      * @return Whether the display window is created.
      */
     public static boolean isCreated() {
-        return Window.handle != NULL && displayCreated;
+        return defaultInstance != null && displayCreated;
     }
 
     /**
@@ -603,7 +641,7 @@ public class Display {
      * @return Whether the display is in current context.
      */
     public static boolean isCurrent() {
-        return glfwGetCurrentContext() == Window.handle;
+        return glfwGetCurrentContext() == getWindow();
     }
 
     /**
@@ -612,7 +650,8 @@ public class Display {
      * @return Whether the display window is dirty.
      */
     public static boolean isDirty() {
-        return displayDirty;
+        DisplayInstance instance = defaultInstance;
+        return instance != null && instance.isDirty();
     }
 
     /**
@@ -621,14 +660,15 @@ public class Display {
      * @return Whether the display window is focused.
      */
     public static boolean isVisible() {
-        return displayVisible;
+        DisplayInstance instance = defaultInstance;
+        return instance == null || instance.isVisible();
     }
 
     /**
      * Makes the display window current.
      */
     public static void makeCurrent() {
-        glfwMakeContextCurrent(Window.handle);
+        glfwMakeContextCurrent(getWindow());
         if (glCapabilities != null) {
             GL.setCapabilities(glCapabilities);
         } else {
@@ -640,20 +680,23 @@ public class Display {
      * Polls the display window for system messages.
      */
     public static void processMessages() {
-        glfwPollEvents();
+        if (isIdle()) {
+            waitForIdleFrame();
+        } else if (!inputThreaded) { // Otherwise events are polled continuously by the input thread
+            glfwPollEvents();
+        }
         Keyboard.poll();
         Mouse.poll();
 
-        if (latestResized) {
-            latestResized = false;
+        DisplayInstance instance = defaultInstance;
+        if (instance != null && instance.pollResized()) {
             displayResized = true;
-            displayWidth = latestWidth;
-            displayHeight = latestHeight;
+            displayWidth = instance.getWidth();
+            displayHeight = instance.getHeight();
 
-            int[] fbw = new int[1], fbh = new int[1];
-            glfwGetFramebufferSize(Window.handle, fbw, fbh);
-            displayFramebufferWidth = fbw[0];
-            displayFramebufferHeight = fbh[0];
+            if (!inputThreaded) { // Otherwise the framebuffer size callback keeps this up to date
+                instance.updateFramebufferSize();
+            }
         } else {
             displayResized = false;
         }
@@ -719,11 +762,16 @@ public class Display {
             return;
         }
 
+        if (!isOnInputThread()) {
+            runOnInputThread(() -> setFullscreen(fullscreen));
+            return;
+        }
+
         if (fullscreen) {
             // Store the current display state before switching to fullscreen
             if (!Display.fullscreen) {
-                savedDisplayX = displayX;
-                savedDisplayY = displayY;
+                savedDisplayX = getX();
+                savedDisplayY = getY();
                 savedDisplayWidth = displayWidth;
                 savedDisplayHeight = displayHeight;
             }
@@ -734,10 +782,9 @@ public class Display {
                 _setFullscreenExclusive();
             }
         } else {
-            glfwSetWindowMonitor(Window.handle, NULL, savedDisplayX, savedDisplayY, savedDisplayWidth, savedDisplayHeight, 0);
-            //noinspection DataFlowIssue
-            Window.windowSizeCallback.invoke(Window.handle, savedDisplayWidth, savedDisplayHeight);
-            glfwSetWindowAttrib(Window.handle, GLFW_DECORATED, GLFW_TRUE); // Ensure the window is decorated
+            glfwSetWindowMonitor(getWindow(), NULL, savedDisplayX, savedDisplayY, savedDisplayWidth, savedDisplayHeight, 0);
+            Objects.requireNonNull(defaultInstance).updateSize(savedDisplayWidth, savedDisplayHeight);
+            glfwSetWindowAttrib(getWindow(), GLFW_DECORATED, GLFW_TRUE); // Ensure the window is decorated
         }
 
         Display.fullscreen = fullscreen;
@@ -761,6 +808,11 @@ public class Display {
             return;
         }
 
+        if (!isOnInputThread()) {
+            runOnInputThread(() -> setIcon(icons));
+            return;
+        }
+
         GLFWImage.Buffer glfwImages = GLFWImage.calloc(icons.length);
         ByteBuffer[] nativeBuffers = new ByteBuffer[icons.length];
         for (int icon = 0; icon < icons.length; icon++) {
@@ -803,7 +855,7 @@ public class Display {
         if (fullscreen || !isCreated()) {
             return;
         }
-        glfwSetWindowPos(Window.handle, x, y);
+        runOnInputThread(() -> glfwSetWindowPos(getWindow(), x, y));
     }
 
     /**
@@ -834,6 +886,7 @@ public class Display {
      * @param fps The new swap interval of the display window.
      */
     public static void setSwapInterval(int fps) {
+        adaptiveVSync = null;
         glfwSwapInterval(fps);
     }
 
@@ -847,7 +900,7 @@ public class Display {
         if (!isCreated()) {
             return;
         }
-        glfwSetWindowTitle(Window.handle, title);
+        runOnInputThread(() -> glfwSetWindowTitle(getWindow(), title));
     }
 
     /**
@@ -873,7 +926,7 @@ public class Display {
             LWJGLUtil.log("Display.swapBuffers() called but the display context is not current. Making context current before swapping buffers.");
             makeCurrent();
         }
-        glfwSwapBuffers(Window.handle);
+        glfwSwapBuffers(getWindow());
     }
 
     /**
@@ -885,7 +938,29 @@ public class Display {
         if (!isCreated()) {
             return;
         }
+        if (!GL_FRAME_STATS && adaptiveVSync == null) {
+            Sync.sync(fps);
+            return;
+        }
+
+        long start = System.nanoTime();
         Sync.sync(fps);
+        long waited = System.nanoTime() - start;
+        adaptiveWaitTime += waited;
+        if (GL_FRAME_STATS) {
+            frameStats.record(FramePhase.SYNC, waited);
+        }
+    }
+
+    /**
+     * Returns the frame limiter used by {@link #sync(int)}, e.g. to read its per-frame pacing error.
+     *
+     * @return The frame limiter.
+     *
+     * @apiNote Custom method.
+     */
+    public static FrameLimiter getFrameLimiter() {
+        return Sync.getLimiter();
     }
 
     /**
@@ -907,15 +982,162 @@ public class Display {
         if (!isCreated()) {
             return;
         }
-        swapBuffers();
-        displayDirty = false;
+        if (GL_FRAME_STATS) {
+            updateWithStats(processMessages);
+            return;
+        }
+
+        swapBuffersAndPace();
+        Objects.requireNonNull(defaultInstance).clearDirty();
         if (processMessages) {
             processMessages();
         }
+        checkErrors();
+    }
+
+    /**
+     * Updates the display window, recording the duration of each phase into {@link #getFrameStats()}.
+     *
+     * @param processMessages Whether to process system messages.
+     */
+    private static void updateWithStats(boolean processMessages) {
+        long start = System.nanoTime();
+        frameStats.recordFrameStart(start, getTargetFrameTime());
+
+        swapBuffersAndPace();
+        long swapped = System.nanoTime();
+        frameStats.record(FramePhase.SWAP_BUFFERS, swapped - start);
+
+        Objects.requireNonNull(defaultInstance).clearDirty();
+        if (processMessages) {
+            processMessages();
+            frameStats.record(FramePhase.PROCESS_MESSAGES, System.nanoTime() - swapped);
+        }
+        checkErrors();
+        frameStats.record(FramePhase.UPDATE, System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the expected frame time, from the last {@link #sync(int)} target or otherwise the refresh rate.
+     *
+     * @return The expected frame time in nanoseconds, or zero if unknown.
+     */
+    private static long getTargetFrameTime() {
+        int fps = Sync.getLimiter().getTargetFps();
+        if (fps <= 0) {
+            fps = getRefreshRate();
+        }
+        return fps > 0 ? 1_000_000_000L / fps : 0L;
+    }
+
+    /**
+     * Returns the refresh rate of the current display mode, falling back to the desktop display mode.
+     *
+     * @return The refresh rate, or zero if unknown.
+     */
+    private static int getRefreshRate() {
+        int frequency = displayMode.getFrequency();
+        if (frequency <= 0) { // Windowed display modes do not carry a frequency
+            frequency = desktopDisplayMode.getFrequency();
+        }
+        return Math.max(frequency, 0);
+    }
+
+    /**
+     * Returns whether the display should idle, per {@link Config#GL_IDLE_MODE}.
+     *
+     * @return Whether the display window is unfocused or iconified with idle mode enabled.
+     */
+    private static boolean isIdle() {
+        return GL_IDLE_MODE && (!isActive() || !isVisible());
+    }
+
+    /**
+     * Processes events until the next idle frame is due, sleeping while there are none.
+     * <p>
+     * This caps the frame rate to {@link Config#GL_IDLE_FPS}, while still handling events promptly.
+     */
+    private static void waitForIdleFrame() {
+        long frameTime = 1_000_000_000L / Math.max(GL_IDLE_FPS, 1);
+        long now = System.nanoTime();
+        if (now - idleNextFrame > frameTime) { // Just became idle, or fell behind; start pacing from now
+            idleNextFrame = now;
+        }
+        idleNextFrame += frameTime;
+
+        for (long remaining = idleNextFrame - now; remaining > 0L; remaining = idleNextFrame - System.nanoTime()) {
+            if (inputThreaded) { // The input thread is already waiting for events
+                LockSupport.parkNanos(remaining);
+            } else {
+                glfwWaitEventsTimeout(remaining / 1_000_000_000.0);
+            }
+
+            if (!isIdle()) { // Focused or restored; resume immediately
+                break;
+            }
+        }
+    }
+
+    /**
+     * Swaps the buffers, applying the software limiter if enabled, then feeds the frame's time to adaptive VSync.
+     */
+    private static void swapBuffersAndPace() {
+        if (GL_IDLE_MODE && !isVisible()) { // Nothing is presented while iconified
+            return;
+        }
+
+        AdaptiveVSync adaptive = adaptiveVSync;
+        if (adaptive == null) {
+            swapBuffers();
+            return;
+        }
+
+        if (adaptive.isLimiting()) {
+            long start = System.nanoTime();
+            ADAPTIVE_LIMITER.sync(adaptiveRefreshRate);
+            adaptiveWaitTime += System.nanoTime() - start;
+        }
 
-        int error = GL11.glGetError();
-        if (error != GL11.GL_NO_ERROR) {
-            throw new IllegalStateException("OpenGL error occurred: " + error);
+        swapBuffers();
+        long end = System.nanoTime(); // The frame spans swap to swap, so that blocking in the swap counts towards it
+        if (adaptiveFrameEnd != 0L && adaptive.update(end - adaptiveFrameEnd - adaptiveWaitTime)) {
+            glfwSwapInterval(adaptive.getSwapInterval());
+            ADAPTIVE_LIMITER.reset();
+        }
+        adaptiveFrameEnd = end;
+        adaptiveWaitTime = 0L;
+    }
+
+    /**
+     * Checks for OpenGL errors according to {@link Config#GL_ERROR_CHECK_POLICY}.
+     *
+     * @throws IllegalStateException If an error occurred and {@link Config#GL_ERROR_CHECK_THROW} is enabled.
+     */
+    private static void checkErrors() {
+        ErrorCheckPolicy policy = GL_ERROR_CHECK_POLICY;
+        if (policy == ErrorCheckPolicy.NEVER || policy == ErrorCheckPolicy.DEBUG_OUTPUT) {
+            return;
+        }
+        if (policy == ErrorCheckPolicy.INTERVAL && ++framesSinceErrorCheck < GL_ERROR_CHECK_INTERVAL) {
+            return;
+        }
+        framesSinceErrorCheck = 0;
+
+        errorMetrics.recordCheck();
+        int firstError = GL11.GL_NO_ERROR;
+        for (int i = 0; i < 16; i++) { // Drain every recorded error flag; bounded as a lost context may report errors indefinitely
+            int error = GL11.glGetError();
+            if (error == GL11.GL_NO_ERROR) {
+                break;
+            }
+            errorMetrics.recordError(error);
+            if (firstError == GL11.GL_NO_ERROR) {
+                firstError = error;
+            }
+        }
+
+        if (firstError != GL11.GL_NO_ERROR && GL_ERROR_CHECK_THROW) {
+            throw new IllegalStateException("OpenGL error occurred: " + firstError);
         }
     }
 
@@ -960,7 +1182,7 @@ public class Display {
 
         Display.width = width;
         Display.height = height;
-        glfwSetWindowSize(Window.handle, width, height);
+        runOnInputThread(() -> glfwSetWindowSize(getWindow(), width, height));
     }
 
     /**
@@ -975,11 +1197,63 @@ public class Display {
             return;
         }
 
-        if (visible) {
-            glfwShowWindow(Window.handle);
-        } else {
-            glfwHideWindow(Window.handle);
+        runOnInputThread(() -> {
+            if (visible) {
+                glfwShowWindow(getWindow());
+            } else {
+                glfwHideWindow(getWindow());
+            }
+        });
+    }
+
+    /**
+     * Enables or disables adaptive VSync.
+     * <p>
+     * While enabled, VSync is used as long as frames fit within the refresh interval. When frames start to miss it, VSync is
+     * disabled (with adaptive tearing if {@code WGL/GLX_EXT_swap_control_tear} is supported) and the frame rate is capped to the
+     * refresh rate in software, until frames fit comfortably again. See {@link AdaptiveVSync} for the hysteresis.
+     * <p>
+     * Calling {@link #setVSyncEnabled(boolean)} or {@link #setSwapInterval(int)} disables adaptive VSync.
+     *
+     * @param enabled Whether adaptive VSync should be enabled. Disabling it leaves VSync enabled.
+     *
+     * @apiNote Custom method. The display context must be current.
+     */
+    public static void setAdaptiveVSync(boolean enabled) {
+        if (!isCreated()) {
+            return;
+        }
+
+        if (!enabled) {
+            adaptiveVSync = null;
+            glfwSwapInterval(1);
+            return;
         }
+
+        int refreshRate = getRefreshRate();
+        if (refreshRate <= 0) {
+            LWJGLUtil.log("Display.setAdaptiveVSync(true) called but the refresh rate is unknown. Enabling VSync instead.");
+            setVSyncEnabled(true);
+            return;
+        }
+
+        boolean tearSupported = glfwExtensionSupported("WGL_EXT_swap_control_tear") || glfwExtensionSupported("GLX_EXT_swap_control_tear");
+        adaptiveRefreshRate = refreshRate;
+        adaptiveFrameEnd = 0L;
+        adaptiveWaitTime = 0L;
+        adaptiveVSync = new AdaptiveVSync(1_000_000_000L / refreshRate, tearSupported);
+        glfwSwapInterval(1);
+    }
+
+    /**
+     * Returns whether adaptive VSync is enabled.
+     *
+     * @return Whether adaptive VSync is enabled.
+     *
+     * @apiNote Custom method.
+     */
+    public static boolean isAdaptiveVSyncEnabled() {
+        return adaptiveVSync != null;
     }
 
     /**
@@ -1002,6 +1276,7 @@ public class Display {
         if (enabled) {
             glEnable(GL_DEBUG_OUTPUT);
             glDebugMessageCallback((source, type, id, severity, length, message, userParam) -> {
+                errorMetrics.recordDebugMessage(type == GL_DEBUG_TYPE_ERROR);
                 System.err.printf("OpenGL Debug Message (%d): %s\n", id, GLDebugMessageCallback.getMessage(length, message));
             }, NULL);
         } else {
@@ -1018,60 +1293,132 @@ public class Display {
         glfwTerminate();
     }
 
-    private static class Window {
-        static long handle;
-
-        @Nullable static GLFWKeyCallback keyCallback = null;
-        @Nullable static GLFWCharCallback charCallback = null;
-        @Nullable static GLFWCursorPosCallback cursorPosCallback = null;
-        @Nullable static GLFWMouseButtonCallback mouseButtonCallback = null;
-        @Nullable static GLFWScrollCallback scrollCallback = null;
-        @Nullable static GLFWWindowFocusCallback windowFocusCallback = null;
-        @Nullable static GLFWWindowIconifyCallback windowIconifyCallback = null;
-        @Nullable static GLFWWindowSizeCallback windowSizeCallback = null;
-        @Nullable static GLFWWindowPosCallback windowPosCallback = null;
-        @Nullable static GLFWWindowRefreshCallback windowRefreshCallback = null;
-        @Nullable static GLFWFramebufferSizeCallback framebufferSizeCallback = null;
-        @Nullable static GLFWErrorCallback errorCallback = GLFWErrorCallback.createPrint(System.err); // Kept open; we want to see the errors
-
-        public static void setCallbacks() {
-            glfwSetKeyCallback(handle, keyCallback);
-            glfwSetCharCallback(handle, charCallback);
-            glfwSetCursorPosCallback(handle, cursorPosCallback);
-            glfwSetMouseButtonCallback(handle, mouseButtonCallback);
-            glfwSetScrollCallback(handle, scrollCallback);
-            glfwSetWindowFocusCallback(handle, windowFocusCallback);
-            glfwSetWindowIconifyCallback(handle, windowIconifyCallback);
-            glfwSetWindowSizeCallback(handle, windowSizeCallback);
-            glfwSetWindowPosCallback(handle, windowPosCallback);
-            glfwSetWindowRefreshCallback(handle, windowRefreshCallback);
-            glfwSetFramebufferSizeCallback(handle, framebufferSizeCallback);
-            glfwSetErrorCallback(errorCallback);
-        }
-
-        @SuppressWarnings("resource")
-        public static void releaseCallbacks() { // TODO: Cleanup - repeated codeGLFW.glfwSetKeyCallback(handle, keyCallback);
-            glfwSetCharCallback(handle, null);
-            glfwSetCursorPosCallback(handle, null);
-            glfwSetMouseButtonCallback(handle, null);
-            glfwSetScrollCallback(handle, null);
-            glfwSetWindowFocusCallback(handle, null);
-            glfwSetWindowIconifyCallback(handle, null);
-            glfwSetWindowSizeCallback(handle, null);
-            glfwSetWindowPosCallback(handle, null);
-            glfwSetWindowRefreshCallback(handle, null);
-            glfwSetFramebufferSizeCallback(handle, null);
-            if (keyCallback != null) keyCallback.free();
-            if (charCallback != null) charCallback.free();
-            if (cursorPosCallback != null) cursorPosCallback.free();
-            if (mouseButtonCallback != null) mouseButtonCallback.free();
-            if (scrollCallback != null) scrollCallback.free();
-            if (windowFocusCallback != null) windowFocusCallback.free();
-            if (windowIconifyCallback != null) windowIconifyCallback.free();
-            if (windowSizeCallback != null) windowSizeCallback.free();
-            if (windowPosCallback != null) windowPosCallback.free();
-            if (windowRefreshCallback != null) windowRefreshCallback.free();
-            if (framebufferSizeCallback != null) framebufferSizeCallback.free();
+    /**
+     * Runs the given render loop on a separate render thread, while the calling thread continuously polls for events.
+     * <p>
+     * This decouples input latency from frame time; events are handed to {@link Keyboard} and {@link Mouse} as they arrive,
+     * rather than once per {@link #processMessages()}. The display context is made current on the render thread for the
+     * duration of the loop, and is made current on the calling thread again once it returns. All other static methods keep
+     * their usual semantics, with window management being forwarded to the calling thread.
+     * <p>
+     * This must be called from the main thread after {@link #create()}, with {@link Config#INPUT_LOCK_FREE_QUEUES} enabled
+     * before {@link Keyboard} and {@link Mouse} are first used.
+     *
+     * @param renderLoop The render loop, e.g. the game loop.
+     *
+     * @throws IllegalStateException If the display is not created or lock-free input queues are not enabled.
+     * @throws RuntimeException If the render loop throws; wraps the thrown exception.
+     *
+     * @apiNote Custom method. Blocks until the render loop returns.
+     */
+    public static void runWithInputThread(Runnable renderLoop) {
+        if (!isCreated()) {
+            throw new IllegalStateException("Display not created.");
+        }
+
+        if (!Config.INPUT_LOCK_FREE_QUEUES) {
+            throw new IllegalStateException("Config.INPUT_LOCK_FREE_QUEUES must be enabled to poll input on a separate thread.");
+        }
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread renderThread = new Thread(() -> {
+            makeCurrent();
+            try {
+                renderLoop.run();
+            } catch (Throwable throwable) {
+                failure.set(throwable);
+            } finally {
+                if (defaultInstance != null) { // Otherwise destroyed, and the input thread is already waiting on this thread
+                    if (isCurrent()) {
+                        releaseContext();
+                    }
+                    glfwPostEmptyEvent(); // Wake the input thread
+                }
+            }
+        }, "Render thread");
+
+        inputThread = Thread.currentThread();
+        inputThreaded = true;
+        releaseContext();
+        renderThread.start();
+
+        try {
+            while (renderThread.isAlive()) {
+                if (defaultInstance != null) {
+                    glfwWaitEventsTimeout(Config.INPUT_THREAD_WAIT_TIMEOUT);
+                    Mouse.flushEvents();
+                } else { // Destroyed by the render thread; wait for it to finish up
+                    renderThread.join(1L);
+                }
+                runInputThreadTasks();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            runInputThreadTasks();
+            inputThreaded = false;
+            inputThread = null;
+        }
+
+        if (isCreated()) {
+            makeCurrent();
+        }
+
+        if (failure.get() != null) {
+            throw new RuntimeException("Render thread failed.", failure.get());
+        }
+    }
+
+    /**
+     * Returns whether events are being polled on a separate thread through {@link #runWithInputThread(Runnable)}.
+     *
+     * @return Whether events are being polled on a separate thread.
+     *
+     * @apiNote Custom method.
+     */
+    public static boolean isInputThreaded() {
+        return inputThreaded;
+    }
+
+    /**
+     * Returns whether the current thread may call main-thread-only GLFW functions and produce input events.
+     * <p>
+     * This is always true unless {@link #runWithInputThread(Runnable)} is in use.
+     *
+     * @return Whether the current thread is the input thread.
+     *
+     * @apiNote Custom method.
+     */
+    public static boolean isOnInputThread() {
+        return !inputThreaded || Thread.currentThread() == inputThread;
+    }
+
+    /**
+     * Runs a task on the input thread.
+     * <p>
+     * The task is run immediately if already on the input thread, otherwise it is queued and the input thread is woken.
+     *
+     * @param task The task to run.
+     *
+     * @apiNote Custom method.
+     */
+    public static void runOnInputThread(Runnable task) {
+        if (isOnInputThread()) {
+            task.run();
+            return;
+        }
+
+        INPUT_THREAD_TASKS.add(task);
+        glfwPostEmptyEvent();
+    }
+
+    /**
+     * Runs all queued input thread tasks.
+     */
+    private static void runInputThreadTasks() {
+        Runnable task;
+        while ((task = INPUT_THREAD_TASKS.poll()) != null) {
+            task.run();
         }
     }
 
@@ -1081,7 +1428,8 @@ public class Display {
      * @return The window handle.
      */
     public static long getWindow() {
-        return Window.handle;
+        DisplayInstance instance = defaultInstance;
+        return instance != null ? instance.getWindow() : NULL;
     }
 
     /**
@@ -1090,7 +1438,7 @@ public class Display {
     private static void _setFullscreenExclusive() {
         long currentMonitor = _getCurrentMonitor();
         GLFWVidMode vidMode = Objects.requireNonNull(glfwGetVideoMode(currentMonitor), "Primary monitor video mode is null.");
-        glfwSetWindowMonitor(Window.handle, currentMonitor, 0, 0, vidMode.width(), vidMode.height(), vidMode.refreshRate());
+        glfwSetWindowMonitor(getWindow(), currentMonitor, 0, 0, vidMode.width(), vidMode.height(), vidMode.refreshRate());
     }
 
     /**
@@ -1099,8 +1447,8 @@ public class Display {
     private static void _setFullscreenBorderless() {
         long currentMonitor = _getCurrentMonitor();
         GLFWVidMode vidMode = Objects.requireNonNull(glfwGetVideoMode(currentMonitor), "Primary monitor video mode is null.");
-        glfwSetWindowAttrib(Window.handle, GLFW_DECORATED, GLFW_FALSE);
-        glfwSetWindowMonitor(Window.handle, currentMonitor, 0, 0, vidMode.width(), GL_FULLSCREEN_BORDERLESS_WINDOWS_FIX ? vidMode.height() + 1 : vidMode.height(), vidMode.refreshRate());
+        glfwSetWindowAttrib(getWindow(), GLFW_DECORATED, GLFW_FALSE);
+        glfwSetWindowMonitor(getWindow(), currentMonitor, 0, 0, vidMode.width(), GL_FULLSCREEN_BORDERLESS_WINDOWS_FIX ? vidMode.height() + 1 : vidMode.height(), vidMode.refreshRate());
     }
 
     /**
@@ -1113,20 +1461,22 @@ public class Display {
             return glfwGetPrimaryMonitor();
         }
 
-        for (int i = 0; i < monitors.limit(); i++) {
-            long monitor = monitors.get(i);
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer monX = stack.mallocInt(1),
+                    monY = stack.mallocInt(1);
 
-            int[] monX = new int[1],
-                    monY = new int[1];
-            glfwGetMonitorPos(monitor, monX, monY);
+            for (int i = 0; i < monitors.limit(); i++) {
+                long monitor = monitors.get(i);
+                glfwGetMonitorPos(monitor, monX, monY);
 
-            GLFWVidMode mode = Objects.requireNonNull(glfwGetVideoMode(monitor), "Monitor video mode is null.");
-            int width = mode.width(),
-                    height = mode.height();
+                GLFWVidMode mode = Objects.requireNonNull(glfwGetVideoMode(monitor), "Monitor video mode is null.");
+                int width = mode.width(),
+                        height = mode.height();
 
-            if (displayX >= monX[0] && displayX < monX[0] + width &&
-                    displayY >= monY[0] && displayY < monY[0] + height) {
-                return monitor;
+                if (getX() >= monX.get(0) && getX() < monX.get(0) + width &&
+                        getY() >= monY.get(0) && getY() < monY.get(0) + height) {
+                    return monitor;
+                }
             }
         }
 
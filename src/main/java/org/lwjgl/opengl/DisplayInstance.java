@@ -0,0 +1,775 @@
+package org.lwjgl.opengl;
+
+import lombok.Getter;
+import me.darragh.lwjgl.Config;
+import me.darragh.lwjgl.event.OverflowPolicy;
+import me.darragh.lwjgl.opengl.input.InputStateSet;
+import me.darragh.lwjgl.opengl.input.keyboard.KeyCallbackHandler;
+import me.darragh.lwjgl.opengl.input.keyboard.KeyEventBuffer;
+import me.darragh.lwjgl.opengl.input.keyboard.KeyState;
+import me.darragh.lwjgl.opengl.input.mouse.MouseEventBuffer;
+import me.darragh.lwjgl.opengl.input.mouse.MouseEventType;
+import org.jspecify.annotations.Nullable;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.Sys;
+import org.lwjgl.glfw.*;
+import org.lwjgl.input.Keyboard;
+import org.lwjgl.input.Mouse;
+import org.lwjgl.system.MemoryStack;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * An auxiliary window, e.g. a spectator camera, debug overlay or map view, alongside the {@link Display} window.
+ * <p>
+ * Each instance owns its own GLFW window, callbacks, window state and input queues. Its context is created through
+ * {@link DrawableGL#createSharedContext(int, int, CharSequence, boolean)}, so it shares textures, buffers and other objects
+ * with the display context. Events for every window are polled by {@link Display#processMessages()}.
+ * <p>
+ * The display window is backed by an instance too, which tracks its window state in the same way but hands its input to
+ * {@link Keyboard} and {@link Mouse}. That instance is owned by {@link Display}, and is never returned from {@link #create(String, int, int)}.
+ * <p>
+ * Rendering to an instance is done by making it current, drawing, calling {@link #update()} and then making the display current again.
+ * All instances are destroyed alongside the display.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class DisplayInstance {
+    private static final List<DisplayInstance> INSTANCES = new CopyOnWriteArrayList<>();
+
+    @Nullable
+    private final ContextGL context; // Null for the display window, whose context is managed by Display
+
+    @Getter
+    private final long window;
+
+    private final InputHandler input;
+
+    private final InputStateSet keyDownStates = new InputStateSet(Keyboard.KEYBOARD_SIZE),
+            buttonDownStates = new InputStateSet(GLFW_MOUSE_BUTTON_LAST + 1);
+
+    // Key and mouse events are translated and queued as for the display window
+    private final KeyEventBuffer keyEvents = new KeyEventBuffer();
+    private final KeyCallbackHandler keyCallbackHandler = new KeyCallbackHandler(this.keyEvents, this.keyDownStates);
+    private final MouseEventBuffer mouseEvents = new MouseEventBuffer(Config.INPUT_MOUSE_QUEUE_SIZE, OverflowPolicy.DROP_OLDEST);
+
+    private final AtomicInteger dWheel = new AtomicInteger();
+
+    private int prevMouseX, prevMouseY; // Only touched by the thread running the callbacks
+
+    // Written by callbacks, which run on the input thread when using Display.runWithInputThread
+    private volatile int width, height,
+            framebufferWidth, framebufferHeight,
+            x, y,
+            mouseX, mouseY;
+
+    private volatile boolean focused = true,
+            visible = true, dirty; // The window is created visible and focused
+
+    private volatile float contentScale = 1.0F;
+
+    private volatile boolean resized; // Published after width and height
+
+    private final GLFWKeyCallback keyCallback;
+    private final GLFWCharCallback charCallback;
+    private final GLFWCursorPosCallback cursorPosCallback;
+    private final GLFWMouseButtonCallback mouseButtonCallback;
+    private final GLFWScrollCallback scrollCallback;
+    private final GLFWWindowFocusCallback windowFocusCallback;
+    private final GLFWWindowIconifyCallback windowIconifyCallback;
+    private final GLFWWindowSizeCallback windowSizeCallback;
+    private final GLFWWindowPosCallback windowPosCallback;
+    private final GLFWWindowRefreshCallback windowRefreshCallback;
+    private final GLFWFramebufferSizeCallback framebufferSizeCallback;
+    private final GLFWWindowContentScaleCallback windowContentScaleCallback;
+
+    private boolean destroyed;
+
+    /**
+     * Creates an instance for a window and installs its callbacks.
+     *
+     * @param context The context of the window, or null for the display window.
+     * @param window The window.
+     * @param width The width of the window.
+     * @param height The height of the window.
+     * @param input The receiver of input events, or null to queue them in this instance.
+     */
+    private DisplayInstance(@Nullable ContextGL context, long window, int width, int height, @Nullable InputHandler input) {
+        this.context = context;
+        this.window = window;
+        this.width = width;
+        this.height = height;
+        this.input = input != null ? input : new QueuedInput();
+
+        this.keyCallback = new GLFWKeyCallback() {
+            @Override
+            public void invoke(long window, int key, int scancode, int action, int mods) {
+                DisplayInstance.this.input.onKey(key, action, mods);
+            }
+        };
+        this.charCallback = new GLFWCharCallback() {
+            @Override
+            public void invoke(long window, int codepoint) {
+                DisplayInstance.this.input.onChar(codepoint);
+            }
+        };
+        this.cursorPosCallback = new GLFWCursorPosCallback() {
+            @Override
+            public void invoke(long window, double x, double y) {
+                DisplayInstance.this.input.onCursorPos(x, y);
+            }
+        };
+        this.mouseButtonCallback = new GLFWMouseButtonCallback() {
+            @Override
+            public void invoke(long window, int button, int action, int mods) {
+                DisplayInstance.this.input.onMouseButton(button, action != GLFW_RELEASE);
+            }
+        };
+        this.scrollCallback = new GLFWScrollCallback() {
+            @Override
+            public void invoke(long window, double x, double y) {
+                DisplayInstance.this.input.onScroll(x, y);
+            }
+        };
+        this.windowFocusCallback = new GLFWWindowFocusCallback() {
+            @Override
+            public void invoke(long window, boolean focused) {
+                DisplayInstance.this.focused = focused;
+            }
+        };
+        this.windowIconifyCallback = new GLFWWindowIconifyCallback() {
+            @Override
+            public void invoke(long window, boolean iconified) {
+                DisplayInstance.this.visible = !iconified;
+            }
+        };
+        this.windowSizeCallback = new GLFWWindowSizeCallback() {
+            @Override
+            public void invoke(long window, int width, int height) {
+                DisplayInstance.this.updateSize(width, height);
+            }
+        };
+        this.windowPosCallback = new GLFWWindowPosCallback() {
+            @Override
+            public void invoke(long window, int x, int y) {
+                DisplayInstance.this.setPosition(x, y);
+            }
+        };
+        this.windowRefreshCallback = new GLFWWindowRefreshCallback() {
+            @Override
+            public void invoke(long window) {
+                DisplayInstance.this.dirty = true;
+            }
+        };
+        this.framebufferSizeCallback = new GLFWFramebufferSizeCallback() {
+            @Override
+            public void invoke(long window, int width, int height) {
+                DisplayInstance.this.framebufferWidth = width;
+                DisplayInstance.this.framebufferHeight = height;
+            }
+        };
+        this.windowContentScaleCallback = new GLFWWindowContentScaleCallback() {
+            @Override
+            public void invoke(long window, float xScale, float yScale) {
+                DisplayInstance.this.contentScale = Math.max(xScale, yScale);
+            }
+        };
+
+        glfwSetKeyCallback(this.window, this.keyCallback);
+        glfwSetCharCallback(this.window, this.charCallback);
+        glfwSetCursorPosCallback(this.window, this.cursorPosCallback);
+        glfwSetMouseButtonCallback(this.window, this.mouseButtonCallback);
+        glfwSetScrollCallback(this.window, this.scrollCallback);
+        glfwSetWindowFocusCallback(this.window, this.windowFocusCallback);
+        glfwSetWindowIconifyCallback(this.window, this.windowIconifyCallback);
+        glfwSetWindowSizeCallback(this.window, this.windowSizeCallback);
+        glfwSetWindowPosCallback(this.window, this.windowPosCallback);
+        glfwSetWindowRefreshCallback(this.window, this.windowRefreshCallback);
+        glfwSetFramebufferSizeCallback(this.window, this.framebufferSizeCallback);
+        glfwSetWindowContentScaleCallback(this.window, this.windowContentScaleCallback);
+
+        this.updateFramebufferSize();
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            FloatBuffer xScale = stack.mallocFloat(1), yScale = stack.mallocFloat(1);
+            glfwGetWindowContentScale(this.window, xScale, yScale);
+            this.contentScale = Math.max(xScale.get(0), yScale.get(0));
+        }
+    }
+
+    /**
+     * Creates the instance backing the display window, which hands its input to {@link Keyboard} and {@link Mouse}.
+     * <p>
+     * It is not tracked alongside the auxiliary instances; the display releases its callbacks and destroys its window itself.
+     *
+     * @param window The display window.
+     * @param width The width of the window.
+     * @param height The height of the window.
+     * @param input The receiver of the display's input events.
+     * @return The created instance.
+     */
+    static DisplayInstance createDefault(long window, int width, int height, InputHandler input) {
+        return new DisplayInstance(null, window, width, height, input);
+    }
+
+    /**
+     * Creates an auxiliary window sharing objects with the display context.
+     * <p>
+     * The window is created on the input thread, as GLFW requires. Its context is not made current.
+     *
+     * @param title The title of the window.
+     * @param width The width of the window.
+     * @param height The height of the window.
+     * @return The created instance.
+     *
+     * @throws IllegalStateException If the display is not created.
+     * @throws LWJGLException If the window could not be created.
+     */
+    public static DisplayInstance create(String title, int width, int height) throws LWJGLException {
+        if (!Display.isCreated() || !(Display.getDrawable() instanceof DrawableGL drawable)) {
+            throw new IllegalStateException("Display not created.");
+        }
+
+        if (!Display.isOnInputThread()) { // Window creation must happen on the main thread; wait for it
+            try {
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return create(title, width, height);
+                    } catch (LWJGLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, Display::runOnInputThread).join();
+            } catch (RuntimeException e) {
+                if (e.getCause() instanceof IllegalStateException wrapped && wrapped.getCause() instanceof LWJGLException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        ContextGL context = drawable.createSharedContext(width, height, title, true);
+        DisplayInstance instance = new DisplayInstance(context, context.glfwWindow, width, height, null);
+        INSTANCES.add(instance);
+        return instance;
+    }
+
+    /**
+     * Destroys every instance, called when the display is destroyed.
+     */
+    static void destroyAll() {
+        for (DisplayInstance instance : INSTANCES) {
+            instance.destroy();
+        }
+    }
+
+    /**
+     * Makes this instance's context current on the calling thread.
+     *
+     * @throws LWJGLException Never thrown.
+     */
+    public void makeCurrent() throws LWJGLException {
+        this.checkDestroyed();
+        this.requireContext().makeCurrent();
+    }
+
+    /**
+     * Swaps the buffers of this instance's window. Its context must be current.
+     */
+    public void update() {
+        this.checkDestroyed();
+        glfwSwapBuffers(this.window);
+    }
+
+    /**
+     * Moves onto the next key event.
+     *
+     * @return Whether there is an event to read.
+     */
+    public boolean nextKeyEvent() {
+        return this.keyEvents.next();
+    }
+
+    /**
+     * Returns the LWJGL key code of the current key event.
+     *
+     * @return The key code, or {@link Keyboard#KEY_NONE} for a character event.
+     */
+    public int getEventKey() {
+        return this.keyEvents.getEventKey();
+    }
+
+    /**
+     * Returns the character of the current key event.
+     *
+     * @return The character, or {@code '\0'} for a key event.
+     */
+    public char getEventCharacter() {
+        return this.keyEvents.getEventCharacter();
+    }
+
+    /**
+     * Returns whether the key of the current key event is pressed.
+     *
+     * @return Whether the key is pressed.
+     */
+    public boolean getEventKeyState() {
+        return this.keyEvents.getEventState().isPressed();
+    }
+
+    /**
+     * Returns the time of the current key event.
+     *
+     * @return The time, in nanoseconds.
+     */
+    public long getEventNanoseconds() {
+        return this.keyEvents.getEventNanoseconds();
+    }
+
+    /**
+     * Returns whether the current key event is a repeat event.
+     *
+     * @return Whether the current event is a repeat event.
+     */
+    public boolean isRepeatEvent() {
+        return this.keyEvents.getEventState() == KeyState.REPEAT;
+    }
+
+    /**
+     * Returns whether the current key event is a release which was delivered after its character event.
+     *
+     * @return Whether the current event is out of order.
+     */
+    public boolean isEventOutOfOrder() {
+        return this.keyEvents.isEventOutOfOrder();
+    }
+
+    /**
+     * Sets whether repeat events are queued for this window, as {@link Keyboard#enableRepeatEvents(boolean)} does for the display.
+     *
+     * @param enable Whether to enable repeat events.
+     */
+    public void enableRepeatEvents(boolean enable) {
+        this.keyEvents.enableRepeatEvents(enable);
+    }
+
+    /**
+     * Returns whether repeat events are queued for this window.
+     *
+     * @return Whether repeat events are enabled.
+     */
+    public boolean areRepeatEventsEnabled() {
+        return this.keyEvents.areRepeatEventsEnabled();
+    }
+
+    /**
+     * Moves onto the next mouse event.
+     *
+     * @return Whether there is an event to read.
+     */
+    public boolean nextMouseEvent() {
+        return this.mouseEvents.next();
+    }
+
+    /**
+     * Returns the type of the current mouse event.
+     *
+     * @return The type of the event.
+     */
+    public MouseEventType getMouseEventType() {
+        return this.mouseEvents.getEventType();
+    }
+
+    /**
+     * Returns the x position of the cursor at the current mouse event.
+     *
+     * @return The x position.
+     */
+    public int getEventMouseX() {
+        return (int) this.mouseEvents.getEventX();
+    }
+
+    /**
+     * Returns the y position of the cursor at the current mouse event, from the bottom.
+     *
+     * @return The y position.
+     */
+    public int getEventMouseY() {
+        return (int) this.mouseEvents.getEventY();
+    }
+
+    /**
+     * Returns the x motion between the previous and the current mouse event.
+     *
+     * @return The x delta.
+     */
+    public int getEventMouseDX() {
+        return this.mouseEvents.getEventDX();
+    }
+
+    /**
+     * Returns the y motion between the previous and the current mouse event.
+     *
+     * @return The y delta.
+     */
+    public int getEventMouseDY() {
+        return this.mouseEvents.getEventDY();
+    }
+
+    /**
+     * Returns the button of the current mouse event.
+     *
+     * @return The button, or -1 if the event is not a button event.
+     */
+    public int getEventButton() {
+        return this.mouseEvents.getEventButton();
+    }
+
+    /**
+     * Returns whether the button of the current mouse event is pressed.
+     *
+     * @return Whether the button is pressed.
+     */
+    public boolean getEventButtonState() {
+        return this.mouseEvents.getEventButtonState();
+    }
+
+    /**
+     * Returns the vertical scroll of the current mouse event.
+     *
+     * @return The scroll delta.
+     */
+    public int getEventDWheel() {
+        return (int) this.mouseEvents.getEventScrollY();
+    }
+
+    /**
+     * Returns the time of the current mouse event.
+     *
+     * @return The time, in nanoseconds.
+     */
+    public long getMouseEventNanoseconds() {
+        return this.mouseEvents.getEventNanoseconds();
+    }
+
+    /**
+     * Returns the amount of key and mouse events dropped due to a queue being full.
+     *
+     * @return The amount of dropped events.
+     */
+    public long getDroppedEventCount() {
+        return this.keyEvents.getDroppedCount() + this.mouseEvents.getDroppedCount();
+    }
+
+    /**
+     * Returns whether a key is held down in this window.
+     *
+     * @param key The LWJGL key code.
+     * @return Whether the key is down.
+     */
+    public boolean isKeyDown(int key) {
+        return key >= 0 && key < Keyboard.KEYBOARD_SIZE && this.keyDownStates.isDown(key);
+    }
+
+    /**
+     * Returns whether a mouse button is held down in this window.
+     *
+     * @param button The mouse button.
+     * @return Whether the button is down.
+     */
+    public boolean isButtonDown(int button) {
+        return button >= 0 && button <= GLFW_MOUSE_BUTTON_LAST && this.buttonDownStates.isDown(button);
+    }
+
+    /**
+     * Returns the x position of the cursor within this window.
+     *
+     * @return The x position.
+     */
+    public int getMouseX() {
+        return this.mouseX;
+    }
+
+    /**
+     * Returns the y position of the cursor within this window, from the bottom.
+     *
+     * @return The y position.
+     */
+    public int getMouseY() {
+        return this.mouseY;
+    }
+
+    /**
+     * Returns and resets the vertical scroll accumulated since the last call.
+     *
+     * @return The scroll delta.
+     */
+    public int getDWheel() {
+        return this.dWheel.getAndSet(0);
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+    public int getFramebufferWidth() {
+        return this.framebufferWidth;
+    }
+
+    public int getFramebufferHeight() {
+        return this.framebufferHeight;
+    }
+
+    public int getX() {
+        return this.x;
+    }
+
+    public int getY() {
+        return this.y;
+    }
+
+    public float getPixelScaleFactor() {
+        return this.contentScale;
+    }
+
+    public boolean isActive() {
+        return this.focused;
+    }
+
+    public boolean isVisible() {
+        return this.visible;
+    }
+
+    public boolean isDirty() {
+        return this.dirty;
+    }
+
+    public boolean isCloseRequested() {
+        return !this.destroyed && glfwWindowShouldClose(this.window);
+    }
+
+    public boolean isDestroyed() {
+        return this.destroyed;
+    }
+
+    /**
+     * Sets the title of this instance's window.
+     *
+     * @param title The new title.
+     */
+    public void setTitle(String title) {
+        this.checkDestroyed();
+        Display.runOnInputThread(() -> glfwSetWindowTitle(this.window, title));
+    }
+
+    /**
+     * Destroys this instance's window and releases its callbacks.
+     * <p>
+     * If this instance's context is current on the calling thread, it is released.
+     */
+    public void destroy() {
+        if (this.destroyed) {
+            return;
+        }
+
+        ContextGL context = this.requireContext();
+        if (glfwGetCurrentContext() == this.window) { // Current contexts are per thread, so release it here before forwarding
+            glfwMakeContextCurrent(0L);
+            GL.setCapabilities(null);
+        }
+
+        if (!Display.isOnInputThread()) { // Window destruction must happen on the main thread; wait for it
+            CompletableFuture.runAsync(this::destroy, Display::runOnInputThread).join();
+            return;
+        }
+
+        this.destroyed = true;
+        INSTANCES.remove(this);
+
+        this.releaseCallbacks();
+        try {
+            context.destroy();
+        } catch (LWJGLException ignored) {} // Never thrown
+    }
+
+    /**
+     * Records a window size, as the size callback does, and marks this instance as resized.
+     *
+     * @param width The width of the window.
+     * @param height The height of the window.
+     */
+    void updateSize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.resized = true;
+    }
+
+    /**
+     * Queries the window and framebuffer sizes, e.g. after creating the window, as callbacks may not have reported them yet.
+     */
+    void updateSize() {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer w = stack.mallocInt(1), h = stack.mallocInt(1);
+            glfwGetWindowSize(this.window, w, h);
+            this.updateSize(w.get(0), h.get(0));
+        }
+        this.updateFramebufferSize();
+    }
+
+    /**
+     * Queries the framebuffer size, for when the framebuffer size callback has not run since the window was resized.
+     */
+    void updateFramebufferSize() {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer w = stack.mallocInt(1), h = stack.mallocInt(1);
+            glfwGetFramebufferSize(this.window, w, h);
+            this.framebufferWidth = w.get(0);
+            this.framebufferHeight = h.get(0);
+        }
+    }
+
+    /**
+     * Records the position of the window, as the position callback does.
+     * <p>
+     * Some platforms, e.g. Wayland, cannot report positions, so the display sets an estimate when its window is created.
+     *
+     * @param x The x position of the window.
+     * @param y The y position of the window.
+     */
+    void setPosition(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns and clears whether the window was resized since the last call.
+     *
+     * @return Whether the window was resized.
+     */
+    boolean pollResized() {
+        if (this.resized) {
+            this.resized = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Clears the dirty state, once the window has been redrawn.
+     */
+    void clearDirty() {
+        this.dirty = false;
+    }
+
+    /**
+     * Removes and frees every callback of this instance's window.
+     */
+    @SuppressWarnings("resource")
+    void releaseCallbacks() {
+        glfwSetKeyCallback(this.window, null);
+        glfwSetCharCallback(this.window, null);
+        glfwSetCursorPosCallback(this.window, null);
+        glfwSetMouseButtonCallback(this.window, null);
+        glfwSetScrollCallback(this.window, null);
+        glfwSetWindowFocusCallback(this.window, null);
+        glfwSetWindowIconifyCallback(this.window, null);
+        glfwSetWindowSizeCallback(this.window, null);
+        glfwSetWindowPosCallback(this.window, null);
+        glfwSetWindowRefreshCallback(this.window, null);
+        glfwSetFramebufferSizeCallback(this.window, null);
+        glfwSetWindowContentScaleCallback(this.window, null);
+        this.keyCallback.free();
+        this.charCallback.free();
+        this.cursorPosCallback.free();
+        this.mouseButtonCallback.free();
+        this.scrollCallback.free();
+        this.windowFocusCallback.free();
+        this.windowIconifyCallback.free();
+        this.windowSizeCallback.free();
+        this.windowPosCallback.free();
+        this.windowRefreshCallback.free();
+        this.framebufferSizeCallback.free();
+        this.windowContentScaleCallback.free();
+    }
+
+    private ContextGL requireContext() {
+        if (this.context == null) {
+            throw new IllegalStateException("The display window's context is managed by Display.");
+        }
+        return this.context;
+    }
+
+    private void checkDestroyed() {
+        if (this.destroyed) {
+            throw new IllegalStateException("Display instance destroyed.");
+        }
+    }
+
+    /**
+     * Receives the input events of a window from its GLFW callbacks.
+     */
+    interface InputHandler {
+        void onKey(int key, int action, int mods);
+
+        void onChar(int codepoint);
+
+        void onCursorPos(double x, double y);
+
+        void onMouseButton(int button, boolean pressed);
+
+        void onScroll(double x, double y);
+    }
+
+    /**
+     * Queues the input events of an auxiliary window into its instance.
+     * <p>
+     * Unlike {@link Mouse}, move events are never coalesced, as nothing flushes a pending move for an auxiliary window.
+     */
+    private class QueuedInput implements InputHandler {
+        @Override
+        public void onKey(int key, int action, int mods) {
+            DisplayInstance.this.keyCallbackHandler.onKey(key, action, mods);
+        }
+
+        @Override
+        public void onChar(int codepoint) {
+            DisplayInstance.this.keyCallbackHandler.onChar(codepoint);
+        }
+
+        @Override
+        public void onCursorPos(double x, double y) {
+            DisplayInstance instance = DisplayInstance.this;
+            int mouseX = (int) x,
+                    mouseY = instance.height - (int) y; // Bottom-left origin, as with Mouse
+            instance.mouseEvents.enqueue(MouseEventType.MOVE, mouseX, mouseY, instance.prevMouseX, instance.prevMouseY, -1, false, 0, 0, Sys.getNanoTime());
+            instance.prevMouseX = instance.mouseX = mouseX;
+            instance.prevMouseY = instance.mouseY = mouseY;
+        }
+
+        @Override
+        public void onMouseButton(int button, boolean pressed) {
+            DisplayInstance instance = DisplayInstance.this;
+            instance.buttonDownStates.setDown(button, pressed);
+            instance.mouseEvents.enqueue(MouseEventType.BUTTON, instance.mouseX, instance.mouseY, instance.prevMouseX, instance.prevMouseY, button, pressed, 0, 0, Sys.getNanoTime());
+        }
+
+        @Override
+        public void onScroll(double x, double y) {
+            DisplayInstance instance = DisplayInstance.this;
+            instance.dWheel.addAndGet((int) y);
+            if ((int) x != 0 || (int) y != 0) {
+                instance.mouseEvents.enqueue(MouseEventType.SCROLL, instance.mouseX, instance.mouseY, instance.prevMouseX, instance.prevMouseY, -1, false, x, y, Sys.getNanoTime());
+            }
+        }
+    }
+}
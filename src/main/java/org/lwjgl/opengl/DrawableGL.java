@@ -50,6 +50,9 @@ public class DrawableGL implements DrawableLWJGL {
     /** The OpenGL Context. */
     protected ContextGL context;
 
+    /** The last GLFW_VISIBLE hint set through {@link #setVisibleHint(int)}; GLFW cannot be queried for its hints. */
+    private static int visibleHint = GLFW_TRUE;
+
     protected DrawableGL() {
         context = new ContextGL(Display.getWindow(), false);
     }
@@ -74,16 +77,45 @@ public class DrawableGL implements DrawableLWJGL {
     }
 
     public ContextGL createSharedContext() throws LWJGLException {
+        return createSharedContext(16, 16, Display.getTitle(), false);
+    }
+
+    /**
+     * Creates a window whose context shares objects with this drawable's context.
+     *
+     * @param width The width of the window.
+     * @param height The height of the window.
+     * @param title The title of the window.
+     * @param visible Whether the window is shown, e.g. for a {@link DisplayInstance}.
+     * @return The shared context, which owns the window.
+     *
+     * @apiNote Custom method.
+     */
+    public ContextGL createSharedContext(int width, int height, CharSequence title, boolean visible) throws LWJGLException {
         synchronized ( GlobalLock.lock ) {
-            glfwWindowHint(GLFW_VISIBLE, GLFW_FALSE);
-            long hiddenWindow = org.lwjgl.glfw.GLFW.glfwCreateWindow(16, 16, Display.getTitle(), 0, this.context.glfwWindow);
-            if (hiddenWindow == 0) {
-                throw new LWJGLException("Couldn't create shared context hidden window");
+            glfwWindowHint(GLFW_VISIBLE, visible ? GLFW_TRUE : GLFW_FALSE);
+            long window = org.lwjgl.glfw.GLFW.glfwCreateWindow(width, height, title, 0, this.context.glfwWindow);
+            glfwWindowHint(GLFW_VISIBLE, visibleHint); // Restore the caller's hint for later windows
+            if (window == 0) {
+                throw new LWJGLException("Couldn't create shared context window");
             }
-            return new ContextGL(hiddenWindow, true);
+            return new ContextGL(window, true);
         }
     }
 
+    /**
+     * Sets the GLFW_VISIBLE window hint, remembering it so that {@link #createSharedContext(int, int, CharSequence, boolean)}
+     * can restore it after creating its window.
+     *
+     * @param value {@code GLFW_TRUE} or {@code GLFW_FALSE}.
+     *
+     * @apiNote Custom method.
+     */
+    static void setVisibleHint(int value) {
+        visibleHint = value;
+        glfwWindowHint(GLFW_VISIBLE, value);
+    }
+
     public void checkGLError() {
         Util.checkGLError();
     }
@@ -33,15 +33,48 @@ package org.lwjgl.opengl;
 
 import lombok.Getter;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * This is a wrapper implementation of the LWJGL2 GLContext class.
  *
  * @author darraghd493
  * @since 1.0.0
  *
- * @apiNote This class does not fully implement the original GLContext class. It only provides the getCapabilities method.
+ * @apiNote This class does not fully implement the original GLContext class. It only provides the getCapabilities and getExtensions methods.
  */
 public final class GLContext {
     @Getter
     private static final ContextCapabilities capabilities = new ContextCapabilities();
+
+    /**
+     * The view of each context's capabilities, weakly keyed so that the views of destroyed contexts are collected with them.
+     * <p>
+     * Views are populated before being cached, as they release their capabilities once populated, and a value strongly
+     * referencing its key would never be collected.
+     */
+    private static final Map<GLCapabilities, ContextExtensions> EXTENSIONS = new WeakHashMap<>();
+
+    /**
+     * Returns a bitset-backed view of the capabilities of the current context, cached per context.
+     *
+     * @return The extensions of the current context.
+     *
+     * @throws IllegalStateException If no context is current.
+     *
+     * @apiNote Custom method.
+     */
+    public static ContextExtensions getExtensions() {
+        GLCapabilities capabilities = GL.getCapabilities();
+        synchronized (EXTENSIONS) {
+            ContextExtensions extensions = EXTENSIONS.get(capabilities);
+            if (extensions == null) {
+                extensions = new ContextExtensions(capabilities);
+                extensions.populate();
+                EXTENSIONS.put(capabilities, extensions);
+            }
+            return extensions;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package org.lwjgl.opengl;
+
+import me.darragh.lwjgl.Config;
+import org.jspecify.annotations.Nullable;
+
+import static org.lwjgl.glfw.GLFW.glfwGetCurrentContext;
+import static org.lwjgl.opengl.GL11.*;
+
+/**
+ * Shadows the pack and unpack pixel-store state of the display context, in the same manner as {@link StateTracker} shadows
+ * buffer bindings, so that utilities such as GLU read cached values rather than issuing {@code glGetInteger} queries, and only
+ * issue the {@code glPixelStorei} calls which change state.
+ * <p>
+ * Each value is queried once, on first use, and tracked from then on. As the OpenGL bindings are not wrapped, calls made
+ * directly to {@code glPixelStorei} (or {@code glPopClientAttrib}) are not observed; the shadow must then be invalidated with
+ * {@link #invalidate()}. The shadow is therefore only used with {@link Config#GL_PIXEL_STORE_SHADOW} enabled, and only while the
+ * display context is current; otherwise every call goes straight to OpenGL.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public final class PixelStoreTracker {
+    private static final int[] PARAMETERS = {
+            GL_UNPACK_ROW_LENGTH, GL_UNPACK_ALIGNMENT, GL_UNPACK_SKIP_ROWS, GL_UNPACK_SKIP_PIXELS,
+            GL_PACK_ROW_LENGTH, GL_PACK_ALIGNMENT, GL_PACK_SKIP_ROWS, GL_PACK_SKIP_PIXELS
+    };
+
+    private final int[] values = new int[PARAMETERS.length];
+    private int known; // Bitmask of the values which have been queried or set
+    private long context; // The context the values belong to
+
+    PixelStoreTracker() {
+    }
+
+    /**
+     * Returns a pixel-store parameter of the current context, from the shadow where possible.
+     *
+     * @param pname The parameter, e.g. {@code GL_UNPACK_ALIGNMENT}.
+     * @return The value.
+     */
+    public static int get(int pname) {
+        PixelStoreTracker tracker = getTracker();
+        int index = index(pname);
+        if (tracker == null || index == -1) {
+            return glGetInteger(pname);
+        }
+
+        int bit = 1 << index;
+        if ((tracker.known & bit) == 0) {
+            tracker.values[index] = glGetInteger(pname);
+            tracker.known |= bit;
+        }
+        return tracker.values[index];
+    }
+
+    /**
+     * Sets a pixel-store parameter of the current context, skipping the call if the shadow shows it is already set.
+     *
+     * @param pname The parameter, e.g. {@code GL_UNPACK_ALIGNMENT}.
+     * @param value The value.
+     */
+    public static void set(int pname, int value) {
+        PixelStoreTracker tracker = getTracker();
+        int index = index(pname);
+        if (tracker == null || index == -1) {
+            glPixelStorei(pname, value);
+            return;
+        }
+
+        int bit = 1 << index;
+        if ((tracker.known & bit) != 0 && tracker.values[index] == value) {
+            return;
+        }
+        glPixelStorei(pname, value);
+        tracker.values[index] = value;
+        tracker.known |= bit;
+    }
+
+    /**
+     * Discards the shadow, so every value is queried again on next use. This must be called after changing pixel-store state
+     * without going through this class.
+     * <p>
+     * {@link Display} calls this when the display is created or destroyed, as a recreated window may reuse the previous handle.
+     */
+    public static void invalidate() {
+        GLContext.getCapabilities().pixelStore.known = 0;
+    }
+
+    /**
+     * Returns the shadow of the current context, or null if it should not be used.
+     */
+    private static @Nullable PixelStoreTracker getTracker() {
+        if (!Config.GL_PIXEL_STORE_SHADOW) {
+            return null;
+        }
+
+        long current = glfwGetCurrentContext();
+        if (current == 0L || current != Display.getWindow()) {
+            return null;
+        }
+
+        PixelStoreTracker tracker = GLContext.getCapabilities().pixelStore;
+        if (tracker.context != current) { // The display was recreated at a new address
+            tracker.context = current;
+            tracker.known = 0;
+        }
+        return tracker;
+    }
+
+    private static int index(int pname) {
+        for (int i = 0; i < PARAMETERS.length; i++) {
+            if (PARAMETERS[i] == pname) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -31,31 +31,27 @@
  */
 package org.lwjgl.opengl;
 
-import org.lwjgl.Sys;
+import me.darragh.lwjgl.opengl.timing.FrameLimiter;
 
 /**
  * A highly accurate sync method that continually adapts to the system
  * it runs on to provide reliable results.
+ * <p>
+ * Pacing is delegated to a {@link FrameLimiter}, which parks and then spins
+ * with a threshold learned from observed oversleeps.
  *
  * @author Riven
  * @author kappaOne
+ * @author darraghd493
  */
 class Sync {
 
-    /** number of nano seconds in a second */
-    private static final long NANOS_IN_SECOND = 1000L * 1000L * 1000L;
-
-    /** The time to sleep/yield until the next frame */
-    private static long nextFrame = 0;
+    /** the limiter driven by {@link Display#sync(int)} */
+    private static final FrameLimiter LIMITER = new FrameLimiter();
 
     /** whether the initialisation code has run */
     private static boolean initialised = false;
 
-    /** for calculating the averages the previous sleep/yield times are stored */
-    private static RunningAvg sleepDurations = new RunningAvg(10);
-    private static RunningAvg yieldDurations = new RunningAvg(10);
-
-
     /**
      * An accurate sync method that will attempt to run at a constant frame rate.
      * It should be called once every frame.
@@ -66,43 +62,26 @@ class Sync {
         if (fps <= 0) return;
         if (!initialised) initialise();
 
-        try {
-            // sleep until the average sleep time is greater than the time remaining till nextFrame
-            for (long t0 = getTime(), t1; (nextFrame - t0) > sleepDurations.avg(); t0 = t1) {
-                Thread.sleep(1);
-                sleepDurations.add((t1 = getTime()) - t0); // update average sleep time
-            }
-
-            // slowly dampen sleep average if too high to avoid yielding too much
-            sleepDurations.dampenForLowResTicker();
-
-            // yield until the average yield time is greater than the time remaining till nextFrame
-            for (long t0 = getTime(), t1; (nextFrame - t0) > yieldDurations.avg(); t0 = t1) {
-                Thread.yield();
-                yieldDurations.add((t1 = getTime()) - t0); // update average yield time
-            }
-        } catch (InterruptedException e) {
-
-        }
+        LIMITER.sync(fps);
+    }
 
-        // schedule next frame, drop frame(s) if already too late for next frame
-        nextFrame = Math.max(nextFrame + NANOS_IN_SECOND / fps, getTime());
+    /**
+     * Returns the limiter, e.g. to read its pacing error.
+     *
+     * @return the frame limiter
+     */
+    static FrameLimiter getLimiter() {
+        return LIMITER;
     }
 
     /**
-     * This method will initialise the sync method by setting initial
-     * values for sleepDurations/yieldDurations and nextFrame.
+     * This method will initialise the sync method.
      *
      * If running on windows it will start the sleep timer fix.
      */
     private static void initialise() {
         initialised = true;
 
-        sleepDurations.init(1000 * 1000);
-        yieldDurations.init((int) (-(getTime() - getTime()) * 1.333));
-
-        nextFrame = getTime();
-
         String osName = System.getProperty("os.name");
 
         if (osName.startsWith("Win")) {
@@ -123,53 +102,4 @@ class Sync {
             timerAccuracyThread.start();
         }
     }
-
-    /**
-     * Get the system time in nano seconds
-     *
-     * @return will return the current time in nano's
-     */
-    private static long getTime() {
-        return (Sys.getTime() * NANOS_IN_SECOND) / Sys.getTimerResolution();
-    }
-
-    private static class RunningAvg {
-        private final long[] slots;
-        private int offset;
-
-        private static final long DAMPEN_THRESHOLD = 10 * 1000L * 1000L; // 10ms
-        private static final float DAMPEN_FACTOR = 0.9f; // don't change: 0.9f is exactly right!
-
-        public RunningAvg(int slotCount) {
-            this.slots = new long[slotCount];
-            this.offset = 0;
-        }
-
-        public void init(long value) {
-            while (this.offset < this.slots.length) {
-                this.slots[this.offset++] = value;
-            }
-        }
-
-        public void add(long value) {
-            this.slots[this.offset++ % this.slots.length] = value;
-            this.offset %= this.slots.length;
-        }
-
-        public long avg() {
-            long sum = 0;
-            for (int i = 0; i < this.slots.length; i++) {
-                sum += this.slots[i];
-            }
-            return sum / this.slots.length;
-        }
-
-        public void dampenForLowResTicker() {
-            if (this.avg() > DAMPEN_THRESHOLD) {
-                for (int i = 0; i < this.slots.length; i++) {
-                    this.slots[i] *= DAMPEN_FACTOR;
-                }
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -94,7 +94,7 @@ public class Cylinder extends Quadric {
 		// Z component of normal vectors
 
 		if (super.drawStyle == GLU_POINT) {
-			glBegin(GL_POINTS);
+			begin(GL_POINTS);
 			for (i = 0; i < slices; i++) {
 				x = cos((i * da));
 				y = sin((i * da));
@@ -103,60 +103,60 @@ public class Cylinder extends Quadric {
 				z = 0.0f;
 				r = baseRadius;
 				for (j = 0; j <= stacks; j++) {
-					glVertex3f((x * r), (y * r), z);
+					vertex((x * r), (y * r), z);
 					z += dz;
 					r += dr;
 				}
 			}
-			glEnd();
+			end();
 		} else if (super.drawStyle == GLU_LINE || super.drawStyle == GLU_SILHOUETTE) {
 			// Draw rings
 			if (super.drawStyle == GLU_LINE) {
 				z = 0.0f;
 				r = baseRadius;
 				for (j = 0; j <= stacks; j++) {
-					glBegin(GL_LINE_LOOP);
+					begin(GL_LINE_LOOP);
 					for (i = 0; i < slices; i++) {
 						x = cos((i * da));
 						y = sin((i * da));
 						normal3f(x * nsign, y * nsign, nz * nsign);
-						glVertex3f((x * r), (y * r), z);
+						vertex((x * r), (y * r), z);
 					}
-					glEnd();
+					end();
 					z += dz;
 					r += dr;
 				}
 			} else {
 				// draw one ring at each end
 				if (baseRadius != 0.0) {
-					glBegin(GL_LINE_LOOP);
+					begin(GL_LINE_LOOP);
 					for (i = 0; i < slices; i++) {
 						x = cos((i * da));
 						y = sin((i * da));
 						normal3f(x * nsign, y * nsign, nz * nsign);
-						glVertex3f((x * baseRadius), (y * baseRadius), 0.0f);
+						vertex((x * baseRadius), (y * baseRadius), 0.0f);
 					}
-					glEnd();
-					glBegin(GL_LINE_LOOP);
+					end();
+					begin(GL_LINE_LOOP);
 					for (i = 0; i < slices; i++) {
 						x = cos((i * da));
 						y = sin((i * da));
 						normal3f(x * nsign, y * nsign, nz * nsign);
-						glVertex3f((x * topRadius), (y * topRadius), height);
+						vertex((x * topRadius), (y * topRadius), height);
 					}
-					glEnd();
+					end();
 				}
 			}
 			// draw length lines
-			glBegin(GL_LINES);
+			begin(GL_LINES);
 			for (i = 0; i < slices; i++) {
 				x = cos((i * da));
 				y = sin((i * da));
 				normal3f(x * nsign, y * nsign, nz * nsign);
-				glVertex3f((x * baseRadius), (y * baseRadius), 0.0f);
-				glVertex3f((x * topRadius), (y * topRadius), (height));
+				vertex((x * baseRadius), (y * baseRadius), 0.0f);
+				vertex((x * topRadius), (y * topRadius), (height));
 			}
-			glEnd();
+			end();
 		} else if (super.drawStyle == GLU_FILL) {
 			float ds = 1.0f / slices;
 			float dt = 1.0f / stacks;
@@ -165,7 +165,7 @@ public class Cylinder extends Quadric {
 			r = baseRadius;
 			for (j = 0; j < stacks; j++) {
 				float s = 0.0f;
-				glBegin(GL_QUAD_STRIP);
+				begin(GL_QUAD_STRIP);
 				for (i = 0; i <= slices; i++) {
 					if (i == slices) {
 						x = sin(0.0f);
@@ -177,21 +177,21 @@ public class Cylinder extends Quadric {
 					if (nsign == 1.0f) {
 						normal3f((x * nsign), (y * nsign), (nz * nsign));
 						TXTR_COORD(s, t);
-						glVertex3f((x * r), (y * r), z);
+						vertex((x * r), (y * r), z);
 						normal3f((x * nsign), (y * nsign), (nz * nsign));
 						TXTR_COORD(s, t + dt);
-						glVertex3f((x * (r + dr)), (y * (r + dr)), (z + dz));
+						vertex((x * (r + dr)), (y * (r + dr)), (z + dz));
 					} else {
 						normal3f(x * nsign, y * nsign, nz * nsign);
 						TXTR_COORD(s, t);
-						glVertex3f((x * r), (y * r), z);
+						vertex((x * r), (y * r), z);
 						normal3f(x * nsign, y * nsign, nz * nsign);
 						TXTR_COORD(s, t + dt);
-						glVertex3f((x * (r + dr)), (y * (r + dr)), (z + dz));
+						vertex((x * (r + dr)), (y * (r + dr)), (z + dz));
 					}
 					s += ds;
 				} // for slices
-				glEnd();
+				end();
 				r += dr;
 				t += dt;
 				z += dz;
@@ -75,10 +75,10 @@ public class Disk extends Quadric {
 	   /* Normal vectors */
 	   if (super.normals != GLU_NONE) {
 	      if (super.orientation == GLU_OUTSIDE) {
-		 glNormal3f(0.0f, 0.0f, +1.0f);
+		 normal(0.0f, 0.0f, +1.0f);
 	      }
 	      else {
-		 glNormal3f(0.0f, 0.0f, -1.0f);
+		 normal(0.0f, 0.0f, -1.0f);
 	      }
 	   }
 
@@ -100,7 +100,7 @@ public class Disk extends Quadric {
 		    float r2 = r1 + dr;
 		    if (super.orientation == GLU_OUTSIDE) {
 		       int s;
-		       glBegin(GL_QUAD_STRIP);
+		       begin(GL_QUAD_STRIP);
 		       for (s = 0; s <= slices; s++) {
 			  float a;
 			  if (s == slices)
@@ -110,15 +110,15 @@ public class Disk extends Quadric {
 			  sa = sin(a);
 			  ca = cos(a);
 			  TXTR_COORD(0.5f + sa * r2 / dtc, 0.5f + ca * r2 / dtc);
-			  glVertex2f(r2 * sa, r2 * ca);
+			  vertex(r2 * sa, r2 * ca);
 			  TXTR_COORD(0.5f + sa * r1 / dtc, 0.5f + ca * r1 / dtc);
-			  glVertex2f(r1 * sa, r1 * ca);
+			  vertex(r1 * sa, r1 * ca);
 		       }
-		       glEnd();
+		       end();
 		    }
 		    else {
 		       int s;
-		       glBegin(GL_QUAD_STRIP);
+		       begin(GL_QUAD_STRIP);
 		       for (s = slices; s >= 0; s--) {
 			  float a;
 			  if (s == slices)
@@ -128,11 +128,11 @@ public class Disk extends Quadric {
 			  sa = sin(a);
 			  ca = cos(a);
 			  TXTR_COORD(0.5f - sa * r2 / dtc, 0.5f + ca * r2 / dtc);
-			  glVertex2f(r2 * sa, r2 * ca);
+			  vertex(r2 * sa, r2 * ca);
 			  TXTR_COORD(0.5f - sa * r1 / dtc, 0.5f + ca * r1 / dtc);
-			  glVertex2f(r1 * sa, r1 * ca);
+			  vertex(r1 * sa, r1 * ca);
 		       }
-		       glEnd();
+		       end();
 		    }
 		    r1 = r2;
 		 }
@@ -144,31 +144,31 @@ public class Disk extends Quadric {
 		 /* draw loops */
 		 for (l = 0; l <= loops; l++) {
 		    float r = innerRadius + l * dr;
-		    glBegin(GL_LINE_LOOP);
+		    begin(GL_LINE_LOOP);
 		    for (s = 0; s < slices; s++) {
 		       float a = s * da;
-		       glVertex2f(r * sin(a), r * cos(a));
+		       vertex(r * sin(a), r * cos(a));
 		    }
-		    glEnd();
+		    end();
 		 }
 		 /* draw spokes */
 		 for (s = 0; s < slices; s++) {
 		    float a = s * da;
 		    float x = sin(a);
 		    float y = cos(a);
-		    glBegin(GL_LINE_STRIP);
+		    begin(GL_LINE_STRIP);
 		    for (l = 0; l <= loops; l++) {
 		       float r = innerRadius + l * dr;
-		       glVertex2f(r * x, r * y);
+		       vertex(r * x, r * y);
 		    }
-		    glEnd();
+		    end();
 		 }
 		 break;
 	      }
 	   case GLU_POINT:
 	      {
 		 int s;
-		 glBegin(GL_POINTS);
+		 begin(GL_POINTS);
 		 for (s = 0; s < slices; s++) {
 		    float a = s * da;
 		    float x = sin(a);
@@ -176,33 +176,33 @@ public class Disk extends Quadric {
 		    int l;
 		    for (l = 0; l <= loops; l++) {
 		       float r = innerRadius * l * dr;
-		       glVertex2f(r * x, r * y);
+		       vertex(r * x, r * y);
 		    }
 		 }
-		 glEnd();
+		 end();
 		 break;
 	      }
 	   case GLU_SILHOUETTE:
 	      {
 		 if (innerRadius != 0.0) {
 		    float a;
-		    glBegin(GL_LINE_LOOP);
+		    begin(GL_LINE_LOOP);
 		    for (a = 0.0f; a < 2.0 * PI; a += da) {
 		       float x = innerRadius * sin(a);
 		       float y = innerRadius * cos(a);
-		       glVertex2f(x, y);
+		       vertex(x, y);
 		    }
-		    glEnd();
+		    end();
 		 }
 		 {
 		    float a;
-		    glBegin(GL_LINE_LOOP);
+		    begin(GL_LINE_LOOP);
 		    for (a = 0; a < 2.0f * PI; a += da) {
 		       float x = outerRadius * sin(a);
 		       float y = outerRadius * cos(a);
-		       glVertex2f(x, y);
+		       vertex(x, y);
 		    }
-		    glEnd();
+		    end();
 		 }
 		 break;
 	      }
@@ -33,7 +33,12 @@ package org.lwjgl.util.glu;
 
 import java.nio.ByteBuffer;
 
+import me.darragh.lwjgl.image.ImageResampler;
+import me.darragh.lwjgl.image.MipChain;
+import me.darragh.lwjgl.image.MipFilter;
 import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GLContext;
+import org.lwjgl.opengl.PixelStoreTracker;
 
 import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.util.glu.GLU.*;
@@ -49,6 +54,8 @@ public class MipMap extends Util {
 
 	/**
 	 * Method gluBuild2DMipmaps
+	 * <p>
+	 * Unsigned byte images with an sRGB internal format, e.g. {@code GL_SRGB8_ALPHA8}, are averaged in linear space.
 	 *
 	 * @param target
 	 * @param components
@@ -68,7 +75,7 @@ public class MipMap extends Util {
 		if ( bpp == 0 )
 			return GLU_INVALID_ENUM;
 
-		final int maxSize = glGetIntegerv(GL_MAX_TEXTURE_SIZE);
+		final int maxSize = GLContext.getCapabilities().getMaxTextureSize();
 
 		int w = nearestPower(width);
 		if ( w > maxSize )
@@ -81,11 +88,24 @@ public class MipMap extends Util {
 		// Get current glPixelStore state
 		PixelStoreState pss = new PixelStoreState();
 
+		if ( type == GL_UNSIGNED_BYTE ) {
+			// Build every level up front, then upload them; the levels are the same as below, unless sRGB levels are averaged in linear space
+			final int strideIn = rowStride(bpp, pss.unpackRowLength > 0 ? pss.unpackRowLength : width, pss.unpackAlignment);
+			final MipChain chain = MipChain.build(bpp, width, height, data, pss.unpackSkipRows * strideIn + pss.unpackSkipPixels * bpp, strideIn, w, h,
+			                                      MipFilter.BOX, MipChain.isSrgb(components));
+			try {
+				chain.upload(target, components, format);
+			} finally {
+				chain.free();
+			}
+			return 0;
+		}
+
 		// set pixel packing
-		glPixelStorei(GL_PACK_ROW_LENGTH, 0);
-		glPixelStorei(GL_PACK_ALIGNMENT, 1);
-		glPixelStorei(GL_PACK_SKIP_ROWS, 0);
-		glPixelStorei(GL_PACK_SKIP_PIXELS, 0);
+		PixelStoreTracker.set(GL_PACK_ROW_LENGTH, 0);
+		PixelStoreTracker.set(GL_PACK_ALIGNMENT, 1);
+		PixelStoreTracker.set(GL_PACK_SKIP_ROWS, 0);
+		PixelStoreTracker.set(GL_PACK_SKIP_PIXELS, 0);
 
 		ByteBuffer image;
 		int retVal = 0;
@@ -101,10 +121,10 @@ public class MipMap extends Util {
 			}
 
 			/* set pixel unpacking */
-			glPixelStorei(GL_UNPACK_ROW_LENGTH, 0);
-			glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
-			glPixelStorei(GL_UNPACK_SKIP_ROWS, 0);
-			glPixelStorei(GL_UNPACK_SKIP_PIXELS, 0);
+			PixelStoreTracker.set(GL_UNPACK_ROW_LENGTH, 0);
+			PixelStoreTracker.set(GL_UNPACK_ALIGNMENT, 1);
+			PixelStoreTracker.set(GL_UNPACK_SKIP_ROWS, 0);
+			PixelStoreTracker.set(GL_UNPACK_SKIP_PIXELS, 0);
 		} else {
 			image = data;
 		}
@@ -116,10 +136,10 @@ public class MipMap extends Util {
 		while ( !done ) {
 			if (image != data) {
 				/* set pixel unpacking */
-				glPixelStorei(GL_UNPACK_ROW_LENGTH, 0);
-				glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
-				glPixelStorei(GL_UNPACK_SKIP_ROWS, 0);
-				glPixelStorei(GL_UNPACK_SKIP_PIXELS, 0);
+				PixelStoreTracker.set(GL_UNPACK_ROW_LENGTH, 0);
+				PixelStoreTracker.set(GL_UNPACK_ALIGNMENT, 1);
+				PixelStoreTracker.set(GL_UNPACK_SKIP_ROWS, 0);
+				PixelStoreTracker.set(GL_UNPACK_SKIP_PIXELS, 0);
 			}
 
 			glTexImage2D(target, level, components, w, h, 0, format, type, image);
@@ -187,10 +207,6 @@ public class MipMap extends Util {
 		int sizein, sizeout;
 		int rowstride, rowlen;
 
-		// temp image data
-		tempIn = new float[widthIn * heightIn * components];
-		tempOut = new float[widthOut * heightOut * components];
-
 		// Determine bytes per input type
 		switch ( typein ) {
 			case GL_UNSIGNED_BYTE:
@@ -218,6 +234,22 @@ public class MipMap extends Util {
 		// Get glPixelStore state
 		PixelStoreState pss = new PixelStoreState();
 
+		if ( typein == GL_UNSIGNED_BYTE && typeOut == GL_UNSIGNED_BYTE ) {
+			// Integer box filter on the byte rows; same output as the float path below, without converting the image
+			final int strideIn = rowStride(components, pss.unpackRowLength > 0 ? pss.unpackRowLength : widthIn, pss.unpackAlignment);
+			final int strideOut = rowStride(components, pss.packRowLength > 0 ? pss.packRowLength : widthOut, pss.packAlignment);
+
+			dataIn.rewind();
+			ImageResampler.scale(components,
+			                     widthIn, heightIn, dataIn, pss.unpackSkipRows * strideIn + pss.unpackSkipPixels * components, strideIn,
+			                     widthOut, heightOut, dataOut, pss.packSkipRows * strideOut + pss.packSkipPixels * components, strideOut);
+			return 0;
+		}
+
+		// temp image data
+		tempIn = new float[widthIn * heightIn * components];
+		tempOut = new float[widthOut * heightOut * components];
+
 		//Unpack the pixel data and convert to floating point
 		if ( pss.unpackRowLength > 0 )
 			rowlen = pss.unpackRowLength;
@@ -350,4 +382,18 @@ public class MipMap extends Util {
 
 		return 0;
 	}
+
+	/**
+	 * Returns the byte distance between rows of unsigned byte pixels, as laid out by glPixelStore.
+	 *
+	 * @param components
+	 * @param rowLength
+	 * @param alignment
+	 * @return int
+	 */
+	private static int rowStride(int components, int rowLength, int alignment) {
+		if ( 1 >= alignment )
+			return components * rowLength;
+		return alignment * ceil(components * rowLength, alignment);
+	}
 }
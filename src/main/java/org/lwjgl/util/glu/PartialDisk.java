@@ -144,9 +144,9 @@ public class PartialDisk extends Quadric {
 			case GLU_FLAT :
 			case GLU_SMOOTH :
 				if (super.orientation == GLU_OUTSIDE) {
-					glNormal3f(0.0f, 0.0f, 1.0f);
+					normal(0.0f, 0.0f, 1.0f);
 				} else {
-					glNormal3f(0.0f, 0.0f, -1.0f);
+					normal(0.0f, 0.0f, -1.0f);
 				}
 				break;
 			default :
@@ -159,11 +159,11 @@ public class PartialDisk extends Quadric {
 				if (innerRadius == .0f) {
 					finish = loops - 1;
 					/* Triangle strip for inner polygons */
-					glBegin(GL_TRIANGLE_FAN);
+					begin(GL_TRIANGLE_FAN);
 					if (super.textureFlag) {
-						glTexCoord2f(0.5f, 0.5f);
+						texCoord(0.5f, 0.5f);
 					}
-					glVertex3f(0.0f, 0.0f, 0.0f);
+					vertex(0.0f, 0.0f, 0.0f);
 					radiusLow = outerRadius - deltaRadius * ((float) (loops - 1) / loops);
 					if (super.textureFlag) {
 						texLow = radiusLow / outerRadius / 2;
@@ -172,23 +172,23 @@ public class PartialDisk extends Quadric {
 					if (super.orientation == GLU_OUTSIDE) {
 						for (i = slices; i >= 0; i--) {
 							if (super.textureFlag) {
-								glTexCoord2f(
+								texCoord(
 									texLow * sinCache[i] + 0.5f,
 									texLow * cosCache[i] + 0.5f);
 							}
-							glVertex3f(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
+							vertex(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
 						}
 					} else {
 						for (i = 0; i <= slices; i++) {
 							if (super.textureFlag) {
-								glTexCoord2f(
+								texCoord(
 									texLow * sinCache[i] + 0.5f,
 									texLow * cosCache[i] + 0.5f);
 							}
-							glVertex3f(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
+							vertex(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
 						}
 					}
-					glEnd();
+					end();
 				} else {
 					finish = loops;
 				}
@@ -200,49 +200,49 @@ public class PartialDisk extends Quadric {
 						texHigh = radiusHigh / outerRadius / 2;
 					}
 
-					glBegin(GL_QUAD_STRIP);
+					begin(GL_QUAD_STRIP);
 					for (i = 0; i <= slices; i++) {
 						if (super.orientation == GLU_OUTSIDE) {
 							if (super.textureFlag) {
-								glTexCoord2f(
+								texCoord(
 									texLow * sinCache[i] + 0.5f,
 									texLow * cosCache[i] + 0.5f);
 							}
-							glVertex3f(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
+							vertex(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
 
 							if (super.textureFlag) {
-								glTexCoord2f(
+								texCoord(
 									texHigh * sinCache[i] + 0.5f,
 									texHigh * cosCache[i] + 0.5f);
 							}
-							glVertex3f(
+							vertex(
 								radiusHigh * sinCache[i],
 								radiusHigh * cosCache[i],
 								0.0f);
 						} else {
 							if (super.textureFlag) {
-								glTexCoord2f(
+								texCoord(
 									texHigh * sinCache[i] + 0.5f,
 									texHigh * cosCache[i] + 0.5f);
 							}
-							glVertex3f(
+							vertex(
 								radiusHigh * sinCache[i],
 								radiusHigh * cosCache[i],
 								0.0f);
 
 							if (super.textureFlag) {
-								glTexCoord2f(
+								texCoord(
 									texLow * sinCache[i] + 0.5f,
 									texLow * cosCache[i] + 0.5f);
 							}
-							glVertex3f(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
+							vertex(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
 						}
 					}
-					glEnd();
+					end();
 				}
 				break;
 			case GLU_POINT :
-				glBegin(GL_POINTS);
+				begin(GL_POINTS);
 				for (i = 0; i < slices2; i++) {
 					sintemp = sinCache[i];
 					costemp = cosCache[i];
@@ -252,26 +252,26 @@ public class PartialDisk extends Quadric {
 						if (super.textureFlag) {
 							texLow = radiusLow / outerRadius / 2;
 
-							glTexCoord2f(
+							texCoord(
 								texLow * sinCache[i] + 0.5f,
 								texLow * cosCache[i] + 0.5f);
 						}
-						glVertex3f(radiusLow * sintemp, radiusLow * costemp, 0.0f);
+						vertex(radiusLow * sintemp, radiusLow * costemp, 0.0f);
 					}
 				}
-				glEnd();
+				end();
 				break;
 			case GLU_LINE :
 				if (innerRadius == outerRadius) {
-					glBegin(GL_LINE_STRIP);
+					begin(GL_LINE_STRIP);
 
 					for (i = 0; i <= slices; i++) {
 						if (super.textureFlag) {
-							glTexCoord2f(sinCache[i] / 2 + 0.5f, cosCache[i] / 2 + 0.5f);
+							texCoord(sinCache[i] / 2 + 0.5f, cosCache[i] / 2 + 0.5f);
 						}
-						glVertex3f(innerRadius * sinCache[i], innerRadius * cosCache[i], 0.0f);
+						vertex(innerRadius * sinCache[i], innerRadius * cosCache[i], 0.0f);
 					}
-					glEnd();
+					end();
 					break;
 				}
 				for (j = 0; j <= loops; j++) {
@@ -280,21 +280,21 @@ public class PartialDisk extends Quadric {
 						texLow = radiusLow / outerRadius / 2;
 					}
 
-					glBegin(GL_LINE_STRIP);
+					begin(GL_LINE_STRIP);
 					for (i = 0; i <= slices; i++) {
 						if (super.textureFlag) {
-							glTexCoord2f(
+							texCoord(
 								texLow * sinCache[i] + 0.5f,
 								texLow * cosCache[i] + 0.5f);
 						}
-						glVertex3f(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
+						vertex(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
 					}
-					glEnd();
+					end();
 				}
 				for (i = 0; i < slices2; i++) {
 					sintemp = sinCache[i];
 					costemp = cosCache[i];
-					glBegin(GL_LINE_STRIP);
+					begin(GL_LINE_STRIP);
 					for (j = 0; j <= loops; j++) {
 						radiusLow = outerRadius - deltaRadius * ((float) j / loops);
 						if (super.textureFlag) {
@@ -302,13 +302,13 @@ public class PartialDisk extends Quadric {
 						}
 
 						if (super.textureFlag) {
-							glTexCoord2f(
+							texCoord(
 								texLow * sinCache[i] + 0.5f,
 								texLow * cosCache[i] + 0.5f);
 						}
-						glVertex3f(radiusLow * sintemp, radiusLow * costemp, 0.0f);
+						vertex(radiusLow * sintemp, radiusLow * costemp, 0.0f);
 					}
-					glEnd();
+					end();
 				}
 				break;
 			case GLU_SILHOUETTE :
@@ -316,19 +316,19 @@ public class PartialDisk extends Quadric {
 					for (i = 0; i <= slices; i += slices) {
 						sintemp = sinCache[i];
 						costemp = cosCache[i];
-						glBegin(GL_LINE_STRIP);
+						begin(GL_LINE_STRIP);
 						for (j = 0; j <= loops; j++) {
 							radiusLow = outerRadius - deltaRadius * ((float) j / loops);
 
 							if (super.textureFlag) {
 								texLow = radiusLow / outerRadius / 2;
-								glTexCoord2f(
+								texCoord(
 									texLow * sinCache[i] + 0.5f,
 									texLow * cosCache[i] + 0.5f);
 							}
-							glVertex3f(radiusLow * sintemp, radiusLow * costemp, 0.0f);
+							vertex(radiusLow * sintemp, radiusLow * costemp, 0.0f);
 						}
-						glEnd();
+						end();
 					}
 				}
 				for (j = 0; j <= loops; j += loops) {
@@ -337,16 +337,16 @@ public class PartialDisk extends Quadric {
 						texLow = radiusLow / outerRadius / 2;
 					}
 
-					glBegin(GL_LINE_STRIP);
+					begin(GL_LINE_STRIP);
 					for (i = 0; i <= slices; i++) {
 						if (super.textureFlag) {
-							glTexCoord2f(
+							texCoord(
 								texLow * sinCache[i] + 0.5f,
 								texLow * cosCache[i] + 0.5f);
 						}
-						glVertex3f(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
+						vertex(radiusLow * sinCache[i], radiusLow * cosCache[i], 0.0f);
 					}
-					glEnd();
+					end();
 					if (innerRadius == outerRadius)
 						break;
 				}
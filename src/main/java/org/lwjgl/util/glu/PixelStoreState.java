@@ -31,6 +31,8 @@
  */
 package org.lwjgl.util.glu;
 
+import org.lwjgl.opengl.PixelStoreTracker;
+
 import static org.lwjgl.opengl.GL11.*;
 
 /**
@@ -39,6 +41,8 @@ import static org.lwjgl.opengl.GL11.*;
  *
  * Created 11-jan-2004
  * @author Erik Duijs
+ *
+ * @apiNote Reads and writes through PixelStoreTracker, so loading is free and saving only restores values which changed.
  */
 class PixelStoreState extends Util {
 
@@ -60,25 +64,25 @@ class PixelStoreState extends Util {
 	}
 
 	public void load() {
-		unpackRowLength = glGetIntegerv(GL_UNPACK_ROW_LENGTH);
-		unpackAlignment = glGetIntegerv(GL_UNPACK_ALIGNMENT);
-		unpackSkipRows = glGetIntegerv(GL_UNPACK_SKIP_ROWS);
-		unpackSkipPixels = glGetIntegerv(GL_UNPACK_SKIP_PIXELS);
-		packRowLength = glGetIntegerv(GL_PACK_ROW_LENGTH);
-		packAlignment = glGetIntegerv(GL_PACK_ALIGNMENT);
-		packSkipRows = glGetIntegerv(GL_PACK_SKIP_ROWS);
-		packSkipPixels = glGetIntegerv(GL_PACK_SKIP_PIXELS);
+		unpackRowLength = PixelStoreTracker.get(GL_UNPACK_ROW_LENGTH);
+		unpackAlignment = PixelStoreTracker.get(GL_UNPACK_ALIGNMENT);
+		unpackSkipRows = PixelStoreTracker.get(GL_UNPACK_SKIP_ROWS);
+		unpackSkipPixels = PixelStoreTracker.get(GL_UNPACK_SKIP_PIXELS);
+		packRowLength = PixelStoreTracker.get(GL_PACK_ROW_LENGTH);
+		packAlignment = PixelStoreTracker.get(GL_PACK_ALIGNMENT);
+		packSkipRows = PixelStoreTracker.get(GL_PACK_SKIP_ROWS);
+		packSkipPixels = PixelStoreTracker.get(GL_PACK_SKIP_PIXELS);
 	}
 
 	public void save() {
-		glPixelStorei(GL_UNPACK_ROW_LENGTH, unpackRowLength);
-		glPixelStorei(GL_UNPACK_ALIGNMENT, unpackAlignment);
-		glPixelStorei(GL_UNPACK_SKIP_ROWS, unpackSkipRows);
-		glPixelStorei(GL_UNPACK_SKIP_PIXELS, unpackSkipPixels);
-		glPixelStorei(GL_PACK_ROW_LENGTH, packRowLength);
-		glPixelStorei(GL_PACK_ALIGNMENT, packAlignment);
-		glPixelStorei(GL_PACK_SKIP_ROWS, packSkipRows);
-		glPixelStorei(GL_PACK_SKIP_PIXELS, packSkipPixels);
+		PixelStoreTracker.set(GL_UNPACK_ROW_LENGTH, unpackRowLength);
+		PixelStoreTracker.set(GL_UNPACK_ALIGNMENT, unpackAlignment);
+		PixelStoreTracker.set(GL_UNPACK_SKIP_ROWS, unpackSkipRows);
+		PixelStoreTracker.set(GL_UNPACK_SKIP_PIXELS, unpackSkipPixels);
+		PixelStoreTracker.set(GL_PACK_ROW_LENGTH, packRowLength);
+		PixelStoreTracker.set(GL_PACK_ALIGNMENT, packAlignment);
+		PixelStoreTracker.set(GL_PACK_SKIP_ROWS, packSkipRows);
+		PixelStoreTracker.set(GL_PACK_SKIP_PIXELS, packSkipPixels);
 	}
 
 }
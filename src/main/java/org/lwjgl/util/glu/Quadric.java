@@ -31,7 +31,6 @@
  */
 package org.lwjgl.util.glu;
 
-import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.util.glu.GLU.*;
 
 /**
@@ -48,6 +47,11 @@ public class Quadric {
 	protected boolean textureFlag;
 	protected int normals;
 
+	/**
+	 * Receives the geometry emitted by draw; immediate mode unless recording a mesh, see QuadricMeshBuilder.
+	 */
+	QuadricSink sink = QuadricSink.IMMEDIATE;
+
 	/**
 	 * Constructor for Quadric.
 	 */
@@ -61,7 +65,7 @@ public class Quadric {
 	}
 
 	/**
-	 * Call glNormal3f after scaling normal to unit length.
+	 * Call normal after scaling normal to unit length.
 	 *
 	 * @param x
 	 * @param y
@@ -76,7 +80,7 @@ public class Quadric {
 	      y /= mag;
 	      z /= mag;
 	   }
-	   glNormal3f(x, y, z);
+	   normal(x, y, z);
 	}
 
 	/**
@@ -184,7 +188,36 @@ public class Quadric {
 	}
 
 	protected void TXTR_COORD(float x, float y) {
-		if (textureFlag) glTexCoord2f(x,y);
+		if (textureFlag) texCoord(x,y);
+	}
+
+	/*
+	 * Geometry is emitted through these rather than glBegin, glNormal3f etc. directly,
+	 * so that it may be recorded into a mesh as well as drawn in immediate mode.
+	 */
+
+	protected void begin(int mode) {
+		sink.begin(mode);
+	}
+
+	protected void end() {
+		sink.end();
+	}
+
+	protected void normal(float x, float y, float z) {
+		sink.normal(x, y, z);
+	}
+
+	protected void texCoord(float s, float t) {
+		sink.texCoord(s, t);
+	}
+
+	protected void vertex(float x, float y, float z) {
+		sink.vertex(x, y, z);
+	}
+
+	protected void vertex(float x, float y) {
+		sink.vertex(x, y, 0.0f);
 	}
 
 
@@ -0,0 +1,164 @@
+package org.lwjgl.util.glu;
+
+import lombok.Getter;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL15.*;
+
+/**
+ * The geometry of a quadric, as built by {@link QuadricMeshBuilder}: interleaved vertices and indices into them.
+ * <p>
+ * Each vertex is {@value #VERTEX_SIZE} floats: the position, the normal and the texture coordinate. The normal and texture
+ * coordinate are those current when the vertex was emitted, as in immediate mode. Building requires no OpenGL context;
+ * {@link #draw()} uploads the geometry into buffer objects on first use, so every draw after that is a single draw call, and
+ * leaves the caller's buffer bindings and client array state as they were.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class QuadricMesh {
+    /**
+     * The amount of floats per vertex.
+     */
+    public static final int VERTEX_SIZE = 8;
+
+    private static final int STRIDE = VERTEX_SIZE * Float.BYTES;
+
+    /**
+     * -- GETTER --
+     *  Returns the primitive mode of the indices: {@code GL_TRIANGLES}, {@code GL_LINES} or {@code GL_POINTS}.
+     */
+    @Getter
+    private final int mode;
+
+    /**
+     * -- GETTER --
+     *  Returns the interleaved vertices, from position zero to the limit.
+     */
+    @Getter
+    private final FloatBuffer vertices;
+
+    /**
+     * -- GETTER --
+     *  Returns the indices, from position zero to the limit.
+     */
+    @Getter
+    private final IntBuffer indices;
+
+    private final boolean normals;
+    private final boolean texCoords;
+
+    private int vertexBuffer;
+    private int indexBuffer;
+
+    QuadricMesh(int mode, FloatBuffer vertices, IntBuffer indices, boolean normals, boolean texCoords) {
+        this.mode = mode;
+        this.vertices = vertices;
+        this.indices = indices;
+        this.normals = normals;
+        this.texCoords = texCoords;
+    }
+
+    /**
+     * Returns whether the quadric specified any normals; otherwise, the normals are those current before drawing.
+     *
+     * @return Whether the normal array is used.
+     */
+    public boolean hasNormals() {
+        return this.normals;
+    }
+
+    /**
+     * Returns whether the quadric specified any texture coordinates.
+     *
+     * @return Whether the texture coordinate array is used.
+     */
+    public boolean hasTexCoords() {
+        return this.texCoords;
+    }
+
+    /**
+     * Returns the amount of vertices.
+     *
+     * @return The amount of vertices.
+     */
+    public int getVertexCount() {
+        return this.vertices.limit() / VERTEX_SIZE;
+    }
+
+    /**
+     * Returns the amount of indices.
+     *
+     * @return The amount of indices.
+     */
+    public int getIndexCount() {
+        return this.indices.limit();
+    }
+
+    /**
+     * Draws the mesh with client vertex arrays sourced from buffer objects, uploading them first if necessary.
+     * <p>
+     * The array and element array buffer bindings are restored afterwards, so the element binding of a bound vertex array
+     * object is left as it was. The client array enables and pointers are saved and restored with the client attribute stack;
+     * while drawing, the colour array and any array the mesh does not use are disabled.
+     */
+    public void draw() {
+        if (this.getIndexCount() == 0) {
+            return;
+        }
+
+        int previousArrayBuffer = glGetInteger(GL_ARRAY_BUFFER_BINDING);
+        int previousElementBuffer = glGetInteger(GL_ELEMENT_ARRAY_BUFFER_BINDING);
+        glPushClientAttrib(GL_CLIENT_VERTEX_ARRAY_BIT);
+        try {
+            if (this.vertexBuffer == 0) {
+                this.vertexBuffer = glGenBuffers();
+                glBindBuffer(GL_ARRAY_BUFFER, this.vertexBuffer);
+                glBufferData(GL_ARRAY_BUFFER, this.vertices, GL_STATIC_DRAW);
+                this.indexBuffer = glGenBuffers();
+                glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.indexBuffer);
+                glBufferData(GL_ELEMENT_ARRAY_BUFFER, this.indices, GL_STATIC_DRAW);
+            } else {
+                glBindBuffer(GL_ARRAY_BUFFER, this.vertexBuffer);
+                glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.indexBuffer);
+            }
+
+            glEnableClientState(GL_VERTEX_ARRAY);
+            glVertexPointer(3, GL_FLOAT, STRIDE, 0L);
+            if (this.normals) {
+                glEnableClientState(GL_NORMAL_ARRAY);
+                glNormalPointer(GL_FLOAT, STRIDE, 3L * Float.BYTES);
+            } else {
+                glDisableClientState(GL_NORMAL_ARRAY);
+            }
+            if (this.texCoords) {
+                glEnableClientState(GL_TEXTURE_COORD_ARRAY);
+                glTexCoordPointer(2, GL_FLOAT, STRIDE, 6L * Float.BYTES);
+            } else {
+                glDisableClientState(GL_TEXTURE_COORD_ARRAY);
+            }
+            glDisableClientState(GL_COLOR_ARRAY); // Immediate mode draws with the current colour
+
+            glDrawElements(this.mode, this.getIndexCount(), GL_UNSIGNED_INT, 0L);
+        } finally {
+            glPopClientAttrib();
+            glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, previousElementBuffer);
+            glBindBuffer(GL_ARRAY_BUFFER, previousArrayBuffer);
+        }
+    }
+
+    /**
+     * Deletes the mesh's buffer objects, if it has been drawn. The mesh may still be drawn afterwards, re-uploading it.
+     */
+    public void delete() {
+        if (this.vertexBuffer != 0) {
+            glDeleteBuffers(this.vertexBuffer);
+            glDeleteBuffers(this.indexBuffer);
+            this.vertexBuffer = 0;
+            this.indexBuffer = 0;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package org.lwjgl.util.glu;
+
+import org.lwjgl.BufferUtils;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL11.*;
+
+/**
+ * Builds retained meshes of quadrics, so that repeated draws become a single buffered draw call rather than immediate-mode
+ * geometry with {@code sin}/{@code cos} per vertex.
+ * <p>
+ * A mesh is built by running the quadric's own {@code draw} against a recording {@link QuadricSink}, so it holds exactly the
+ * geometry immediate mode would draw, for every draw style, normal, orientation and texture setting. Fans and quad strips are
+ * converted to triangles, and loops and strips to lines, preserving the winding. No OpenGL context is required to build.
+ * <p>
+ * Meshes are cached by shape, parameters and quadric settings. The builder is not thread-safe.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class QuadricMeshBuilder {
+    private final Map<Key, QuadricMesh> cache = new HashMap<>();
+    private final Recorder recorder = new Recorder();
+
+    /**
+     * Returns the mesh of a sphere, building it if not cached.
+     *
+     * @param sphere The sphere, whose settings apply.
+     * @param radius The radius.
+     * @param slices The amount of subdivisions around the z axis.
+     * @param stacks The amount of subdivisions along the z axis.
+     * @return The mesh.
+     */
+    public QuadricMesh sphere(Sphere sphere, float radius, int slices, int stacks) {
+        return this.cached(sphere, new Key(sphere, radius, 0.0f, 0.0f, 0.0f, 0.0f, slices, stacks),
+                () -> sphere.draw(radius, slices, stacks));
+    }
+
+    /**
+     * Returns the mesh of a cylinder, building it if not cached.
+     *
+     * @param cylinder The cylinder, whose settings apply.
+     * @param baseRadius The radius at z = 0.
+     * @param topRadius The radius at z = height.
+     * @param height The height.
+     * @param slices The amount of subdivisions around the z axis.
+     * @param stacks The amount of subdivisions along the z axis.
+     * @return The mesh.
+     */
+    public QuadricMesh cylinder(Cylinder cylinder, float baseRadius, float topRadius, float height, int slices, int stacks) {
+        return this.cached(cylinder, new Key(cylinder, baseRadius, topRadius, height, 0.0f, 0.0f, slices, stacks),
+                () -> cylinder.draw(baseRadius, topRadius, height, slices, stacks));
+    }
+
+    /**
+     * Returns the mesh of a disk, building it if not cached.
+     *
+     * @param disk The disk, whose settings apply.
+     * @param innerRadius The radius of the hole, or zero.
+     * @param outerRadius The outer radius.
+     * @param slices The amount of subdivisions around the z axis.
+     * @param loops The amount of concentric rings.
+     * @return The mesh.
+     */
+    public QuadricMesh disk(Disk disk, float innerRadius, float outerRadius, int slices, int loops) {
+        return this.cached(disk, new Key(disk, innerRadius, outerRadius, 0.0f, 0.0f, 0.0f, slices, loops),
+                () -> disk.draw(innerRadius, outerRadius, slices, loops));
+    }
+
+    /**
+     * Returns the mesh of a partial disk, building it if not cached.
+     *
+     * @param partialDisk The partial disk, whose settings apply.
+     * @param innerRadius The radius of the hole, or zero.
+     * @param outerRadius The outer radius.
+     * @param slices The amount of subdivisions around the z axis.
+     * @param loops The amount of concentric rings.
+     * @param startAngle The starting angle, in degrees.
+     * @param sweepAngle The sweep angle, in degrees.
+     * @return The mesh.
+     */
+    public QuadricMesh partialDisk(PartialDisk partialDisk, float innerRadius, float outerRadius, int slices, int loops,
+                                   float startAngle, float sweepAngle) {
+        return this.cached(partialDisk, new Key(partialDisk, innerRadius, outerRadius, 0.0f, startAngle, sweepAngle, slices, loops),
+                () -> partialDisk.draw(innerRadius, outerRadius, slices, loops, startAngle, sweepAngle));
+    }
+
+    /**
+     * Builds a mesh without caching it.
+     *
+     * @param quadric The quadric.
+     * @param draw Calls the quadric's {@code draw}.
+     * @return The mesh.
+     */
+    public QuadricMesh build(Quadric quadric, Runnable draw) {
+        this.recorder.reset();
+        record(quadric, this.recorder, draw);
+        return this.recorder.toMesh();
+    }
+
+    /**
+     * Deletes the buffer objects of every cached mesh and empties the cache. This requires the context the meshes were drawn with.
+     */
+    public void clear() {
+        for (QuadricMesh mesh : this.cache.values()) {
+            mesh.delete();
+        }
+        this.cache.clear();
+    }
+
+    /**
+     * Runs a quadric's {@code draw} with its geometry sent to the given sink rather than immediate mode.
+     *
+     * @param quadric The quadric.
+     * @param sink The sink receiving the geometry.
+     * @param draw Calls the quadric's {@code draw}.
+     */
+    public static void record(Quadric quadric, QuadricSink sink, Runnable draw) {
+        QuadricSink previous = quadric.sink;
+        quadric.sink = sink;
+        try {
+            draw.run();
+        } finally {
+            quadric.sink = previous;
+        }
+    }
+
+    private QuadricMesh cached(Quadric quadric, Key key, Runnable draw) {
+        QuadricMesh mesh = this.cache.get(key);
+        if (mesh == null) {
+            mesh = this.build(quadric, draw);
+            this.cache.put(key, mesh);
+        }
+        return mesh;
+    }
+
+    /**
+     * A cache key: the shape, its parameters (unused ones are zero) and the quadric's settings.
+     */
+    private record Key(Class<?> shape, float a, float b, float c, float d, float e, int slices, int stacks,
+                       int drawStyle, int normals, int orientation, boolean textureFlag) {
+        Key(Quadric quadric, float a, float b, float c, float d, float e, int slices, int stacks) {
+            this(quadric.getClass(), a, b, c, d, e, slices, stacks,
+                    quadric.drawStyle, quadric.normals, quadric.orientation, quadric.textureFlag);
+        }
+    }
+
+    /**
+     * Records the geometry of a draw, tracking the current normal and texture coordinate as immediate mode does, and converts
+     * each primitive into indices once it ends. Its arrays are reused between builds.
+     */
+    private static final class Recorder implements QuadricSink {
+        private float[] vertices = new float[QuadricMesh.VERTEX_SIZE * 256];
+        private int[] indices = new int[1024];
+        private int vertexCount, indexCount;
+
+        private float nx, ny, nz, s, t;
+        private boolean normals, texCoords;
+
+        private int meshMode; // GL_TRIANGLES, GL_LINES or GL_POINTS, once a primitive has ended
+        private int primitiveMode, primitiveStart; // -1 while outside begin/end
+
+        void reset() {
+            this.vertexCount = this.indexCount = 0;
+            this.nx = this.ny = this.s = this.t = 0.0f;
+            this.nz = 1.0f;
+            this.normals = this.texCoords = false;
+            this.meshMode = -1;
+            this.primitiveMode = -1;
+        }
+
+        @Override
+        public void begin(int mode) {
+            this.primitiveMode = mode;
+            this.primitiveStart = this.vertexCount;
+        }
+
+        @Override
+        public void end() {
+            int first = this.primitiveStart, count = this.vertexCount - first;
+            switch (this.primitiveMode) {
+                case GL_TRIANGLE_FAN -> {
+                    this.mode(GL_TRIANGLES);
+                    for (int i = 1; i + 1 < count; i++) {
+                        this.index(first, first + i, first + i + 1);
+                    }
+                }
+                case GL_QUAD_STRIP -> {
+                    this.mode(GL_TRIANGLES);
+                    for (int i = 0; i + 3 < count; i += 2) { // Quad i is (v0, v1, v3, v2)
+                        this.index(first + i, first + i + 1, first + i + 3);
+                        this.index(first + i, first + i + 3, first + i + 2);
+                    }
+                }
+                case GL_LINES -> {
+                    this.mode(GL_LINES);
+                    for (int i = 0; i + 1 < count; i += 2) {
+                        this.index(first + i, first + i + 1);
+                    }
+                }
+                case GL_LINE_STRIP, GL_LINE_LOOP -> {
+                    this.mode(GL_LINES);
+                    for (int i = 0; i + 1 < count; i++) {
+                        this.index(first + i, first + i + 1);
+                    }
+                    if (this.primitiveMode == GL_LINE_LOOP && count > 1) {
+                        this.index(first + count - 1, first);
+                    }
+                }
+                case GL_POINTS -> {
+                    this.mode(GL_POINTS);
+                    for (int i = 0; i < count; i++) {
+                        this.index(first + i);
+                    }
+                }
+                default -> throw new IllegalStateException("Unsupported primitive mode 0x" + Integer.toHexString(this.primitiveMode) + ".");
+            }
+            this.primitiveMode = -1;
+        }
+
+        @Override
+        public void normal(float x, float y, float z) {
+            this.nx = x;
+            this.ny = y;
+            this.nz = z;
+            this.normals = true;
+        }
+
+        @Override
+        public void texCoord(float s, float t) {
+            this.s = s;
+            this.t = t;
+            this.texCoords = true;
+        }
+
+        @Override
+        public void vertex(float x, float y, float z) {
+            int offset = this.vertexCount * QuadricMesh.VERTEX_SIZE;
+            if (offset + QuadricMesh.VERTEX_SIZE > this.vertices.length) {
+                this.vertices = Arrays.copyOf(this.vertices, this.vertices.length << 1);
+            }
+
+            float[] vertices = this.vertices;
+            vertices[offset] = x;
+            vertices[offset + 1] = y;
+            vertices[offset + 2] = z;
+            vertices[offset + 3] = this.nx;
+            vertices[offset + 4] = this.ny;
+            vertices[offset + 5] = this.nz;
+            vertices[offset + 6] = this.s;
+            vertices[offset + 7] = this.t;
+            this.vertexCount++;
+        }
+
+        QuadricMesh toMesh() {
+            FloatBuffer vertices = BufferUtils.createFloatBuffer(this.vertexCount * QuadricMesh.VERTEX_SIZE);
+            vertices.put(this.vertices, 0, this.vertexCount * QuadricMesh.VERTEX_SIZE).flip();
+            IntBuffer indices = BufferUtils.createIntBuffer(this.indexCount);
+            indices.put(this.indices, 0, this.indexCount).flip();
+            return new QuadricMesh(this.meshMode == -1 ? GL_POINTS : this.meshMode, vertices, indices, this.normals, this.texCoords);
+        }
+
+        private void mode(int mode) {
+            if (this.meshMode != -1 && this.meshMode != mode) {
+                throw new IllegalStateException("A quadric mesh cannot mix primitive types.");
+            }
+            this.meshMode = mode;
+        }
+
+        private void index(int... vertices) {
+            if (this.indexCount + vertices.length > this.indices.length) {
+                this.indices = Arrays.copyOf(this.indices, this.indices.length << 1);
+            }
+            for (int vertex : vertices) {
+                this.indices[this.indexCount++] = vertex;
+            }
+        }
+    }
+}
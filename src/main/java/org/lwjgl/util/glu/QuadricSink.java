@@ -0,0 +1,70 @@
+package org.lwjgl.util.glu;
+
+import static org.lwjgl.opengl.GL11.*;
+
+/**
+ * Receives the geometry emitted by a {@link Quadric}, as the equivalent immediate-mode calls.
+ * <p>
+ * Vertices take the most recently specified normal and texture coordinate, as in immediate mode.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public interface QuadricSink {
+    /**
+     * Draws the geometry in immediate mode; the default for every quadric.
+     */
+    QuadricSink IMMEDIATE = new QuadricSink() {
+        @Override
+        public void begin(int mode) {
+            glBegin(mode);
+        }
+
+        @Override
+        public void end() {
+            glEnd();
+        }
+
+        @Override
+        public void normal(float x, float y, float z) {
+            glNormal3f(x, y, z);
+        }
+
+        @Override
+        public void texCoord(float s, float t) {
+            glTexCoord2f(s, t);
+        }
+
+        @Override
+        public void vertex(float x, float y, float z) {
+            glVertex3f(x, y, z);
+        }
+    };
+
+    /**
+     * Begins a primitive, as {@code glBegin}.
+     *
+     * @param mode The primitive mode, e.g. {@code GL_QUAD_STRIP}.
+     */
+    void begin(int mode);
+
+    /**
+     * Ends the current primitive, as {@code glEnd}.
+     */
+    void end();
+
+    /**
+     * Sets the current normal, as {@code glNormal3f}.
+     */
+    void normal(float x, float y, float z);
+
+    /**
+     * Sets the current texture coordinate, as {@code glTexCoord2f}.
+     */
+    void texCoord(float s, float t);
+
+    /**
+     * Emits a vertex, as {@code glVertex3f}.
+     */
+    void vertex(float x, float y, float z);
+}
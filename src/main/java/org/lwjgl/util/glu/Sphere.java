@@ -89,20 +89,20 @@ public class Sphere extends Quadric {
 		if (super.drawStyle == GLU_FILL) {
 			if (!super.textureFlag) {
 				// draw +Z end as a triangle fan
-				glBegin(GL_TRIANGLE_FAN);
-				glNormal3f(0.0f, 0.0f, 1.0f);
-				glVertex3f(0.0f, 0.0f, nsign * radius);
+				begin(GL_TRIANGLE_FAN);
+				normal(0.0f, 0.0f, 1.0f);
+				vertex(0.0f, 0.0f, nsign * radius);
 				for (j = 0; j <= slices; j++) {
 					theta = (j == slices) ? 0.0f : j * dtheta;
 					x = -sin(theta) * sin(drho);
 					y = cos(theta) * sin(drho);
 					z = nsign * cos(drho);
 					if (normals) {
-						glNormal3f(x * nsign, y * nsign, z * nsign);
+						normal(x * nsign, y * nsign, z * nsign);
 					}
-					glVertex3f(x * radius, y * radius, z * radius);
+					vertex(x * radius, y * radius, z * radius);
 				}
-				glEnd();
+				end();
 			}
 
 			ds = 1.0f / slices;
@@ -119,7 +119,7 @@ public class Sphere extends Quadric {
 			// draw intermediate stacks as quad strips
 			for (i = imin; i < imax; i++) {
 				rho = i * drho;
-				glBegin(GL_QUAD_STRIP);
+				begin(GL_QUAD_STRIP);
 				s = 0.0f;
 				for (j = 0; j <= slices; j++) {
 					theta = (j == slices) ? 0.0f : j * dtheta;
@@ -127,29 +127,29 @@ public class Sphere extends Quadric {
 					y = cos(theta) * sin(rho);
 					z = nsign * cos(rho);
 					if (normals) {
-						glNormal3f(x * nsign, y * nsign, z * nsign);
+						normal(x * nsign, y * nsign, z * nsign);
 					}
 					TXTR_COORD(s, t);
-					glVertex3f(x * radius, y * radius, z * radius);
+					vertex(x * radius, y * radius, z * radius);
 					x = -sin(theta) * sin(rho + drho);
 					y = cos(theta) * sin(rho + drho);
 					z = nsign * cos(rho + drho);
 					if (normals) {
-						glNormal3f(x * nsign, y * nsign, z * nsign);
+						normal(x * nsign, y * nsign, z * nsign);
 					}
 					TXTR_COORD(s, t - dt);
 					s += ds;
-					glVertex3f(x * radius, y * radius, z * radius);
+					vertex(x * radius, y * radius, z * radius);
 				}
-				glEnd();
+				end();
 				t -= dt;
 			}
 
 			if (!super.textureFlag) {
 				// draw -Z end as a triangle fan
-				glBegin(GL_TRIANGLE_FAN);
-				glNormal3f(0.0f, 0.0f, -1.0f);
-				glVertex3f(0.0f, 0.0f, -radius * nsign);
+				begin(GL_TRIANGLE_FAN);
+				normal(0.0f, 0.0f, -1.0f);
+				vertex(0.0f, 0.0f, -radius * nsign);
 				rho = PI - drho;
 				s = 1.0f;
 				for (j = slices; j >= 0; j--) {
@@ -158,11 +158,11 @@ public class Sphere extends Quadric {
 					y = cos(theta) * sin(rho);
 					z = nsign * cos(rho);
 					if (normals)
-						glNormal3f(x * nsign, y * nsign, z * nsign);
+						normal(x * nsign, y * nsign, z * nsign);
 					s -= ds;
-					glVertex3f(x * radius, y * radius, z * radius);
+					vertex(x * radius, y * radius, z * radius);
 				}
-				glEnd();
+				end();
 			}
 		} else if (
 			super.drawStyle == GLU_LINE
@@ -172,42 +172,42 @@ public class Sphere extends Quadric {
 				i < stacks;
 				i++) { // stack line at i==stacks-1 was missing here
 				rho = i * drho;
-				glBegin(GL_LINE_LOOP);
+				begin(GL_LINE_LOOP);
 				for (j = 0; j < slices; j++) {
 					theta = j * dtheta;
 					x = cos(theta) * sin(rho);
 					y = sin(theta) * sin(rho);
 					z = cos(rho);
 					if (normals)
-						glNormal3f(x * nsign, y * nsign, z * nsign);
-					glVertex3f(x * radius, y * radius, z * radius);
+						normal(x * nsign, y * nsign, z * nsign);
+					vertex(x * radius, y * radius, z * radius);
 				}
-				glEnd();
+				end();
 			}
 			// draw slice lines
 			for (j = 0; j < slices; j++) {
 				theta = j * dtheta;
-				glBegin(GL_LINE_STRIP);
+				begin(GL_LINE_STRIP);
 				for (i = 0; i <= stacks; i++) {
 					rho = i * drho;
 					x = cos(theta) * sin(rho);
 					y = sin(theta) * sin(rho);
 					z = cos(rho);
 					if (normals)
-						glNormal3f(x * nsign, y * nsign, z * nsign);
-					glVertex3f(x * radius, y * radius, z * radius);
+						normal(x * nsign, y * nsign, z * nsign);
+					vertex(x * radius, y * radius, z * radius);
 				}
-				glEnd();
+				end();
 			}
 		} else if (super.drawStyle == GLU_POINT) {
 			// top and bottom-most points
-			glBegin(GL_POINTS);
+			begin(GL_POINTS);
 			if (normals)
-				glNormal3f(0.0f, 0.0f, nsign);
-			glVertex3f(0.0f, 0.0f, radius);
+				normal(0.0f, 0.0f, nsign);
+			vertex(0.0f, 0.0f, radius);
 			if (normals)
-				glNormal3f(0.0f, 0.0f, -nsign);
-			glVertex3f(0.0f, 0.0f, -radius);
+				normal(0.0f, 0.0f, -nsign);
+			vertex(0.0f, 0.0f, -radius);
 
 			// loop over stacks
 			for (i = 1; i < stacks - 1; i++) {
@@ -218,11 +218,11 @@ public class Sphere extends Quadric {
 					y = sin(theta) * sin(rho);
 					z = cos(rho);
 					if (normals)
-						glNormal3f(x * nsign, y * nsign, z * nsign);
-					glVertex3f(x * radius, y * radius, z * radius);
+						normal(x * nsign, y * nsign, z * nsign);
+					vertex(x * radius, y * radius, z * radius);
 				}
 			}
-			glEnd();
+			end();
 		}
 	}
 
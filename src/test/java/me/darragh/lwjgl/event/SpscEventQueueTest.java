@@ -0,0 +1,116 @@
+package me.darragh.lwjgl.event;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link SpscEventQueue}, including stress tests handing events between a producer and a consumer thread in the manner of
+ * jcstress: every event must arrive exactly once, in order, with the payload written before it was pushed.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class SpscEventQueueTest {
+    private static final int STRESS_EVENTS = 2_000_000;
+
+    @Test
+    public void deliversEventsInOrder() {
+        SpscEventQueue queue = new SpscEventQueue(8);
+        int[] payload = new int[queue.getMaxCapacity()];
+
+        for (int i = 0; i < 5; i++) {
+            payload[queue.getWritePosition()] = i;
+            assertTrue(queue.push());
+        }
+        assertEquals(5, queue.getCurrentCount());
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.next());
+            assertEquals(i, payload[queue.getReadPosition()]);
+        }
+        assertFalse(queue.next());
+        assertEquals(0, queue.getCurrentCount());
+    }
+
+    @Test
+    public void dropsNewestWhenFull() {
+        SpscEventQueue queue = new SpscEventQueue(4); // The read and write slots are never unread, leaving room for two
+        int[] payload = new int[queue.getMaxCapacity()];
+
+        for (int i = 0; i < 5; i++) {
+            payload[queue.getWritePosition()] = i;
+            assertEquals(i < 2, queue.push(), "push " + i);
+        }
+        assertEquals(3, queue.getDroppedCount());
+        assertEquals(OverflowPolicy.DROP_NEWEST, queue.getOverflowPolicy());
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(queue.next());
+            assertEquals(i, payload[queue.getReadPosition()]);
+        }
+        assertFalse(queue.next());
+    }
+
+    @Test
+    @Timeout(60)
+    public void stressLargeQueue() throws InterruptedException {
+        stress(256);
+    }
+
+    @Test
+    @Timeout(60)
+    public void stressSmallQueue() throws InterruptedException {
+        stress(3); // Constantly full and empty, exercising both boundaries
+    }
+
+    /**
+     * Hands {@link #STRESS_EVENTS} events from a producer thread to the calling thread. Each event is spread over two plain
+     * arrays, so a consumer observing a slot before its payload would see a mismatch. The producer retries dropped pushes, so
+     * every event must arrive.
+     */
+    private static void stress(int capacity) throws InterruptedException {
+        SpscEventQueue queue = new SpscEventQueue(capacity);
+        long[] values = new long[capacity];
+        long[] checks = new long[capacity];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (long i = 0; i < STRESS_EVENTS; i++) {
+                    int position = queue.getWritePosition();
+                    values[position] = i;
+                    checks[position] = ~i;
+                    while (!queue.push()) {
+                        Thread.yield(); // Rather than spinning, so the test also progresses on a single core
+                    }
+                }
+            } catch (Throwable throwable) {
+                failure.set(throwable);
+            }
+        }, "SPSC producer");
+        producer.start();
+
+        long expected = 0;
+        while (expected < STRESS_EVENTS && failure.get() == null) {
+            if (!queue.next()) {
+                Thread.yield(); // Rather than spinning, so the test also progresses on a single core
+                continue;
+            }
+
+            int position = queue.getReadPosition();
+            long value = values[position];
+            assertEquals(expected, value, "event out of order or lost");
+            assertEquals(~expected, checks[position], "payload not visible");
+            expected++;
+        }
+
+        producer.join();
+        assertNull(failure.get());
+        assertEquals(STRESS_EVENTS, expected);
+        assertFalse(queue.next());
+    }
+}
@@ -0,0 +1,219 @@
+package me.darragh.lwjgl.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that {@link ImageResampler} produces the same bytes as the float loop {@code gluScaleImage} used for unsigned byte
+ * images before it, including the padding between rows, which must be left untouched. No OpenGL context is needed.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class ImageResamplerTest {
+    @Test
+    public void matchesLegacyLoopForRandomLayouts() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 500; i++) {
+            int components = 1 + random.nextInt(4);
+            int widthIn = 1 + random.nextInt(48), heightIn = 1 + random.nextInt(48);
+            int widthOut = 1 + random.nextInt(48), heightOut = 1 + random.nextInt(48);
+            assertMatchesLegacy(random, components,
+                    widthIn, heightIn, random.nextInt(16), widthIn * components + random.nextInt(8),
+                    widthOut, heightOut, random.nextInt(16), widthOut * components + random.nextInt(8),
+                    random.nextBoolean());
+        }
+    }
+
+    @Test
+    public void matchesLegacyLoopWhenUpscaling() {
+        Random random = new Random(43L);
+        int[][] sizes = {
+                {1, 1, 7, 5},
+                {3, 2, 64, 64},
+                {5, 7, 6, 8}, // Barely larger, so most boxes hold one texel and some none
+                {64, 4, 8, 32}, // Narrowed, but taller
+                {17, 13, 51, 39}
+        };
+
+        for (int[] size : sizes) {
+            for (int components = 1; components <= 4; components++) {
+                assertMatchesLegacy(random, components,
+                        size[0], size[1], 3, size[0] * components + 1,
+                        size[2], size[3], 5, size[2] * components + 3,
+                        components % 2 == 0);
+            }
+        }
+    }
+
+    @Test
+    public void matchesLegacyLoopForBoxesTooLargeToSumExactly() {
+        Random random = new Random(44L);
+        int[][] sizes = {
+                {272, 241, 1, 1}, // One texel below the limit
+                {273, 241, 1, 1}, // Exactly at the limit
+                {300, 300, 1, 1},
+                {600, 300, 2, 1},
+                {1200, 330, 3, 2}
+        };
+        assertEquals(ImageResampler.MAX_EXACT_BOX - 241, 272 * 241);
+        assertEquals(ImageResampler.MAX_EXACT_BOX, 273 * 241);
+
+        for (int[] size : sizes) {
+            for (int components = 1; components <= 4; components++) {
+                int strideIn = size[0] * components, strideOut = size[2] * components;
+                assertMatchesLegacy(random, components, size[0], size[1], 0, strideIn, size[2], size[3], 0, strideOut, true);
+
+                // Random texels average out to the same result either way; these constants are where float sums round down
+                for (byte value : new byte[]{(byte) 253, (byte) 129}) {
+                    byte[] pixels = new byte[size[1] * strideIn];
+                    Arrays.fill(pixels, value);
+                    assertMatchesLegacy(random, pixels, components, size[0], size[1], 0, strideIn, size[2], size[3], 0, strideOut, false);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void matchesLegacyLoopWhenResamplingInPlace() {
+        int components = 4, widthIn = 1024, heightIn = 512, widthOut = widthIn / 2, heightOut = heightIn / 2;
+        assertTrue(widthIn * heightIn * components >= ImageResampler.PARALLEL_THRESHOLD);
+
+        Random random = new Random(45L);
+        for (boolean direct : new boolean[]{false, true}) {
+            for (int offsetOut : new int[]{0, components * 3 + 1}) { // The same start, then shifted so the ranges only overlap
+                byte[] pixels = new byte[widthIn * heightIn * components];
+                random.nextBytes(pixels);
+
+                ByteBuffer buffer = allocate(pixels.length, direct).put(0, pixels);
+                ByteBuffer expected = ByteBuffer.wrap(pixels.clone());
+                legacyScale(components, widthIn, heightIn, ByteBuffer.wrap(pixels), 0, widthIn * components,
+                        widthOut, heightOut, expected, offsetOut, widthOut * components);
+
+                // A duplicate, so overlap is detected from the memory rather than the buffer instance
+                ImageResampler.scale(components, widthIn, heightIn, buffer, 0, widthIn * components,
+                        widthOut, heightOut, buffer.duplicate(), offsetOut, widthOut * components);
+
+                assertArrayEquals(expected.array(), toArray(buffer), "direct " + direct + ", offset " + offsetOut);
+            }
+        }
+    }
+
+    /**
+     * Resamples a random image with both implementations and compares the results.
+     */
+    private static void assertMatchesLegacy(Random random, int components,
+                                            int widthIn, int heightIn, int offsetIn, int strideIn,
+                                            int widthOut, int heightOut, int offsetOut, int strideOut,
+                                            boolean direct) {
+        byte[] pixels = new byte[offsetIn + (heightIn - 1) * strideIn + widthIn * components];
+        random.nextBytes(pixels);
+        assertMatchesLegacy(random, pixels, components, widthIn, heightIn, offsetIn, strideIn, widthOut, heightOut, offsetOut, strideOut, direct);
+    }
+
+    /**
+     * Resamples the given image with both implementations, into buffers holding the same random bytes, and compares them whole.
+     */
+    private static void assertMatchesLegacy(Random random, byte[] pixels, int components,
+                                            int widthIn, int heightIn, int offsetIn, int strideIn,
+                                            int widthOut, int heightOut, int offsetOut, int strideOut,
+                                            boolean direct) {
+        String layout = components + " components, " + widthIn + "x" + heightIn + " (offset " + offsetIn + ", stride " + strideIn
+                + ") to " + widthOut + "x" + heightOut + " (offset " + offsetOut + ", stride " + strideOut + "), direct " + direct;
+
+        byte[] initial = new byte[offsetOut + (heightOut - 1) * strideOut + widthOut * components];
+        random.nextBytes(initial);
+
+        ByteBuffer expected = ByteBuffer.wrap(initial.clone());
+        legacyScale(components, widthIn, heightIn, ByteBuffer.wrap(pixels), offsetIn, strideIn,
+                widthOut, heightOut, expected, offsetOut, strideOut);
+
+        ByteBuffer dataOut = allocate(initial.length, direct).put(0, initial);
+        ImageResampler.scale(components, widthIn, heightIn, allocate(pixels.length, direct).put(0, pixels), offsetIn, strideIn,
+                widthOut, heightOut, dataOut, offsetOut, strideOut);
+
+        assertArrayEquals(expected.array(), toArray(dataOut), layout);
+    }
+
+    private static ByteBuffer allocate(int capacity, boolean direct) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.capacity()];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    /**
+     * The unsigned byte path of the original {@code gluScaleImage}, as in {@code ImageResamplerBenchmark}, with row strides and
+     * offsets as set through the pixel-store state: every texel is converted to a float, each box is averaged in float, and the
+     * result is converted back.
+     */
+    private static void legacyScale(int components, int widthIn, int heightIn, ByteBuffer dataIn, int offsetIn, int strideIn,
+                                    int widthOut, int heightOut, ByteBuffer dataOut, int offsetOut, int strideOut) {
+        float[] tempIn = new float[widthIn * heightIn * components];
+        float[] tempOut = new float[widthOut * heightOut * components];
+
+        int k = 0;
+        for (int i = 0; i < heightIn; i++) {
+            int ubptr = offsetIn + i * strideIn;
+            for (int j = 0; j < widthIn * components; j++) {
+                tempIn[k++] = dataIn.get(ubptr++) & 0xff;
+            }
+        }
+
+        float sx = (float) widthIn / (float) widthOut;
+        float sy = (float) heightIn / (float) heightOut;
+        float[] c = new float[components];
+
+        for (int iy = 0; iy < heightOut; iy++) {
+            for (int ix = 0; ix < widthOut; ix++) {
+                int x0 = (int) (ix * sx);
+                int x1 = (int) ((ix + 1) * sx);
+                int y0 = (int) (iy * sy);
+                int y1 = (int) ((iy + 1) * sy);
+
+                int readPix = 0;
+                for (int ic = 0; ic < components; ic++) {
+                    c[ic] = 0;
+                }
+
+                for (int ix0 = x0; ix0 < x1; ix0++) {
+                    for (int iy0 = y0; iy0 < y1; iy0++) {
+                        int src = (iy0 * widthIn + ix0) * components;
+                        for (int ic = 0; ic < components; ic++) {
+                            c[ic] += tempIn[src + ic];
+                        }
+                        readPix++;
+                    }
+                }
+
+                int dst = (iy * widthOut + ix) * components;
+                if (readPix == 0) {
+                    int src = (y0 * widthIn + x0) * components;
+                    for (int ic = 0; ic < components; ic++) {
+                        tempOut[dst++] = tempIn[src + ic];
+                    }
+                } else {
+                    for (int ic = 0; ic < components; ic++) {
+                        tempOut[dst++] = c[ic] / readPix;
+                    }
+                }
+            }
+        }
+
+        k = 0;
+        for (int i = 0; i < heightOut; i++) {
+            int ubptr = offsetOut + i * strideOut;
+            for (int j = 0; j < widthOut * components; j++) {
+                dataOut.put(ubptr++, (byte) tempOut[k++]);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package me.darragh.lwjgl.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link KernelResampler} on images with known results, and that its 2x2 box path produces the same bytes as the
+ * general box filter. No OpenGL context is needed.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class KernelResamplerTest {
+    private static final int[][] SIZES = {
+            {64, 64, 32, 32},
+            {33, 17, 16, 8}, // Odd, as mip levels of odd-sized images are
+            {8, 8, 20, 12}, // Upscaled
+            {1, 16, 1, 8}
+    };
+
+    @Test
+    public void keepsConstantImagesConstant() {
+        for (MipFilter filter : MipFilter.values()) {
+            for (boolean srgb : new boolean[]{false, true}) {
+                for (int[] size : SIZES) {
+                    for (int value : new int[]{0, 1, 37, 128, 188, 254, 255}) {
+                        byte[] pixels = new byte[size[0] * size[1] * 4];
+                        Arrays.fill(pixels, (byte) value);
+
+                        byte[] scaled = scale(filter, srgb, 4, size[0], size[1], pixels, size[2], size[3]);
+                        for (int i = 0; i < scaled.length; i++) {
+                            assertEquals(value, scaled[i] & 0xFF, filter + ", sRGB " + srgb + ", " + size[0] + "x" + size[1] + ", byte " + i);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void averagesCheckerboardsInLinearSpace() {
+        int width = 16, height = 16;
+        byte[] pixels = new byte[width * height * 4];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Arrays.fill(pixels, (y * width + x) * 4, (y * width + x + 1) * 4, (byte) ((x + y) % 2 == 0 ? 0 : 255));
+            }
+        }
+
+        byte[] linear = scale(MipFilter.BOX, false, 4, width, height, pixels, width / 2, height / 2);
+        byte[] srgb = scale(MipFilter.BOX, true, 4, width, height, pixels, width / 2, height / 2);
+        byte[] halved = halve(true, 4, width, height, pixels, width / 2, height / 2);
+        for (int i = 0; i < linear.length; i++) {
+            assertEquals(128, linear[i] & 0xFF, "linear byte " + i);
+            assertEquals(i % 4 == 3 ? 128 : 188, srgb[i] & 0xFF, "sRGB byte " + i); // Alpha stays linear
+            assertEquals(srgb[i], halved[i], "halved byte " + i);
+        }
+    }
+
+    @Test
+    public void halvesLikeTheBoxFilter() {
+        int[][] sizes = {
+                {64, 64, 32, 32},
+                {2, 2, 1, 1},
+                {16, 1, 8, 1},
+                {1, 16, 1, 8},
+                {1, 1, 1, 1},
+                {6, 10, 3, 5},
+                {1024, 512, 512, 256} // Split into bands from two components
+        };
+
+        Random random = new Random(42L);
+        for (int[] size : sizes) {
+            assertTrue(KernelResampler.halves(size[0], size[2]) && KernelResampler.halves(size[1], size[3]));
+            for (int components = 1; components <= 4; components++) {
+                for (boolean srgb : new boolean[]{false, true}) {
+                    byte[] pixels = new byte[size[0] * size[1] * components];
+                    random.nextBytes(pixels);
+
+                    assertArrayEquals(scale(MipFilter.BOX, srgb, components, size[0], size[1], pixels, size[2], size[3]),
+                            halve(srgb, components, size[0], size[1], pixels, size[2], size[3]),
+                            components + " components, sRGB " + srgb + ", " + size[0] + "x" + size[1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void halvesOnlyMipLevelSteps() {
+        assertTrue(KernelResampler.halves(2, 1));
+        assertTrue(KernelResampler.halves(1, 1));
+        assertTrue(KernelResampler.halves(1024, 512));
+        assertFalse(KernelResampler.halves(5, 2));
+        assertFalse(KernelResampler.halves(4, 4));
+        assertFalse(KernelResampler.halves(2, 2));
+    }
+
+    private static byte[] scale(MipFilter filter, boolean srgb, int components, int widthIn, int heightIn, byte[] pixels, int widthOut, int heightOut) {
+        ByteBuffer dataOut = ByteBuffer.allocate(widthOut * heightOut * components);
+        KernelResampler.scale(filter, srgb, components, widthIn, heightIn, ByteBuffer.wrap(pixels), 0, widthIn * components,
+                widthOut, heightOut, dataOut, 0, widthOut * components);
+        return dataOut.array();
+    }
+
+    private static byte[] halve(boolean srgb, int components, int widthIn, int heightIn, byte[] pixels, int widthOut, int heightOut) {
+        ByteBuffer dataOut = ByteBuffer.allocate(widthOut * heightOut * components);
+        KernelResampler.halve(srgb, components, widthIn, heightIn, ByteBuffer.wrap(pixels), 0, widthIn * components,
+                widthOut, heightOut, dataOut, 0, widthOut * components);
+        return dataOut.array();
+    }
+}
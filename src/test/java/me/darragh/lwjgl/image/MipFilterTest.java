@@ -0,0 +1,57 @@
+package me.darragh.lwjgl.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the shape of each {@link MipFilter}: one at the centre, symmetric, and zero beyond its radius.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class MipFilterTest {
+    private static final double EPSILON = 1.0E-9;
+
+    @Test
+    public void peaksAtOneInTheCentre() {
+        for (MipFilter filter : MipFilter.values()) {
+            assertEquals(1.0, filter.evaluate(0.0), EPSILON, filter.name());
+            for (double x = 0.05; x < filter.radius; x += 0.05) {
+                assertTrue(filter.evaluate(x) <= 1.0, filter + " at " + x);
+            }
+        }
+    }
+
+    @Test
+    public void isSymmetric() {
+        for (MipFilter filter : MipFilter.values()) {
+            for (double x = 0.0; x <= filter.radius + 1.0; x += 0.125) {
+                assertEquals(filter.evaluate(x), filter.evaluate(-x), filter + " at " + x);
+            }
+        }
+    }
+
+    @Test
+    public void isZeroBeyondItsRadius() {
+        for (MipFilter filter : MipFilter.values()) {
+            assertEquals(0.0, filter.evaluate(Math.nextUp(filter.radius)), filter.name());
+            assertEquals(0.0, filter.evaluate(filter.radius + 1.0), filter.name());
+        }
+    }
+
+    @Test
+    public void sharesTheBoxEdgeBetweenBothBoxes() {
+        assertEquals(1.0, MipFilter.BOX.evaluate(0.25));
+        assertEquals(0.5, MipFilter.BOX.evaluate(0.5));
+    }
+
+    @Test
+    public void windowedSincsCrossZeroAtWholeTexels() {
+        for (MipFilter filter : new MipFilter[]{MipFilter.KAISER, MipFilter.LANCZOS2}) {
+            for (int x = 1; x <= filter.radius; x++) {
+                assertEquals(0.0, filter.evaluate(x), EPSILON, filter + " at " + x);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package me.darragh.lwjgl.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the {@link SrgbLut} tables round-trip every 8-bit value and that encoding rounds to the nearest value.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class SrgbLutTest {
+    @Test
+    public void roundTripsEverySrgbValue() {
+        for (int i = 0; i < 256; i++) {
+            assertEquals(i, SrgbLut.encodeSrgb(SrgbLut.SRGB_TO_LINEAR[i]), "value " + i);
+        }
+    }
+
+    @Test
+    public void roundTripsEveryUnormValue() {
+        for (int i = 0; i < 256; i++) {
+            assertEquals(i, SrgbLut.encodeUnorm(SrgbLut.UNORM_TO_FLOAT[i]), "value " + i);
+        }
+    }
+
+    @Test
+    public void decodesMonotonicallyFromZeroToOne() {
+        assertEquals(0.0F, SrgbLut.SRGB_TO_LINEAR[0]);
+        assertEquals(1.0F, SrgbLut.SRGB_TO_LINEAR[255]);
+        for (int i = 1; i < 256; i++) {
+            assertTrue(SrgbLut.SRGB_TO_LINEAR[i] > SrgbLut.SRGB_TO_LINEAR[i - 1], "value " + i);
+        }
+    }
+
+    @Test
+    public void encodesToTheNearestSrgbValue() {
+        // Either side of each rounding threshold, where a lookup table is most likely to be off by one
+        for (int i = 0; i < 255; i++) {
+            float threshold = (float) decode((i + 0.5) / 255.0);
+            assertEquals(i, SrgbLut.encodeSrgb(Math.nextDown(threshold)), "below threshold " + i);
+            assertEquals(i + 1, SrgbLut.encodeSrgb(threshold), "at threshold " + i);
+        }
+
+        Random random = new Random(42L);
+        for (int i = 0; i < 100_000; i++) {
+            float linear = random.nextFloat();
+            assertEquals(nearest(linear), SrgbLut.encodeSrgb(linear), "linear " + linear);
+        }
+    }
+
+    @Test
+    public void clampsValuesOutOfRange() {
+        assertEquals(0, SrgbLut.encodeSrgb(-1.0F));
+        assertEquals(255, SrgbLut.encodeSrgb(2.0F));
+        assertEquals(255, SrgbLut.encodeSrgb(Float.POSITIVE_INFINITY));
+        assertEquals(0, SrgbLut.encodeUnorm(-1.0F));
+        assertEquals(255, SrgbLut.encodeUnorm(2.0F));
+    }
+
+    @Test
+    public void encodesHalfAsTheMidpoints() {
+        assertEquals(128, SrgbLut.encodeUnorm(0.5F));
+        assertEquals(188, SrgbLut.encodeSrgb(0.5F));
+    }
+
+    /**
+     * The nearest sRGB value, by comparing against every threshold.
+     */
+    private static int nearest(float linear) {
+        int encoded = 0;
+        while (encoded < 255 && linear >= (float) decode((encoded + 0.5) / 255.0)) {
+            encoded++;
+        }
+        return encoded;
+    }
+
+    private static double decode(double srgb) {
+        return srgb <= 0.04045 ? srgb / 12.92 : Math.pow((srgb + 0.055) / 1.055, 2.4);
+    }
+}
@@ -0,0 +1,91 @@
+package me.darragh.lwjgl.memory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.system.MemoryUtil.memAddress0;
+
+/**
+ * Tests the size classes, reuse and release checks of {@link PooledAllocator}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class PooledAllocatorTest {
+    @BeforeEach
+    public void emptyFreeLists() {
+        PooledAllocator.trim();
+    }
+
+    @Test
+    public void roundsUpToPowerOfTwoSizeClasses() {
+        int[][] cases = {
+                {0, PooledAllocator.MIN_SIZE},
+                {1, PooledAllocator.MIN_SIZE},
+                {PooledAllocator.MIN_SIZE, PooledAllocator.MIN_SIZE},
+                {PooledAllocator.MIN_SIZE + 1, PooledAllocator.MIN_SIZE * 2},
+                {100, 128},
+                {128, 128},
+                {129, 256},
+                {4097, 8192},
+                {PooledAllocator.MAX_SIZE - 1, PooledAllocator.MAX_SIZE},
+                {PooledAllocator.MAX_SIZE, PooledAllocator.MAX_SIZE}
+        };
+
+        for (int[] sizes : cases) {
+            ByteBuffer buffer = PooledAllocator.allocate(sizes[0]);
+            assertEquals(sizes[1], buffer.capacity(), "size " + sizes[0]);
+            PooledAllocator.release(buffer);
+        }
+    }
+
+    @Test
+    public void allocatesLargeSizesExactly() {
+        ByteBuffer buffer = PooledAllocator.allocate(PooledAllocator.MAX_SIZE + 1);
+        assertEquals(PooledAllocator.MAX_SIZE + 1, buffer.capacity());
+        PooledAllocator.release(buffer);
+    }
+
+    @Test
+    public void rejectsNegativeSizes() {
+        assertThrows(IllegalArgumentException.class, () -> PooledAllocator.allocate(-1));
+    }
+
+    @Test
+    public void reusesReleasedBlocksOfTheSameSizeClass() {
+        ByteBuffer first = PooledAllocator.allocate(100);
+        long address = memAddress0(first);
+        PooledAllocator.release(first);
+
+        ByteBuffer second = PooledAllocator.allocate(120);
+        assertEquals(address, memAddress0(second));
+        PooledAllocator.release(second);
+    }
+
+    @Test
+    public void countsLiveBuffers() {
+        long live = PooledAllocator.getLiveCount();
+        ByteBuffer buffer = PooledAllocator.allocate(64);
+        assertEquals(live + 1L, PooledAllocator.getLiveCount());
+        PooledAllocator.release(buffer);
+        assertEquals(live, PooledAllocator.getLiveCount());
+    }
+
+    @Test
+    public void detectsDoubleRelease() {
+        ByteBuffer buffer = PooledAllocator.allocate(256);
+        PooledAllocator.release(buffer);
+
+        long live = PooledAllocator.getLiveCount();
+        assertThrows(IllegalStateException.class, () -> PooledAllocator.release(buffer));
+        assertEquals(live, PooledAllocator.getLiveCount(), "a rejected release must not be counted");
+
+        ByteBuffer first = PooledAllocator.allocate(256), second = PooledAllocator.allocate(256);
+        assertNotEquals(memAddress0(first), memAddress0(second), "a block was handed out twice");
+        PooledAllocator.release(first);
+        PooledAllocator.release(second);
+    }
+}
@@ -0,0 +1,99 @@
+package me.darragh.lwjgl.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.system.MemoryUtil.memAddress;
+
+/**
+ * Tests the hits, misses and slot replacement of {@link StringCache}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class StringCacheTest {
+    @Test
+    public void returnsTheSameInstanceOnAHit() {
+        StringCache cache = StringCache.ascii(16);
+        String first = decode(cache, "u_modelViewMatrix", StandardCharsets.ISO_8859_1);
+        assertEquals("u_modelViewMatrix", first);
+        assertSame(first, decode(cache, "u_modelViewMatrix", StandardCharsets.ISO_8859_1)); // From a different buffer
+    }
+
+    @Test
+    public void returnsTheRightValueForCollidingHashes() {
+        StringCache cache = StringCache.ascii(16);
+        assertEquals("Aa", decode(cache, "Aa", StandardCharsets.ISO_8859_1));
+        assertEquals("BB", decode(cache, "BB", StandardCharsets.ISO_8859_1)); // The same hash, so the same slot
+        assertEquals("Aa", decode(cache, "Aa", StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void replacesEntriesWhichShareASlot() {
+        StringCache cache = StringCache.ascii(1); // Every string shares the one slot
+        String first = decode(cache, "first", StandardCharsets.ISO_8859_1);
+        assertEquals("second", decode(cache, "second", StandardCharsets.ISO_8859_1));
+
+        String again = decode(cache, "first", StandardCharsets.ISO_8859_1);
+        assertEquals("first", again);
+        assertNotSame(first, again);
+        assertSame(again, decode(cache, "first", StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void decodesLongStringsWithoutCaching() {
+        StringCache cache = StringCache.ascii(16);
+        String longest = "x".repeat(StringCache.MAX_LENGTH), tooLong = "x".repeat(StringCache.MAX_LENGTH + 1);
+
+        assertSame(decode(cache, longest, StandardCharsets.ISO_8859_1), decode(cache, longest, StandardCharsets.ISO_8859_1));
+
+        String first = decode(cache, tooLong, StandardCharsets.ISO_8859_1);
+        assertEquals(tooLong, first);
+        assertNotSame(first, decode(cache, tooLong, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void decodesTheEmptyString() {
+        StringCache cache = StringCache.utf8(16);
+        assertEquals("", decode(cache, "", StandardCharsets.UTF_8));
+        assertEquals("", cache.decode(0L, 0)); // Never read
+    }
+
+    @Test
+    public void decodesAsItsCharset() {
+        String text = "caf\u00e9 \u00fcber";
+        assertEquals(text, decode(StringCache.utf8(16), text, StandardCharsets.UTF_8));
+        assertEquals("caf\u00c3\u00a9 \u00c3\u00bcber", decode(StringCache.ascii(16), text, StandardCharsets.UTF_8)); // Each byte as a character
+        assertEquals(text, decode(StringCache.ascii(16), text, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void missesAfterClearing() {
+        StringCache cache = StringCache.utf8(16);
+        String first = decode(cache, "GL_ARB_texture_storage", StandardCharsets.UTF_8);
+        cache.clear();
+
+        String again = decode(cache, "GL_ARB_texture_storage", StandardCharsets.UTF_8);
+        assertEquals(first, again);
+        assertNotSame(first, again);
+    }
+
+    @Test
+    public void rejectsCapacitiesWhichAreNotPowersOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> StringCache.ascii(0));
+        assertThrows(IllegalArgumentException.class, () -> StringCache.utf8(12));
+    }
+
+    /**
+     * Encodes the text into a new direct buffer and decodes it with the cache.
+     */
+    private static String decode(StringCache cache, String text, Charset charset) {
+        byte[] bytes = text.getBytes(charset);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(1, bytes.length)).put(0, bytes);
+        return cache.decode(memAddress(buffer), bytes.length);
+    }
+}
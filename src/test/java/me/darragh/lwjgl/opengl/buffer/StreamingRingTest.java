@@ -0,0 +1,165 @@
+package me.darragh.lwjgl.opengl.buffer;
+
+import me.darragh.lwjgl.opengl.fence.FenceProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the region and fence bookkeeping of {@link StreamingRing} against a fake fence provider.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class StreamingRingTest {
+    private static final long REGION_SIZE = 1024L;
+
+    @Test
+    public void allocatesAlignedRangesWithinARegion() {
+        FakeFenceProvider fences = new FakeFenceProvider();
+        StreamingRing ring = new StreamingRing(3, REGION_SIZE, fences);
+
+        assertEquals(0L, ring.allocate(10L, 4));
+        assertEquals(12L, ring.allocate(20L, 4));
+        assertEquals(64L, ring.allocate(16L, 64));
+        assertEquals(0, ring.getRegion());
+        assertEquals(0, fences.created);
+    }
+
+    @Test
+    public void alignsOffsetsFromTheStartOfTheBuffer() {
+        StreamingRing ring = new StreamingRing(3, REGION_SIZE, new FakeFenceProvider());
+
+        assertEquals(0L, ring.allocate(1000L, 24)); // A vertex stride, which does not divide the region size
+        assertEquals(1032L, ring.allocate(100L, 24)); // Moves onto the second region, which starts at 1024
+        ring.endFrame();
+        assertEquals(2064L, ring.allocate(240L, 24)); // The third region starts at 2048
+        assertEquals(2304L, ring.allocate(10L, 24));
+        assertEquals(2, ring.getRegion());
+
+        assertEquals(0L, ring.allocate(1008L, 24)); // Wraps around; the largest range fitting every region once padded
+        assertThrows(IllegalArgumentException.class, () -> ring.allocate(1009L, 24));
+    }
+
+    @Test
+    public void movesOnWhenARegionIsFull() {
+        FakeFenceProvider fences = new FakeFenceProvider();
+        StreamingRing ring = new StreamingRing(3, REGION_SIZE, fences);
+
+        ring.allocate(1000L, 1);
+        assertEquals(REGION_SIZE, ring.allocate(100L, 1)); // Does not fit in the remaining 24 bytes
+        assertEquals(1, ring.getRegion());
+        assertEquals(1, fences.created);
+        assertEquals(REGION_SIZE + 100L, ring.allocate(REGION_SIZE - 100L, 1)); // Exactly fills the region
+        assertEquals(1, ring.getRegion());
+    }
+
+    @Test
+    public void fencesRegionsOnlyWhenUsed() {
+        FakeFenceProvider fences = new FakeFenceProvider();
+        StreamingRing ring = new StreamingRing(3, REGION_SIZE, fences);
+
+        ring.endFrame();
+        assertEquals(0, ring.getRegion());
+        assertEquals(0, fences.created);
+
+        ring.allocate(1L, 1);
+        ring.endFrame();
+        assertEquals(1, ring.getRegion());
+        assertEquals(1, fences.created);
+    }
+
+    @Test
+    public void waitsForTheGpuOnlyWhenReusingABusyRegion() {
+        FakeFenceProvider fences = new FakeFenceProvider();
+        StreamingRing ring = new StreamingRing(3, REGION_SIZE, fences);
+
+        for (int frame = 0; frame < 3; frame++) {
+            assertEquals(frame * REGION_SIZE, ring.allocate(64L, 1));
+            ring.endFrame();
+        }
+        assertEquals(3, fences.live.size());
+        assertEquals(0L, ring.getStalls());
+
+        fences.signal(1L); // The first frame's region has been read
+        assertEquals(0L, ring.allocate(64L, 1));
+        assertEquals(0L, ring.getStalls());
+        assertEquals(0, fences.awaited);
+        assertFalse(fences.live.contains(1L), "awaited fences must be deleted");
+        ring.endFrame();
+
+        assertEquals(REGION_SIZE, ring.allocate(64L, 1)); // The second frame's region is still in use
+        assertEquals(1L, ring.getStalls());
+        assertEquals(1, fences.awaited);
+        assertFalse(fences.live.contains(2L));
+
+        assertEquals(REGION_SIZE + 64L, ring.allocate(64L, 1)); // Already waited on for this region
+        assertEquals(1, fences.awaited);
+    }
+
+    @Test
+    public void resetDeletesOutstandingFences() {
+        FakeFenceProvider fences = new FakeFenceProvider();
+        StreamingRing ring = new StreamingRing(2, REGION_SIZE, fences);
+
+        ring.allocate(64L, 1);
+        ring.endFrame();
+        ring.allocate(64L, 1);
+        ring.endFrame();
+        assertEquals(2, fences.live.size());
+
+        ring.reset();
+        assertTrue(fences.live.isEmpty());
+        assertEquals(0, ring.getRegion());
+        assertEquals(0L, ring.allocate(64L, 1));
+        assertEquals(0, fences.awaited);
+    }
+
+    @Test
+    public void rejectsRangesWhichNeverFit() {
+        StreamingRing ring = new StreamingRing(3, REGION_SIZE, new FakeFenceProvider());
+
+        assertThrows(IllegalArgumentException.class, () -> ring.allocate(REGION_SIZE + 1L, 1));
+        assertThrows(IllegalArgumentException.class, () -> ring.allocate(0L, 1));
+        assertThrows(IllegalArgumentException.class, () -> ring.allocate(1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingRing(0, REGION_SIZE, new FakeFenceProvider()));
+    }
+
+    /**
+     * Hands out fences which are only signalled when the test says so, or once awaited.
+     */
+    private static class FakeFenceProvider implements FenceProvider {
+        final Set<Long> live = new HashSet<>(), signalled = new HashSet<>();
+        int created, awaited;
+
+        @Override
+        public long create() {
+            long fence = ++this.created;
+            this.live.add(fence);
+            return fence;
+        }
+
+        @Override
+        public boolean isSignaled(long fence) {
+            return fence == 0L || this.signalled.contains(fence); // Zero is returned for commands which already completed
+        }
+
+        @Override
+        public void await(long fence) {
+            this.awaited++;
+            this.signalled.add(fence);
+        }
+
+        @Override
+        public void delete(long fence) {
+            this.live.remove(fence);
+        }
+
+        void signal(long fence) {
+            this.signalled.add(fence);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package me.darragh.lwjgl.opengl.input.keyboard;
+
+import org.junit.jupiter.api.Test;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.input.Keyboard;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the {@link KeyCodeUtil} lookup tables match the switch mappings they are generated from, over every key code and
+ * past both ends of the tables.
+ * <p>
+ * Only compile-time constants of {@link GLFW} and {@link Keyboard} are used, so neither is initialised and no display is needed.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class KeyCodeUtilTest {
+    private static final int MARGIN = 64; // Codes checked beyond each end of the tables
+
+    @Test
+    public void glfwToLwjglMatchesSwitch() {
+        for (int keyCode = GLFW.GLFW_KEY_UNKNOWN - MARGIN; keyCode <= GLFW.GLFW_KEY_LAST; keyCode++) {
+            assertEquals(KeyCodeUtil.mapToLwjgl(keyCode), KeyCodeUtil.toLwjgl(keyCode), "GLFW key " + keyCode);
+        }
+    }
+
+    @Test
+    public void lwjglToGlfwMatchesSwitch() {
+        for (int keyCode = -MARGIN; keyCode <= GLFW.GLFW_KEY_LAST; keyCode++) {
+            assertEquals(KeyCodeUtil.mapToGlfw(keyCode), KeyCodeUtil.toGlfw(keyCode), "LWJGL key " + keyCode);
+        }
+    }
+
+    @Test
+    public void codesAboveGlfwKeyLastPassThrough() {
+        for (int keyCode = GLFW.GLFW_KEY_LAST + 1; keyCode <= GLFW.GLFW_KEY_LAST + MARGIN; keyCode++) {
+            assertEquals(keyCode, KeyCodeUtil.toLwjgl(keyCode));
+            assertEquals(keyCode, KeyCodeUtil.toGlfw(keyCode));
+        }
+    }
+
+    @Test
+    public void mappedGlfwKeysRoundTrip() {
+        int mapped = 0;
+        for (int keyCode = 0; keyCode <= GLFW.GLFW_KEY_LAST; keyCode++) {
+            int lwjgl = KeyCodeUtil.toLwjgl(keyCode);
+            if (lwjgl == Keyboard.KEY_NONE) {
+                continue;
+            }
+
+            assertEquals(keyCode, KeyCodeUtil.toGlfw(lwjgl), "GLFW key " + keyCode + " via LWJGL key " + lwjgl);
+            mapped++;
+        }
+        assertTrue(mapped > 100, "Only " + mapped + " GLFW keys are mapped");
+    }
+
+    @Test
+    public void mappedLwjglKeysRoundTrip() {
+        for (int keyCode = Keyboard.KEY_NONE + 1; keyCode < Keyboard.KEYBOARD_SIZE; keyCode++) {
+            int glfw = KeyCodeUtil.toGlfw(keyCode);
+            if (glfw == GLFW.GLFW_KEY_UNKNOWN) {
+                continue;
+            }
+
+            assertEquals(keyCode, KeyCodeUtil.toLwjgl(glfw), "LWJGL key " + keyCode + " via GLFW key " + glfw);
+        }
+    }
+
+    @Test
+    public void unknownKeyIsUnlabeled() {
+        assertEquals(Keyboard.KEY_UNLABELED, KeyCodeUtil.toLwjgl(GLFW.GLFW_KEY_UNKNOWN));
+    }
+}
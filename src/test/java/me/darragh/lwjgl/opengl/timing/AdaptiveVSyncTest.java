@@ -0,0 +1,134 @@
+package me.darragh.lwjgl.opengl.timing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link AdaptiveVSync} state machine with synthetic frame time traces.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class AdaptiveVSyncTest {
+    private static final long REFRESH = 1_000_000_000L / 60L;
+    private static final long MISSED = REFRESH * 2L; // A synced frame which missed a refresh
+    private static final long FAST = REFRESH / 2L; // An unsynced frame with plenty of headroom
+
+    @Test
+    public void startsSynced() {
+        AdaptiveVSync vsync = new AdaptiveVSync(REFRESH, true);
+        assertTrue(vsync.isSynced());
+        assertFalse(vsync.isLimiting());
+        assertEquals(1, vsync.getSwapInterval());
+    }
+
+    @Test
+    public void staysSyncedWhileFramesFit() {
+        AdaptiveVSync vsync = new AdaptiveVSync(REFRESH, true, 3, 10);
+        for (int i = 0; i < 1000; i++) {
+            long jitter = (i % 7 - 3) * (REFRESH / 20L); // Swaps do not return exactly one refresh apart
+            assertFalse(vsync.update(REFRESH + jitter), "frame " + i);
+        }
+        assertTrue(vsync.isSynced());
+    }
+
+    @Test
+    public void disablesAfterConsecutiveMisses() {
+        AdaptiveVSync vsync = new AdaptiveVSync(REFRESH, true, 3, 10);
+        assertFalse(vsync.update(MISSED));
+        assertFalse(vsync.update(MISSED));
+        assertTrue(vsync.update(MISSED));
+
+        assertFalse(vsync.isSynced());
+        assertTrue(vsync.isLimiting());
+        assertEquals(-1, vsync.getSwapInterval());
+    }
+
+    @Test
+    public void disablesWithoutTearingWhenUnsupported() {
+        AdaptiveVSync vsync = new AdaptiveVSync(REFRESH, false, 1, 10);
+        assertTrue(vsync.update(MISSED));
+        assertEquals(0, vsync.getSwapInterval());
+    }
+
+    @Test
+    public void interruptedMissesDoNotDisable() {
+        AdaptiveVSync vsync = new AdaptiveVSync(REFRESH, true, 3, 10);
+        for (int i = 0; i < 100; i++) {
+            assertFalse(vsync.update(MISSED));
+            assertFalse(vsync.update(MISSED));
+            assertFalse(vsync.update(REFRESH));
+        }
+        assertTrue(vsync.isSynced());
+    }
+
+    @Test
+    public void recoversAfterConsecutiveFitsWithHeadroom() {
+        AdaptiveVSync vsync = this.unsynced(10);
+        for (int i = 0; i < 9; i++) {
+            assertFalse(vsync.update(FAST));
+        }
+        assertTrue(vsync.update(FAST));
+
+        assertTrue(vsync.isSynced());
+        assertEquals(1, vsync.getSwapInterval());
+    }
+
+    @Test
+    public void framesWithoutHeadroomDoNotRecover() {
+        AdaptiveVSync vsync = this.unsynced(10);
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(vsync.update(REFRESH * 95L / 100L)); // Fits, but too close to the boundary
+        }
+        assertFalse(vsync.isSynced());
+    }
+
+    @Test
+    public void slowFrameRestartsRecovery() {
+        AdaptiveVSync vsync = this.unsynced(10);
+        for (int i = 0; i < 9; i++) {
+            assertFalse(vsync.update(FAST));
+        }
+        assertFalse(vsync.update(REFRESH)); // Resets the count
+        for (int i = 0; i < 9; i++) {
+            assertFalse(vsync.update(FAST));
+        }
+        assertTrue(vsync.update(FAST));
+    }
+
+    @Test
+    public void missesAreCountedAfterRecovering() {
+        AdaptiveVSync vsync = this.unsynced(1);
+        assertTrue(vsync.update(FAST));
+
+        assertFalse(vsync.update(MISSED)); // The misses before disabling were cleared
+        assertFalse(vsync.update(MISSED));
+        assertTrue(vsync.update(MISSED));
+    }
+
+    @Test
+    public void rejectsNonPositiveRefreshInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveVSync(0L, true));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveVSync(-1L, true));
+    }
+
+    @Test
+    public void clampsFrameCountsToOne() {
+        AdaptiveVSync vsync = new AdaptiveVSync(REFRESH, true, 0, -5);
+        assertTrue(vsync.update(MISSED));
+        assertTrue(vsync.update(FAST));
+    }
+
+    /**
+     * Creates a controller which has just disabled VSync.
+     */
+    private AdaptiveVSync unsynced(int recoverFrames) {
+        AdaptiveVSync vsync = new AdaptiveVSync(REFRESH, true, 3, recoverFrames);
+        for (int i = 0; i < 3; i++) {
+            vsync.update(MISSED);
+        }
+        assertFalse(vsync.isSynced());
+        return vsync;
+    }
+}
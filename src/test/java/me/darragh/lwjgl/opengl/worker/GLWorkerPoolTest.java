@@ -0,0 +1,230 @@
+package me.darragh.lwjgl.opengl.worker;
+
+import me.darragh.lwjgl.opengl.fence.FenceProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the scheduling of {@link GLWorkerPool} against stub context and fence providers, without OpenGL.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+@Timeout(30)
+public class GLWorkerPoolTest {
+    @Test
+    public void runsTasksWithTheWorkerContextCurrent() {
+        StubContextProvider contexts = new StubContextProvider();
+        StubFenceProvider fences = new StubFenceProvider();
+        GLWorkerPool pool = create(3, contexts, fences);
+
+        List<Long> seen = new CopyOnWriteArrayList<>();
+        GLWorkerTask[] tasks = new GLWorkerTask[20];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = pool.submit(() -> seen.add(contexts.current.get()));
+        }
+
+        awaitCondition(() -> pool.getFencedCount() == tasks.length);
+        assertEquals(0, pool.getPendingCount());
+        for (GLWorkerTask task : tasks) {
+            assertEquals(GLWorkerTask.State.FENCED, task.getState());
+        }
+        assertEquals(tasks.length, seen.size());
+        for (Long context : seen) {
+            assertTrue(context != null && contexts.created.contains(context), "task ran without a worker context current");
+        }
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void completesTasksOnlyOnceTheirFenceIsSignalled() {
+        StubFenceProvider fences = new StubFenceProvider();
+        GLWorkerPool pool = create(2, new StubContextProvider(), fences);
+
+        Thread caller = Thread.currentThread();
+        AtomicInteger callbacks = new AtomicInteger();
+        GLWorkerTask first = pool.submit(() -> {}, () -> {
+            assertSame(caller, Thread.currentThread());
+            callbacks.incrementAndGet();
+        });
+        GLWorkerTask second = pool.submit(() -> {}, callbacks::incrementAndGet);
+        awaitCondition(() -> pool.getFencedCount() == 2);
+
+        assertEquals(0, pool.poll());
+        assertFalse(first.isDone());
+
+        fences.signal(second.fence); // Workers finish out of order, so a later fence may signal first
+        assertEquals(1, pool.poll());
+        assertEquals(GLWorkerTask.State.COMPLETE, second.getState());
+        assertEquals(GLWorkerTask.State.FENCED, first.getState());
+        assertEquals(1, callbacks.get());
+
+        fences.signal(first.fence);
+        assertEquals(1, pool.poll());
+        assertEquals(GLWorkerTask.State.COMPLETE, first.getState());
+        assertEquals(2, callbacks.get());
+        assertEquals(0, fences.live.size(), "completed fences must be deleted");
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void failedTasksAreNotFenced() {
+        GLWorkerPool pool = create(1, new StubContextProvider(), new StubFenceProvider());
+
+        RuntimeException failure = new RuntimeException("upload failed");
+        GLWorkerTask task = pool.submit(() -> {
+            throw failure;
+        });
+        awaitCondition(task::isDone);
+
+        assertEquals(GLWorkerTask.State.FAILED, task.getState());
+        assertSame(failure, task.getFailure());
+        assertEquals(0, pool.getFencedCount());
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void shutdownWaitsForRunningTasksEvenWhenInterrupted() throws InterruptedException {
+        StubContextProvider contexts = new StubContextProvider();
+        StubFenceProvider fences = new StubFenceProvider();
+        GLWorkerPool pool = create(1, contexts, fences);
+
+        AtomicBoolean started = new AtomicBoolean(), release = new AtomicBoolean();
+        GLWorkerTask running = pool.submit(() -> {
+            started.set(true);
+            while (!release.get()) { // Ignores interrupts, like a driver call would
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+            }
+        });
+        awaitCondition(started::get);
+        GLWorkerTask queued = pool.submit(() -> {});
+
+        AtomicBoolean interruptRestored = new AtomicBoolean();
+        Thread shutdown = new Thread(() -> {
+            pool.shutdown();
+            interruptRestored.set(Thread.currentThread().isInterrupted());
+        }, "Shutdown");
+        shutdown.start();
+
+        awaitCondition(pool::isShutdown);
+        shutdown.interrupt();
+        Thread.sleep(50L);
+        assertTrue(shutdown.isAlive(), "shutdown returned while a worker was running");
+        assertTrue(contexts.destroyed.isEmpty(), "context destroyed while its worker was running");
+
+        release.set(true);
+        shutdown.join();
+
+        assertTrue(interruptRestored.get());
+        assertEquals(contexts.created, contexts.destroyed);
+        assertFalse(contexts.destroyedWhileCurrent.get());
+        assertEquals(GLWorkerTask.State.COMPLETE, running.getState());
+        assertEquals(GLWorkerTask.State.CANCELLED, queued.getState());
+        assertEquals(0, fences.live.size());
+        assertThrows(IllegalStateException.class, () -> pool.submit(() -> {}));
+    }
+
+    private static GLWorkerPool create(int threads, WorkerContextProvider contexts, FenceProvider fences) {
+        try {
+            return new GLWorkerPool(threads, contexts, fences);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) {
+        while (!condition.getAsBoolean()) {
+            Thread.yield(); // Rather than spinning, so the test also progresses on a single core
+        }
+    }
+
+    /**
+     * Hands out increasing context handles and tracks which are current on which thread.
+     */
+    private static class StubContextProvider implements WorkerContextProvider {
+        final Set<Long> created = ConcurrentHashMap.newKeySet(),
+                destroyed = ConcurrentHashMap.newKeySet(),
+                currentContexts = ConcurrentHashMap.newKeySet();
+        final ThreadLocal<Long> current = new ThreadLocal<>();
+        final AtomicBoolean destroyedWhileCurrent = new AtomicBoolean();
+
+        private final AtomicLong nextContext = new AtomicLong(1L);
+
+        @Override
+        public long createContext() {
+            long context = this.nextContext.getAndIncrement();
+            this.created.add(context);
+            return context;
+        }
+
+        @Override
+        public void makeCurrent(long context) {
+            this.current.set(context);
+            this.currentContexts.add(context);
+        }
+
+        @Override
+        public void releaseCurrent() {
+            Long context = this.current.get();
+            if (context != null) {
+                this.currentContexts.remove(context);
+                this.current.remove();
+            }
+        }
+
+        @Override
+        public void destroyContext(long context) {
+            if (this.currentContexts.contains(context)) {
+                this.destroyedWhileCurrent.set(true);
+            }
+            this.destroyed.add(context);
+        }
+    }
+
+    /**
+     * Hands out fences which are only signalled when the test says so.
+     */
+    private static class StubFenceProvider implements FenceProvider {
+        final Set<Long> live = ConcurrentHashMap.newKeySet();
+
+        private final Set<Long> signalled = ConcurrentHashMap.newKeySet();
+        private final AtomicLong nextFence = new AtomicLong(1L);
+
+        @Override
+        public long create() {
+            long fence = this.nextFence.getAndIncrement();
+            this.live.add(fence);
+            return fence;
+        }
+
+        @Override
+        public boolean isSignaled(long fence) {
+            return this.signalled.contains(fence);
+        }
+
+        @Override
+        public void delete(long fence) {
+            this.live.remove(fence);
+        }
+
+        void signal(long fence) {
+            this.signalled.add(fence);
+        }
+    }
+}
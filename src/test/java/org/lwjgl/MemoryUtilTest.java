@@ -0,0 +1,72 @@
+package org.lwjgl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.system.MemoryUtil.memAddress;
+
+/**
+ * Tests the allocation-light string utilities of {@link MemoryUtil}.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class MemoryUtilTest {
+    @Test
+    public void encodesAsciiAtThePositionWithoutMovingIt() {
+        ByteBuffer target = ByteBuffer.allocateDirect(16).position(3);
+        assertEquals(5, MemoryUtil.encodeASCII("GL_4", target)); // Including the terminator
+        assertEquals(3, target.position());
+        assertArrayEquals(new byte[]{'G', 'L', '_', '4', 0}, bytes(target, 3, 5));
+    }
+
+    @Test
+    public void encodesUtf8AtThePositionWithoutMovingIt() {
+        ByteBuffer target = ByteBuffer.allocateDirect(16).position(2);
+        assertEquals(7, MemoryUtil.encodeUTF8("a\u00e9\u20ac", target)); // One, two and three bytes, then the terminator
+        assertEquals(2, target.position());
+
+        byte[] expected = "a\u00e9\u20ac\0".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, bytes(target, 2, expected.length));
+    }
+
+    @Test
+    public void decodesCachedInstancesFromTheRemainingBytes() {
+        String first = MemoryUtil.decodeASCIICached(direct("xxu_colour".getBytes(StandardCharsets.ISO_8859_1)).position(2));
+        assertEquals("u_colour", first);
+        assertSame(first, MemoryUtil.decodeASCIICached(direct("u_colour".getBytes(StandardCharsets.ISO_8859_1))));
+
+        String utf8 = MemoryUtil.decodeUTF8Cached(direct("\u00fcber".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("\u00fcber", utf8);
+        assertSame(utf8, MemoryUtil.decodeUTF8Cached(direct("\u00fcber".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void decodesCachedNullTerminatedStrings() {
+        ByteBuffer buffer = direct("NVIDIA Corporation\0ignored".getBytes(StandardCharsets.UTF_8));
+        String first = MemoryUtil.decodeUTF8Cached(memAddress(buffer));
+        assertEquals("NVIDIA Corporation", first);
+        assertSame(first, MemoryUtil.decodeUTF8Cached(memAddress(buffer)));
+        assertNull(MemoryUtil.decodeUTF8Cached(NULL));
+    }
+
+    @Test
+    public void decodesEmptyBuffers() {
+        assertEquals("", MemoryUtil.decodeASCIICached(ByteBuffer.allocateDirect(4).position(4)));
+        assertEquals("", MemoryUtil.decodeUTF8Cached(memAddress(direct(new byte[]{0}))));
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(0, bytes);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer, int index, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(index, bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,141 @@
+package org.lwjgl.input;
+
+import me.darragh.lwjgl.Config;
+import me.darragh.lwjgl.event.OverflowPolicy;
+import me.darragh.lwjgl.opengl.input.InputStateSet;
+import me.darragh.lwjgl.opengl.input.keyboard.KeyCallbackHandler;
+import me.darragh.lwjgl.opengl.input.keyboard.KeyCodeUtil;
+import me.darragh.lwjgl.opengl.input.keyboard.KeyEventBuffer;
+import me.darragh.lwjgl.opengl.input.keyboard.KeyState;
+import me.darragh.lwjgl.opengl.input.mouse.MouseEventBuffer;
+import me.darragh.lwjgl.opengl.input.mouse.MouseEventType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.Timeout;
+import org.lwjgl.Sys;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * A headless harness for the input thread: a producer thread drives the key and mouse event paths at a fixed rate, as the
+ * GLFW callbacks do on the input thread, while a consumer thread drains them, as the render thread does. Both queues are
+ * backed by {@link me.darragh.lwjgl.event.SpscEventQueue}, as they are with {@link Config#INPUT_LOCK_FREE_QUEUES}.
+ * <p>
+ * Every event must arrive exactly once and in order. The enqueue-to-dequeue latency, measured with the same clock the events
+ * are stamped with, is published through the {@link TestReporter}.
+ * <p>
+ * GLFW is initialised with its null platform, so no display is needed.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class InputLatencyTest {
+    private static final int EVENT_RATE = 1000, // Events per second for each device, e.g. a 1000Hz mouse
+            EVENT_COUNT = 2000;
+
+    private static final int[] KEYS = {GLFW_KEY_F1, GLFW_KEY_F2, GLFW_KEY_F3, GLFW_KEY_F4, GLFW_KEY_ENTER, GLFW_KEY_ESCAPE};
+
+    @BeforeAll
+    public static void initialiseTimer() {
+        glfwInitHint(GLFW_PLATFORM, GLFW_PLATFORM_NULL); // Ignored if GLFW was already initialised
+        Sys.initialize();
+    }
+
+    @Test
+    @Timeout(60)
+    public void deliversEventsInOrderAcrossThreads(TestReporter reporter) throws InterruptedException {
+        boolean lockFree = Config.INPUT_LOCK_FREE_QUEUES;
+        Config.INPUT_LOCK_FREE_QUEUES = true;
+        KeyEventBuffer keyEvents;
+        MouseEventBuffer mouseEvents;
+        try {
+            keyEvents = new KeyEventBuffer();
+            mouseEvents = new MouseEventBuffer(Config.INPUT_MOUSE_QUEUE_SIZE, OverflowPolicy.DROP_OLDEST);
+        } finally {
+            Config.INPUT_LOCK_FREE_QUEUES = lockFree;
+        }
+        KeyCallbackHandler keyCallbackHandler = new KeyCallbackHandler(keyEvents, new InputStateSet(Keyboard.KEYBOARD_SIZE));
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long[] keyLatencies = new long[EVENT_COUNT * 2], // A press and a release per key event
+                mouseLatencies = new long[EVENT_COUNT];
+
+        Thread producer = new Thread(() -> {
+            try {
+                long period = 1_000_000_000L / EVENT_RATE;
+                long next = System.nanoTime();
+                for (int i = 0; i < EVENT_COUNT && failure.get() == null; i++) {
+                    int key = KEYS[i % KEYS.length];
+                    keyCallbackHandler.onKey(key, GLFW_PRESS, 0);
+                    keyCallbackHandler.onKey(key, GLFW_RELEASE, 0);
+                    mouseEvents.enqueue(MouseEventType.MOVE, i, -i, i - 1, 1 - i, -1, false, 0, 0, Sys.getNanoTime());
+
+                    next += period;
+                    for (long remaining = next - System.nanoTime(); remaining > 0L; remaining = next - System.nanoTime()) {
+                        LockSupport.parkNanos(remaining);
+                    }
+                }
+            } catch (Throwable throwable) {
+                failure.set(throwable);
+            }
+        }, "Input producer");
+
+        Thread consumer = new Thread(() -> {
+            try {
+                int keys = 0, moves = 0;
+                while ((keys < keyLatencies.length || moves < mouseLatencies.length) && failure.get() == null) {
+                    boolean drained = true;
+                    while (keyEvents.next()) {
+                        long latency = Sys.getNanoTime() - keyEvents.getEventNanoseconds();
+                        int index = keys / 2;
+                        assertEquals(KeyCodeUtil.toLwjgl(KEYS[index % KEYS.length]), keyEvents.getEventKey(), "key event " + keys);
+                        assertEquals(keys % 2 == 0 ? KeyState.PRESS : KeyState.RELEASE, keyEvents.getEventState(), "key event " + keys);
+                        keyLatencies[keys++] = latency;
+                        drained = false;
+                    }
+                    while (mouseEvents.next()) {
+                        long latency = Sys.getNanoTime() - mouseEvents.getEventNanoseconds();
+                        assertEquals(MouseEventType.MOVE, mouseEvents.getEventType(), "mouse event " + moves);
+                        assertEquals(moves, (int) mouseEvents.getEventX(), "mouse event " + moves);
+                        assertEquals(1, mouseEvents.getEventDX(), "mouse event " + moves);
+                        assertEquals(-1, mouseEvents.getEventDY(), "mouse event " + moves);
+                        mouseLatencies[moves++] = latency;
+                        drained = false;
+                    }
+                    if (drained) {
+                        Thread.yield(); // Rather than spinning, so the test also progresses on a single core
+                    }
+                }
+            } catch (Throwable throwable) {
+                failure.set(throwable);
+            }
+        }, "Input consumer");
+
+        consumer.start();
+        producer.start();
+        producer.join();
+        consumer.join();
+
+        assertNull(failure.get());
+        assertEquals(0L, keyEvents.getDroppedCount());
+        assertEquals(0L, mouseEvents.getDroppedCount());
+        assertFalse(keyEvents.next());
+        assertFalse(mouseEvents.next());
+
+        report(reporter, "key", keyLatencies);
+        report(reporter, "mouse", mouseLatencies);
+    }
+
+    private static void report(TestReporter reporter, String device, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        reporter.publishEntry(device + ".latency.p50.us", String.format("%.1f", sorted[sorted.length / 2] / 1000.0));
+        reporter.publishEntry(device + ".latency.p99.us", String.format("%.1f", sorted[(sorted.length * 99) / 100] / 1000.0));
+    }
+}
@@ -0,0 +1,178 @@
+package org.lwjgl.opengl;
+
+import me.darragh.lwjgl.opengl.Capability;
+import me.darragh.lwjgl.opengl.Extension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.system.FunctionProvider;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the generated {@code ContextCapabilitiesCopier} copies exactly what the reflective population it replaced did, and
+ * that its bitset copy agrees with the generated {@link Extension} ordinals.
+ * <p>
+ * No context is needed: {@link GLCapabilities} is constructed with a function provider which resolves every function, so exactly
+ * the extensions it is given are reported as supported, and is then made current for the {@link ContextCapabilities} constructor.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class ContextCapabilitiesCopierTest {
+    /**
+     * Resolves every function to a non-zero address, as if the driver implemented all of them.
+     */
+    private static final FunctionProvider FUNCTION_PROVIDER = functionName -> 1L;
+
+    @AfterEach
+    public void releaseCapabilities() {
+        GL.setCapabilities(null);
+    }
+
+    @Test
+    public void matchesReflectiveCopyWhenAllSet() throws ReflectiveOperationException {
+        this.assertMatchesReflectiveCopy(new Random(0L), 1.0);
+    }
+
+    @Test
+    public void matchesReflectiveCopyWhenNoneSet() throws ReflectiveOperationException {
+        this.assertMatchesReflectiveCopy(new Random(0L), 0.0);
+    }
+
+    @Test
+    public void matchesReflectiveCopyWhenRandomlySet() throws ReflectiveOperationException {
+        for (long seed = 1L; seed <= 8L; seed++) {
+            this.assertMatchesReflectiveCopy(new Random(seed), 0.5);
+        }
+    }
+
+    @Test
+    public void copiesEveryProvidedCapability() throws ReflectiveOperationException {
+        GLCapabilities source = createSource(new Random(0L), 1.0);
+        ContextCapabilities target = createTarget(source);
+        clearCapabilities(target, true);
+        ContextCapabilitiesCopier.copy(source, target);
+
+        int provided = 0, supported = 0;
+        for (Field field : ContextCapabilities.class.getFields()) {
+            Capability capability = field.getAnnotation(Capability.class);
+            if (capability != null && hasPublicField(GLCapabilities.class, capability.name())) {
+                boolean value = GLCapabilities.class.getField(capability.name()).getBoolean(source);
+                assertEquals(value, field.getBoolean(target), capability.name());
+                provided++;
+                if (value) {
+                    supported++;
+                }
+            }
+        }
+        assertTrue(provided > 0, "No capabilities are provided by GLCapabilities");
+        assertTrue(supported > 0, "No capabilities are supported by the stub function provider");
+    }
+
+    @Test
+    public void bitsMatchCopiedFields() throws ReflectiveOperationException {
+        GLCapabilities source = createSource(new Random(0L), 0.5);
+        ContextCapabilities target = createTarget(source);
+        long[] bits = new long[(Extension.values().length + 63) >>> 6];
+        ContextCapabilitiesCopier.copy(source, bits);
+
+        for (Field field : ContextCapabilities.class.getFields()) {
+            Capability capability = field.getAnnotation(Capability.class);
+            if (capability != null) {
+                int ordinal = Extension.valueOf(capability.name()).ordinal();
+                assertEquals(field.getBoolean(target), (bits[ordinal >>> 6] & (1L << ordinal)) != 0L, capability.name());
+            }
+        }
+    }
+
+    private void assertMatchesReflectiveCopy(Random random, double probability) throws ReflectiveOperationException {
+        GLCapabilities source = createSource(random, probability);
+
+        ContextCapabilities reflected = createTarget(source);
+        clearCapabilities(reflected, false);
+        copyReflectively(source, reflected);
+
+        // Start from the opposite of every expected value, so that a capability the copier skips is caught
+        ContextCapabilities generated = createTarget(source);
+        for (Field field : ContextCapabilities.class.getFields()) {
+            if (field.isAnnotationPresent(Capability.class) && hasPublicField(GLCapabilities.class, field.getAnnotation(Capability.class).name())) {
+                field.setBoolean(generated, !field.getBoolean(reflected));
+            } else if (field.isAnnotationPresent(Capability.class)) {
+                field.setBoolean(generated, false);
+            }
+        }
+        ContextCapabilitiesCopier.copy(source, generated);
+
+        for (Field field : ContextCapabilities.class.getFields()) {
+            if (field.isAnnotationPresent(Capability.class)) {
+                assertEquals(field.getBoolean(reflected), field.getBoolean(generated), field.getName());
+            }
+        }
+    }
+
+    /**
+     * Constructs capabilities supporting each extension, and each core version, with the given probability.
+     */
+    private static GLCapabilities createSource(Random random, double probability) {
+        Set<String> extensions = new HashSet<>();
+        for (Field field : GLCapabilities.class.getFields()) {
+            if (field.getType() == boolean.class && !Modifier.isStatic(field.getModifiers()) && random.nextDouble() < probability) {
+                extensions.add(field.getName());
+            }
+        }
+        return new GLCapabilities(FUNCTION_PROVIDER, extensions, false, BufferUtils::createPointerBuffer);
+    }
+
+    /**
+     * Constructs context capabilities from the given capabilities, which the constructor reads from the current thread.
+     */
+    private static ContextCapabilities createTarget(GLCapabilities source) {
+        GL.setCapabilities(source);
+        return new ContextCapabilities();
+    }
+
+    private static void clearCapabilities(ContextCapabilities target, boolean value) throws IllegalAccessException {
+        for (Field field : ContextCapabilities.class.getFields()) {
+            if (field.isAnnotationPresent(Capability.class)) {
+                field.setBoolean(target, value);
+            }
+        }
+    }
+
+    /**
+     * The population previously done by the {@link ContextCapabilities} constructor.
+     */
+    private static void copyReflectively(GLCapabilities source, ContextCapabilities target) throws IllegalAccessException {
+        Map<String, Field> fields = new HashMap<>();
+        for (Field field : ContextCapabilities.class.getFields()) {
+            if (field.isAnnotationPresent(Capability.class)) {
+                fields.put(field.getAnnotation(Capability.class).name(), field);
+            }
+        }
+
+        for (Field field : GLCapabilities.class.getFields()) {
+            Field targetField = fields.get(field.getName());
+            if (targetField != null) {
+                targetField.setBoolean(target, field.getBoolean(source));
+            }
+        }
+    }
+
+    private static boolean hasPublicField(Class<?> type, String name) {
+        try {
+            type.getField(name);
+            return true;
+        } catch (NoSuchFieldException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package org.lwjgl.util.glu;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.util.glu.GLU.*;
+
+/**
+ * Tests that {@link QuadricMeshBuilder} builds exactly the geometry each quadric draws in immediate mode, by comparing every
+ * mesh against the immediate-mode stream recorded from the same draw. No OpenGL context is needed.
+ *
+ * @author darraghd493
+ * @since 1.0.3
+ */
+public class QuadricMeshTest {
+    private static final int[] DRAW_STYLES = {GLU_FILL, GLU_LINE, GLU_SILHOUETTE, GLU_POINT};
+    private static final int[] NORMALS = {GLU_SMOOTH, GLU_FLAT, GLU_NONE};
+    private static final int[] ORIENTATIONS = {GLU_OUTSIDE, GLU_INSIDE};
+
+    @Test
+    public void spheresMatchImmediateMode() {
+        Sphere sphere = new Sphere();
+        forEachSetting(sphere, () -> {
+            assertMatches(sphere, () -> sphere.draw(1.5f, 12, 8));
+            assertMatches(sphere, () -> sphere.draw(0.5f, 3, 2));
+        });
+    }
+
+    @Test
+    public void cylindersMatchImmediateMode() {
+        Cylinder cylinder = new Cylinder();
+        forEachSetting(cylinder, () -> {
+            assertMatches(cylinder, () -> cylinder.draw(1.0f, 0.5f, 2.0f, 16, 4));
+            assertMatches(cylinder, () -> cylinder.draw(1.0f, 0.0f, 1.0f, 5, 1)); // A cone
+        });
+    }
+
+    @Test
+    public void disksMatchImmediateMode() {
+        Disk disk = new Disk();
+        forEachSetting(disk, () -> {
+            assertMatches(disk, () -> disk.draw(0.0f, 1.0f, 10, 3));
+            assertMatches(disk, () -> disk.draw(0.25f, 1.0f, 10, 3));
+        });
+    }
+
+    @Test
+    public void partialDisksMatchImmediateMode() {
+        PartialDisk partialDisk = new PartialDisk();
+        forEachSetting(partialDisk, () -> {
+            assertMatches(partialDisk, () -> partialDisk.draw(0.0f, 1.0f, 10, 3, 30.0f, 120.0f));
+            assertMatches(partialDisk, () -> partialDisk.draw(0.25f, 1.0f, 10, 3, 0.0f, 360.0f));
+            assertMatches(partialDisk, () -> partialDisk.draw(0.25f, 1.0f, 8, 2, 90.0f, -270.0f));
+        });
+    }
+
+    @Test
+    public void meshesOnlyUseTheArraysTheQuadricSpecified() {
+        Disk disk = new Disk();
+        disk.setNormals(GLU_NONE);
+        QuadricMesh mesh = new QuadricMeshBuilder().build(disk, () -> disk.draw(0.0f, 1.0f, 8, 2));
+        assertFalse(mesh.hasNormals());
+        assertFalse(mesh.hasTexCoords());
+
+        disk.setNormals(GLU_SMOOTH);
+        disk.setTextureFlag(true);
+        mesh = new QuadricMeshBuilder().build(disk, () -> disk.draw(0.0f, 1.0f, 8, 2));
+        assertTrue(mesh.hasNormals());
+        assertTrue(mesh.hasTexCoords());
+    }
+
+    @Test
+    public void cachesMeshesBySettings() {
+        QuadricMeshBuilder builder = new QuadricMeshBuilder();
+        Disk disk = new Disk();
+
+        QuadricMesh fill = builder.disk(disk, 0.0f, 1.0f, 8, 2);
+        assertSame(fill, builder.disk(disk, 0.0f, 1.0f, 8, 2));
+        assertNotSame(fill, builder.disk(disk, 0.0f, 1.0f, 8, 3));
+
+        disk.setDrawStyle(GLU_LINE);
+        QuadricMesh line = builder.disk(disk, 0.0f, 1.0f, 8, 2);
+        assertNotSame(fill, line);
+        assertEquals(GL_LINES, line.getMode());
+        assertEquals(GL_TRIANGLES, fill.getMode());
+    }
+
+    @Test
+    public void recordingRestoresTheSink() {
+        Sphere sphere = new Sphere();
+        QuadricSink previous = sphere.sink;
+        assertThrows(IllegalStateException.class, () -> QuadricMeshBuilder.record(sphere, new ImmediateStream(), () -> {
+            throw new IllegalStateException();
+        }));
+        assertSame(previous, sphere.sink);
+    }
+
+    private static void forEachSetting(Quadric quadric, Runnable test) {
+        for (int drawStyle : DRAW_STYLES) {
+            for (int normals : NORMALS) {
+                for (int orientation : ORIENTATIONS) {
+                    for (boolean textureFlag : new boolean[]{false, true}) {
+                        quadric.setDrawStyle(drawStyle);
+                        quadric.setNormals(normals);
+                        quadric.setOrientation(orientation);
+                        quadric.setTextureFlag(textureFlag);
+                        test.run();
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertMatches(Quadric quadric, Runnable draw) {
+        String settings = "draw style " + quadric.getDrawStyle() + ", normals " + quadric.getNormals()
+                + ", orientation " + quadric.getOrientation() + ", texture " + quadric.getTextureFlag();
+
+        ImmediateStream stream = new ImmediateStream();
+        QuadricMeshBuilder.record(quadric, stream, draw);
+        QuadricMesh mesh = new QuadricMeshBuilder().build(quadric, draw);
+
+        assertEquals(stream.mode(), mesh.getMode(), settings);
+        assertEquals(stream.normals, mesh.hasNormals(), settings);
+        assertEquals(stream.texCoords, mesh.hasTexCoords(), settings);
+
+        FloatBuffer vertices = mesh.getVertices();
+        IntBuffer indices = mesh.getIndices();
+        assertEquals(stream.elements.size(), mesh.getIndexCount(), settings);
+        for (int i = 0; i < mesh.getIndexCount(); i++) {
+            int index = indices.get(i);
+            assertTrue(index >= 0 && index < mesh.getVertexCount(), settings);
+            float[] vertex = new float[QuadricMesh.VERTEX_SIZE];
+            vertices.get(index * QuadricMesh.VERTEX_SIZE, vertex);
+            assertArrayEquals(stream.elements.get(i), vertex, settings + ", element " + i);
+        }
+    }
+
+    /**
+     * Records the immediate-mode calls of a draw and expands every primitive into the vertices of the independent triangles,
+     * lines or points OpenGL would rasterise, each with the normal and texture coordinate current when it was emitted.
+     */
+    private static class ImmediateStream implements QuadricSink {
+        final List<float[]> elements = new ArrayList<>();
+        final List<Integer> modes = new ArrayList<>();
+        boolean normals, texCoords;
+
+        private final List<float[]> primitive = new ArrayList<>();
+        private final float[] normal = {0.0f, 0.0f, 1.0f}, texCoord = {0.0f, 0.0f}; // The initial current values
+        private int primitiveMode = -1;
+
+        @Override
+        public void begin(int mode) {
+            assertEquals(-1, this.primitiveMode, "nested begin");
+            this.primitiveMode = mode;
+            this.primitive.clear();
+        }
+
+        @Override
+        public void end() {
+            List<float[]> v = this.primitive;
+            int count = v.size();
+            switch (this.primitiveMode) {
+                case GL_TRIANGLE_FAN -> {
+                    this.modes.add(GL_TRIANGLES);
+                    for (int i = 1; i + 1 < count; i++) {
+                        this.polygon(v.get(0), v.get(i), v.get(i + 1));
+                    }
+                }
+                case GL_QUAD_STRIP -> {
+                    this.modes.add(GL_TRIANGLES);
+                    for (int i = 0; i + 3 < count; i += 2) {
+                        this.polygon(v.get(i), v.get(i + 1), v.get(i + 3), v.get(i + 2));
+                    }
+                }
+                case GL_LINES -> {
+                    this.modes.add(GL_LINES);
+                    for (int i = 0; i + 1 < count; i += 2) {
+                        this.elements.addAll(List.of(v.get(i), v.get(i + 1)));
+                    }
+                }
+                case GL_LINE_STRIP, GL_LINE_LOOP -> {
+                    this.modes.add(GL_LINES);
+                    for (int i = 0; i + 1 < count; i++) {
+                        this.elements.addAll(List.of(v.get(i), v.get(i + 1)));
+                    }
+                    if (this.primitiveMode == GL_LINE_LOOP && count > 1) {
+                        this.elements.addAll(List.of(v.get(count - 1), v.get(0)));
+                    }
+                }
+                case GL_POINTS -> {
+                    this.modes.add(GL_POINTS);
+                    this.elements.addAll(v);
+                }
+                default -> fail("Unexpected primitive mode 0x" + Integer.toHexString(this.primitiveMode) + ".");
+            }
+            this.primitiveMode = -1;
+        }
+
+        @Override
+        public void normal(float x, float y, float z) {
+            this.normal[0] = x;
+            this.normal[1] = y;
+            this.normal[2] = z;
+            this.normals = true;
+        }
+
+        @Override
+        public void texCoord(float s, float t) {
+            this.texCoord[0] = s;
+            this.texCoord[1] = t;
+            this.texCoords = true;
+        }
+
+        @Override
+        public void vertex(float x, float y, float z) {
+            assertNotEquals(-1, this.primitiveMode, "vertex outside begin/end");
+            this.primitive.add(new float[]{x, y, z, this.normal[0], this.normal[1], this.normal[2], this.texCoord[0], this.texCoord[1]});
+        }
+
+        int mode() {
+            assertFalse(this.modes.isEmpty(), "nothing was drawn");
+            assertTrue(this.modes.stream().allMatch(this.modes.get(0)::equals), "mixed primitive types " + this.modes);
+            return this.modes.get(0);
+        }
+
+        /**
+         * A convex polygon, split into triangles around its first vertex as OpenGL does.
+         */
+        private void polygon(float[]... vertices) {
+            for (int i = 1; i + 1 < vertices.length; i++) {
+                this.elements.addAll(Arrays.asList(vertices[0], vertices[i], vertices[i + 1]));
+            }
+        }
+    }
+}